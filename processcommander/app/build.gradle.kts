@@ -25,6 +25,17 @@ android {
             )
         }
     }
+    testOptions {
+        // Tests that need real RectF/PointF/Color behaviour run under Robolectric; the rest
+        // fail loudly if they reach an android.jar stub
+        unitTests.isIncludeAndroidResources = true
+        // Forward sweep sizes such as -Dcalibration.games=2000 to the test JVM
+        unitTests.all { test ->
+            System.getProperties().stringPropertyNames()
+                .filter { it.startsWith("calibration.") || it.startsWith("scheduler.eval.") }
+                .forEach { test.systemProperty(it, System.getProperty(it)) }
+        }
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
@@ -36,6 +47,7 @@ dependencies {
     implementation(libs.appcompat)
     implementation(libs.material)
     testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.example.processcommander;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+
+/**
+ * Draws straight to a Canvas through one Paint. Point it at the frame's canvas with
+ * {@link #setCanvas} before drawing.
+ */
+public class CanvasRenderer implements Renderer {
+    private final Paint paint = new Paint();
+    private final Path rectsPath = new Path(); // Reused for batched rects
+    private Canvas canvas;
+
+    public CanvasRenderer() {
+        paint.setAntiAlias(true);
+    }
+
+    public void setCanvas(Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    /**
+     * The paint holding the current state, for measuring text as it will be drawn
+     */
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setColor(int color) {
+        paint.setColor(color);
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        paint.setAlpha(alpha);
+    }
+
+    @Override
+    public void setStyle(int style) {
+        paint.setStyle(style == STROKE ? Paint.Style.STROKE : Paint.Style.FILL);
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        paint.setStrokeWidth(width);
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        paint.setTextSize(size);
+    }
+
+    @Override
+    public void setTextAlign(int align) {
+        paint.setTextAlign(align == ALIGN_CENTER ? Paint.Align.CENTER : Paint.Align.LEFT);
+    }
+
+    @Override
+    public void setBold(boolean bold) {
+        paint.setTypeface(bold ? Typeface.DEFAULT_BOLD : Typeface.DEFAULT);
+    }
+
+    @Override
+    public void drawColor(int color) {
+        canvas.drawColor(color);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom) {
+        canvas.drawRect(left, top, right, bottom, paint);
+    }
+
+    @Override
+    public void drawRect(RectF rect) {
+        canvas.drawRect(rect, paint);
+    }
+
+    @Override
+    public void drawRoundRect(RectF rect, float radius) {
+        canvas.drawRoundRect(rect, radius, radius, paint);
+    }
+
+    @Override
+    public void drawRects(float[] rects, int count) {
+        // One path, so the whole batch is a single draw call
+        rectsPath.rewind();
+        for (int i = 0; i < count; i++) {
+            int base = i * 4;
+            rectsPath.addRect(rects[base], rects[base + 1], rects[base + 2], rects[base + 3], Path.Direction.CW);
+        }
+        canvas.drawPath(rectsPath, paint);
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+        canvas.drawText(text, x, y, paint);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.processcommander;
 import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
@@ -12,10 +13,12 @@ import java.util.List;
 public class DatabaseHelper extends SQLiteOpenHelper {
     // Database info
     private static final String DATABASE_NAME = "processcommander.db";
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 4;
     
     // Table names
     private static final String TABLE_SCORES = "scores";
+    private static final String TABLE_TIMELINES = "timelines";
+    private static final String TABLE_METRICS = "session_metrics";
     
     // Common column names
     private static final String KEY_ID = "id";
@@ -26,6 +29,21 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     private static final String KEY_EMERGENCIES_HANDLED = "emergencies_handled";
     private static final String KEY_DATE = "date";
     
+    // TIMELINES table column names
+    private static final String KEY_SCORE_ID = "score_id";
+    private static final String KEY_SAMPLE_INTERVAL_MS = "sample_interval_ms";
+    private static final String KEY_SAMPLE_COUNT = "sample_count";
+    private static final String KEY_DATA = "data";
+    
+    // SESSION_METRICS table column names (plus score_id)
+    private static final String KEY_NAME = "name";
+    private static final String KEY_COUNT = "count";
+    private static final String KEY_MEAN = "mean";
+    private static final String KEY_STD_DEV = "std_dev";
+    private static final String KEY_P50 = "p50";
+    private static final String KEY_P95 = "p95";
+    private static final String KEY_MAX = "max";
+    
     // Table create statements
     private static final String CREATE_TABLE_SCORES = "CREATE TABLE " + TABLE_SCORES + "("
             + KEY_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"
@@ -35,6 +53,30 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             + KEY_DATE + " DATETIME DEFAULT CURRENT_TIMESTAMP"
             + ")";
     
+    // Covers the (score, id) keyset used by getScoresPage so each page is an index range scan
+    private static final String CREATE_INDEX_SCORES = "CREATE INDEX IF NOT EXISTS idx_scores_score_id ON "
+            + TABLE_SCORES + "(" + KEY_SCORE + " DESC, " + KEY_ID + " DESC)";
+    
+    private static final String CREATE_TABLE_TIMELINES = "CREATE TABLE " + TABLE_TIMELINES + "("
+            + KEY_SCORE_ID + " INTEGER PRIMARY KEY REFERENCES " + TABLE_SCORES + "(" + KEY_ID + ") ON DELETE CASCADE,"
+            + KEY_SAMPLE_INTERVAL_MS + " INTEGER,"
+            + KEY_SAMPLE_COUNT + " INTEGER,"
+            + KEY_DATA + " BLOB"
+            + ")";
+    
+    // One row per metric summary of a game
+    private static final String CREATE_TABLE_METRICS = "CREATE TABLE " + TABLE_METRICS + "("
+            + KEY_SCORE_ID + " INTEGER REFERENCES " + TABLE_SCORES + "(" + KEY_ID + ") ON DELETE CASCADE,"
+            + KEY_NAME + " TEXT,"
+            + KEY_COUNT + " INTEGER,"
+            + KEY_MEAN + " REAL,"
+            + KEY_STD_DEV + " REAL,"
+            + KEY_P50 + " REAL,"
+            + KEY_P95 + " REAL,"
+            + KEY_MAX + " REAL,"
+            + "PRIMARY KEY (" + KEY_SCORE_ID + ", " + KEY_NAME + ")"
+            + ")";
+    
     public DatabaseHelper(Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
     }
@@ -43,15 +85,28 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public void onCreate(SQLiteDatabase db) {
         // Create tables
         db.execSQL(CREATE_TABLE_SCORES);
+        db.execSQL(CREATE_INDEX_SCORES);
+        db.execSQL(CREATE_TABLE_TIMELINES);
+        db.execSQL(CREATE_TABLE_METRICS);
+    }
+    
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        db.setForeignKeyConstraintsEnabled(true);
     }
     
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        // Drop older tables if existed
-        db.execSQL("DROP TABLE IF EXISTS " + TABLE_SCORES);
-        
-        // Create tables again
-        onCreate(db);
+        // Migrate step by step so existing scores are kept
+        if (oldVersion < 2) {
+            db.execSQL(CREATE_INDEX_SCORES);
+        }
+        if (oldVersion < 3) {
+            db.execSQL(CREATE_TABLE_TIMELINES);
+        }
+        if (oldVersion < 4) {
+            db.execSQL(CREATE_TABLE_METRICS);
+        }
     }
     
     // Score table methods
@@ -73,6 +128,87 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return id;
     }
     
+    /**
+     * Save the encoded timeline of a game, linked to its score row
+     */
+    public long saveTimeline(long scoreId, int sampleCount, byte[] data) {
+        SQLiteDatabase db = this.getWritableDatabase();
+        
+        ContentValues values = new ContentValues();
+        values.put(KEY_SCORE_ID, scoreId);
+        values.put(KEY_SAMPLE_INTERVAL_MS, TimelineRecorder.SAMPLE_INTERVAL_MS);
+        values.put(KEY_SAMPLE_COUNT, sampleCount);
+        values.put(KEY_DATA, data);
+        
+        return db.insert(TABLE_TIMELINES, null, values);
+    }
+    
+    /**
+     * Get the encoded timeline for a score, or null if none was recorded.
+     * Decode with TimelineCodec.decode.
+     */
+    public byte[] getTimeline(long scoreId) {
+        SQLiteDatabase db = this.getReadableDatabase();
+        Cursor cursor = db.query(TABLE_TIMELINES, new String[] { KEY_DATA },
+                KEY_SCORE_ID + " = ?", new String[] { String.valueOf(scoreId) }, null, null, null);
+        
+        byte[] data = null;
+        if (cursor.moveToFirst()) {
+            data = cursor.getBlob(0);
+        }
+        
+        cursor.close();
+        
+        return data;
+    }
+    
+    /**
+     * Save the session metric summaries of a game, linked to its score row
+     */
+    public void saveMetrics(long scoreId, List<SessionMetrics.Summary> summaries) {
+        SQLiteDatabase db = this.getWritableDatabase();
+        
+        db.beginTransaction();
+        try {
+            ContentValues values = new ContentValues();
+            for (SessionMetrics.Summary summary : summaries) {
+                values.clear();
+                values.put(KEY_SCORE_ID, scoreId);
+                values.put(KEY_NAME, summary.name);
+                values.put(KEY_COUNT, summary.count);
+                values.put(KEY_MEAN, summary.mean);
+                values.put(KEY_STD_DEV, summary.stdDev);
+                values.put(KEY_P50, summary.p50);
+                values.put(KEY_P95, summary.p95);
+                values.put(KEY_MAX, summary.max);
+                db.insert(TABLE_METRICS, null, values);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+    
+    /**
+     * Get the session metric summaries saved with a score, empty if none were recorded
+     */
+    public List<SessionMetrics.Summary> getMetrics(long scoreId) {
+        List<SessionMetrics.Summary> summaries = new ArrayList<>();
+        SQLiteDatabase db = this.getReadableDatabase();
+        Cursor cursor = db.query(TABLE_METRICS,
+                new String[] { KEY_NAME, KEY_COUNT, KEY_MEAN, KEY_STD_DEV, KEY_P50, KEY_P95, KEY_MAX },
+                KEY_SCORE_ID + " = ?", new String[] { String.valueOf(scoreId) }, null, null, null);
+        
+        while (cursor.moveToNext()) {
+            summaries.add(new SessionMetrics.Summary(cursor.getString(0), cursor.getLong(1), cursor.getDouble(2),
+                    cursor.getDouble(3), cursor.getDouble(4), cursor.getDouble(5), cursor.getDouble(6)));
+        }
+        
+        cursor.close();
+        
+        return summaries;
+    }
+    
     /**
      * Get all scores ordered by highest score first
      */
@@ -131,11 +267,65 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return scores;
     }
     
+    /**
+     * Get one page of scores ordered by highest score first.
+     * Pass afterId = -1 for the first page, otherwise the score and id of the
+     * last row of the previous page (keyset paging, no OFFSET scan).
+     */
+    public List<Score> getScoresPage(int afterScore, int afterId, int limit) {
+        List<Score> scores = new ArrayList<>(limit);
+        String selectQuery;
+        String[] args;
+        if (afterId < 0) {
+            selectQuery = "SELECT * FROM " + TABLE_SCORES
+                    + " ORDER BY " + KEY_SCORE + " DESC, " + KEY_ID + " DESC LIMIT ?";
+            args = new String[] { String.valueOf(limit) };
+        } else {
+            selectQuery = "SELECT * FROM " + TABLE_SCORES
+                    + " WHERE (" + KEY_SCORE + ", " + KEY_ID + ") < (?, ?)"
+                    + " ORDER BY " + KEY_SCORE + " DESC, " + KEY_ID + " DESC LIMIT ?";
+            args = new String[] { String.valueOf(afterScore), String.valueOf(afterId), String.valueOf(limit) };
+        }
+        
+        SQLiteDatabase db = this.getReadableDatabase();
+        Cursor cursor = db.rawQuery(selectQuery, args);
+        
+        int idIndex = cursor.getColumnIndex(KEY_ID);
+        int scoreIndex = cursor.getColumnIndex(KEY_SCORE);
+        int completedIndex = cursor.getColumnIndex(KEY_PROCESSES_COMPLETED);
+        int emergenciesIndex = cursor.getColumnIndex(KEY_EMERGENCIES_HANDLED);
+        int dateIndex = cursor.getColumnIndex(KEY_DATE);
+        while (cursor.moveToNext()) {
+            Score score = new Score();
+            score.setId(cursor.getInt(idIndex));
+            score.setScore(cursor.getInt(scoreIndex));
+            score.setProcessesCompleted(cursor.getInt(completedIndex));
+            score.setEmergenciesHandled(cursor.getInt(emergenciesIndex));
+            score.setDate(cursor.getString(dateIndex));
+            
+            scores.add(score);
+        }
+        
+        cursor.close();
+        
+        return scores;
+    }
+    
+    /**
+     * Get the number of saved scores
+     */
+    public int getScoreCount() {
+        SQLiteDatabase db = this.getReadableDatabase();
+        return (int) DatabaseUtils.queryNumEntries(db, TABLE_SCORES);
+    }
+    
     /**
      * Delete all scores
      */
     public void deleteAllScores() {
         SQLiteDatabase db = this.getWritableDatabase();
+        db.delete(TABLE_TIMELINES, null, null);
+        db.delete(TABLE_METRICS, null, null);
         db.delete(TABLE_SCORES, null, null);
     }
     
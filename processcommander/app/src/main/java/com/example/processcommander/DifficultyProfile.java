@@ -0,0 +1,146 @@
+package com.example.processcommander;
+
+import java.util.Properties;
+
+/**
+ * Immutable set of tuning values for one difficulty level. Profiles are parsed once from
+ * the bundled difficulty_profiles asset (see {@link DifficultyProfiles}) and the time-based
+ * progression is precomputed into lookup tables, so the game loop only does field reads.
+ */
+public final class DifficultyProfile {
+    // Saved difficulty levels
+    public static final int LEVEL_EASY = 0;
+    public static final int LEVEL_MEDIUM = 1;
+    public static final int LEVEL_HARD = 2;
+
+    private static final int MAX_TABLE_SECONDS = 60 * 60; // Progression is capped after an hour at the latest
+
+    public final int level;
+    public final String name;
+
+    // Arrival rate and load
+    public final long processGenIntervalMs;
+    public final float cpuUsageMultiplier;
+    public final float memoryUsageMultiplier;
+    public final int maxProcesses;
+    public final int maxRunningProcesses;
+
+    // Queue capacities; queues too big for their area scroll
+    public final int readyQueueSize;
+    public final int blockedQueueSize;
+
+    // CPU model
+    public final int cores;
+    public final long coreTimeSliceMs;
+
+    // Emergency window
+    public final long emergencyIntervalMinMs;
+    public final long emergencyIntervalMaxMs;
+    public final int emergencyTimeoutSeconds;
+    public final int criticalPriority;
+    public final int criticalBurstMinSeconds;
+    public final int criticalBurstSpreadSeconds;
+    public final int criticalMemoryMin;
+    public final int criticalMemorySpread;
+
+    // Overload handling
+    public final boolean autoTerminateOnOverload;
+    public final boolean skipEmergencyWhenStrained;
+
+    // Progression curve, indexed by whole seconds of game time
+    private final float[] multiplierBySecond;
+    private final int[] maxRunningByMinute;
+
+    DifficultyProfile(int level, String name, Properties props) {
+        this.level = level;
+        this.name = name;
+        String prefix = name + ".";
+
+        processGenIntervalMs = readLong(props, prefix + "processGenIntervalMs", 5000);
+        cpuUsageMultiplier = readFloat(props, prefix + "cpuUsageMultiplier", 1.0f);
+        memoryUsageMultiplier = readFloat(props, prefix + "memoryUsageMultiplier", 1.0f);
+        maxProcesses = readInt(props, prefix + "maxProcesses", 15);
+        maxRunningProcesses = readInt(props, prefix + "maxRunningProcesses", 4);
+        readyQueueSize = Math.max(1, readInt(props, prefix + "readyQueueSize", readInt(props, "readyQueueSize", 5)));
+        blockedQueueSize = Math.max(1, readInt(props, prefix + "blockedQueueSize", readInt(props, "blockedQueueSize", 4)));
+
+        cores = Math.max(MultiCoreCpu.MIN_CORES, Math.min(MultiCoreCpu.MAX_CORES,
+                readInt(props, prefix + "cores", readInt(props, "cores", 1))));
+        coreTimeSliceMs = readLong(props, prefix + "coreTimeSliceMs", readLong(props, "coreTimeSliceMs", 200));
+
+        emergencyIntervalMinMs = readLong(props, prefix + "emergencyIntervalMinMs", 15000);
+        emergencyIntervalMaxMs = Math.max(emergencyIntervalMinMs + 1,
+                readLong(props, prefix + "emergencyIntervalMaxMs", 45000));
+        emergencyTimeoutSeconds = readInt(props, prefix + "emergencyTimeoutSeconds", 15);
+        criticalPriority = readInt(props, prefix + "criticalPriority", 9);
+        criticalBurstMinSeconds = readInt(props, prefix + "criticalBurstMinSeconds", 2);
+        criticalBurstSpreadSeconds = Math.max(1, readInt(props, prefix + "criticalBurstSpreadSeconds", 4));
+        criticalMemoryMin = readInt(props, prefix + "criticalMemoryMin", 50);
+        criticalMemorySpread = Math.max(1, readInt(props, prefix + "criticalMemorySpread", 100));
+
+        autoTerminateOnOverload = Boolean.parseBoolean(props.getProperty(prefix + "autoTerminateOnOverload", "false"));
+        skipEmergencyWhenStrained = Boolean.parseBoolean(props.getProperty(prefix + "skipEmergencyWhenStrained", "false"));
+
+        // Multiplier grows linearly per minute until it reaches the cap, then stays there
+        float ratePerMinute = readFloat(props, prefix + "progressionRatePerMinute", 0f);
+        float cap = readFloat(props, prefix + "progressionCap", 1.0f);
+        int secondsToCap = ratePerMinute > 0
+                ? Math.min(MAX_TABLE_SECONDS, (int) Math.ceil((cap - 1.0f) / ratePerMinute * 60))
+                : 0;
+        multiplierBySecond = new float[secondsToCap + 1];
+        for (int second = 0; second <= secondsToCap; second++) {
+            multiplierBySecond[second] = Math.min(cap, 1.0f + (second / 60f) * ratePerMinute);
+        }
+
+        // After the start minute, lose one running slot every step until the minimum
+        int reductionStart = readInt(props, prefix + "runningReductionStartMinutes", -1);
+        int reductionStep = Math.max(1, readInt(props, prefix + "runningReductionStepMinutes", 5));
+        int minRunning = readInt(props, prefix + "minRunningProcesses", maxRunningProcesses);
+        if (reductionStart < 0 || minRunning >= maxRunningProcesses) {
+            maxRunningByMinute = new int[] { maxRunningProcesses };
+        } else {
+            int minutesToMin = reductionStart + (maxRunningProcesses - minRunning + 1) * reductionStep;
+            maxRunningByMinute = new int[minutesToMin + 1];
+            for (int minute = 0; minute <= minutesToMin; minute++) {
+                int reduction = minute > reductionStart ? (minute - reductionStart) / reductionStep : 0;
+                maxRunningByMinute[minute] = Math.max(minRunning, maxRunningProcesses - reduction);
+            }
+        }
+    }
+
+    /**
+     * Difficulty multiplier after the given number of seconds of play
+     */
+    public float difficultyMultiplierAt(int elapsedSeconds) {
+        return multiplierBySecond[Math.min(elapsedSeconds, multiplierBySecond.length - 1)];
+    }
+
+    /**
+     * Running process limit after the given number of seconds of play
+     */
+    public int maxRunningProcessesAt(int elapsedSeconds) {
+        return maxRunningByMinute[Math.min(elapsedSeconds / 60, maxRunningByMinute.length - 1)];
+    }
+
+    /**
+     * Seconds of play after which neither the multiplier nor the running limit changes again
+     */
+    public int progressionEndSeconds() {
+        return Math.max(multiplierBySecond.length - 1, (maxRunningByMinute.length - 1) * 60);
+    }
+
+    private static int readInt(Properties props, String key, int fallback) {
+        String value = props.getProperty(key);
+        return value != null ? Integer.parseInt(value.trim()) : fallback;
+    }
+
+    private static long readLong(Properties props, String key, long fallback) {
+        String value = props.getProperty(key);
+        return value != null ? Long.parseLong(value.trim()) : fallback;
+    }
+
+    private static float readFloat(Properties props, String key, float fallback) {
+        String value = props.getProperty(key);
+        return value != null ? Float.parseFloat(value.trim()) : fallback;
+    }
+}
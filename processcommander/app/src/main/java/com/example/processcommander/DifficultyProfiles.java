@@ -0,0 +1,82 @@
+package com.example.processcommander;
+
+import android.content.Context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Process-wide cache of the difficulty profiles bundled in assets/difficulty_profiles.properties.
+ * Call {@link #preload} early (MainActivity does) so starting a game never touches disk.
+ */
+public final class DifficultyProfiles {
+    // Shared preferences holding the player's chosen level
+    public static final String PREFS_NAME = "ProcessCommanderPrefs";
+    public static final String PREF_DIFFICULTY = "difficulty";
+
+    private static final String ASSET_NAME = "difficulty_profiles.properties";
+
+    private static volatile DifficultyProfile[] profiles;
+
+    private DifficultyProfiles() {
+    }
+
+    /**
+     * Parse the profiles on a background thread if they are not cached yet
+     */
+    public static void preload(Context context) {
+        if (profiles != null) {
+            return;
+        }
+        final Context appContext = context.getApplicationContext();
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                ensureLoaded(appContext);
+            }
+        }, "DifficultyProfilesLoader").start();
+    }
+
+    /**
+     * Get the profile for a saved difficulty level. Falls back to medium for unknown levels.
+     */
+    public static DifficultyProfile get(Context context, int level) {
+        DifficultyProfile[] loaded = ensureLoaded(context);
+        if (level < 0 || level >= loaded.length) {
+            level = DifficultyProfile.LEVEL_MEDIUM;
+        }
+        return loaded[level];
+    }
+
+    /**
+     * Parse profiles from a properties stream. Used directly by headless tools and tests.
+     */
+    public static DifficultyProfile[] load(InputStream in) throws IOException {
+        Properties props = new Properties();
+        props.load(in);
+        String[] names = props.getProperty("profiles", "easy,medium,hard").split(",");
+        DifficultyProfile[] result = new DifficultyProfile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = new DifficultyProfile(i, names[i].trim(), props);
+        }
+        return result;
+    }
+
+    private static DifficultyProfile[] ensureLoaded(Context context) {
+        DifficultyProfile[] loaded = profiles;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (DifficultyProfiles.class) {
+            if (profiles == null) {
+                try (InputStream in = context.getAssets().open(ASSET_NAME)) {
+                    profiles = load(in);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Missing bundled asset " + ASSET_NAME, e);
+                }
+            }
+            return profiles;
+        }
+    }
+}
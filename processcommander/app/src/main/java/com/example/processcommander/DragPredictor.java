@@ -0,0 +1,100 @@
+package com.example.processcommander;
+
+/**
+ * Resamples a drag path to frame time. Given the recent timestamped touch samples it
+ * interpolates between the two that bracket the requested time, or, for a time past the
+ * newest sample, extrapolates along the recent velocity for a short, capped horizon. Asking
+ * for a point slightly in the future hides the frame or so between posting a canvas and it
+ * reaching the screen.
+ */
+public class DragPredictor {
+    static final int HISTORY = 8;
+    static final long VELOCITY_WINDOW_MS = 40;    // Samples this recent set the velocity
+    static final long MAX_EXTRAPOLATION_MS = 24;  // Never guess further ahead than this
+
+    private final float[] xs = new float[HISTORY];
+    private final float[] ys = new float[HISTORY];
+    private final long[] times = new long[HISTORY];
+    private int count = 0;
+    private int newest = -1;
+
+    public void reset() {
+        count = 0;
+        newest = -1;
+    }
+
+    public void add(float x, float y, long timeMs) {
+        if (count > 0 && timeMs < times[newest]) {
+            return; // Out of order
+        }
+        newest = (newest + 1) % HISTORY;
+        xs[newest] = x;
+        ys[newest] = y;
+        times[newest] = timeMs;
+        if (count < HISTORY) {
+            count++;
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Writes the estimated position at timeMs into out[0], out[1]; false without samples
+     */
+    public boolean positionAt(long timeMs, float[] out) {
+        if (count == 0) {
+            return false;
+        }
+        if (timeMs >= times[newest] || count == 1) {
+            extrapolate(timeMs, out);
+            return true;
+        }
+        // Walk back to the pair of samples around timeMs
+        for (int k = 1; k < count; k++) {
+            int later = index(k - 1);
+            int earlier = index(k);
+            if (times[earlier] <= timeMs) {
+                long span = times[later] - times[earlier];
+                float f = span == 0 ? 1f : (float) (timeMs - times[earlier]) / span;
+                out[0] = xs[earlier] + (xs[later] - xs[earlier]) * f;
+                out[1] = ys[earlier] + (ys[later] - ys[earlier]) * f;
+                return true;
+            }
+        }
+        int oldest = index(count - 1);
+        out[0] = xs[oldest];
+        out[1] = ys[oldest];
+        return true;
+    }
+
+    private void extrapolate(long timeMs, float[] out) {
+        out[0] = xs[newest];
+        out[1] = ys[newest];
+        long ahead = Math.min(timeMs - times[newest], MAX_EXTRAPOLATION_MS);
+        if (ahead <= 0 || count == 1) {
+            return;
+        }
+        // Velocity from the oldest sample still inside the window to the newest one
+        int from = newest;
+        for (int k = 1; k < count; k++) {
+            int candidate = index(k);
+            if (times[newest] - times[candidate] > VELOCITY_WINDOW_MS) {
+                break;
+            }
+            from = candidate;
+        }
+        long span = times[newest] - times[from];
+        if (span <= 0) {
+            return; // Finger at rest, or one sample in the window
+        }
+        out[0] += (xs[newest] - xs[from]) / span * ahead;
+        out[1] += (ys[newest] - ys[from]) / span * ahead;
+    }
+
+    // k-th newest sample, 0 being the newest
+    private int index(int k) {
+        return (newest - k + HISTORY) % HISTORY;
+    }
+}
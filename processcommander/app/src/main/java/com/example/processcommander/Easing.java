@@ -0,0 +1,36 @@
+package com.example.processcommander;
+
+/**
+ * Easing curves for {@link TweenEngine}: map elapsed fraction 0..1 to progress 0..1.
+ * Curves are functions of time only, so an animation looks the same at any frame rate.
+ */
+public interface Easing {
+    float apply(float t);
+
+    Easing LINEAR = new Easing() {
+        @Override
+        public float apply(float t) {
+            return t;
+        }
+    };
+
+    // Fast start, gentle landing: cards settling into a slot
+    Easing EASE_OUT_CUBIC = new Easing() {
+        @Override
+        public float apply(float t) {
+            float u = 1 - t;
+            return 1 - u * u * u;
+        }
+    };
+
+    Easing EASE_IN_OUT_CUBIC = new Easing() {
+        @Override
+        public float apply(float t) {
+            if (t < 0.5f) {
+                return 4 * t * t * t;
+            }
+            float u = -2 * t + 2;
+            return 1 - u * u * u / 2;
+        }
+    };
+}
@@ -0,0 +1,95 @@
+package com.example.processcommander;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer, single-consumer ring of engine events. The simulation thread
+ * publishes; one consumer (haptics, later sound) drains. Slots are preallocated parallel
+ * arrays, so publishing never allocates, and a full ring drops the event rather than block
+ * the simulation.
+ */
+public class EngineEventBus {
+    public static final int STARVATION = 0;
+    public static final int PENALTY = 1;
+    public static final int EMERGENCY = 2;
+    public static final int EMERGENCY_ESCALATED = 3;
+    public static final int UNBLOCK = 4;
+    public static final int COMPLETION = 5;
+
+    /**
+     * Receives drained events on the consumer thread
+     */
+    public interface Listener {
+        void onEvent(int type, int value, long timeMs);
+    }
+
+    private final int mask;
+    private final int[] types;
+    private final int[] values;
+    private final long[] times;
+
+    private final AtomicLong head = new AtomicLong(); // Next slot to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write, written by the producer
+    private long cachedHead; // Producer's last look at head, saves a volatile read per publish
+    private volatile long dropped;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public EngineEventBus(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.types = new int[size];
+        this.values = new int[size];
+        this.times = new long[size];
+    }
+
+    /**
+     * Producer side; call only from the simulation thread. Returns false if the ring was full.
+     */
+    public boolean publish(int type, int value, long timeMs) {
+        long t = tail.get();
+        if (t - cachedHead > mask) {
+            cachedHead = head.get();
+            if (t - cachedHead > mask) {
+                dropped++; // Single writer, so no lost updates
+                return false;
+            }
+        }
+        int slot = (int) (t & mask);
+        types[slot] = type;
+        values[slot] = value;
+        times[slot] = timeMs;
+        tail.lazySet(t + 1); // Release: the slot contents are visible before the new tail
+        return true;
+    }
+
+    /**
+     * Consumer side; hands every published event to the listener in order and returns how many
+     */
+    public int drain(Listener listener) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) (i & mask);
+            listener.onEvent(types[slot], values[slot], times[slot]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Total events ever published, so a watcher can tell something happened without draining
+     */
+    public long getPublishedCount() {
+        return tail.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
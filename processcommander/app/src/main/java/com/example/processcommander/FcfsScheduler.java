@@ -0,0 +1,44 @@
+package com.example.processcommander;
+
+import java.util.ArrayDeque;
+
+/**
+ * First-come first-served: dispatch in the order processes became ready, run to completion
+ */
+public class FcfsScheduler implements Scheduler {
+    private final ArrayDeque<Process> ready = new ArrayDeque<>();
+
+    @Override
+    public String getName() {
+        return "FCFS";
+    }
+
+    @Override
+    public void onReady(Process process, long nowMs) {
+        ready.addLast(process);
+    }
+
+    @Override
+    public void onRemoved(Process process) {
+        ready.remove(process);
+    }
+
+    @Override
+    public Process selectNext(long nowMs) {
+        return ready.pollFirst();
+    }
+
+    @Override
+    public long getQuantumMs(Process process) {
+        return NO_QUANTUM;
+    }
+
+    @Override
+    public void onQuantumExpired(Process process) {
+    }
+
+    @Override
+    public void reset() {
+        ready.clear();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.processcommander;
+
+/**
+ * Physical memory as fixed-size frames tracked in a bitset, one bit per frame.
+ * Allocation is next-fit: it resumes at the word where the last free frame was found and
+ * takes the lowest clear bit there, so a run of allocations costs one word test each and
+ * only a full memory scans every word. Freeing clears one bit.
+ *
+ * When memory is full, allocation swaps out a page of a waiting process using CLOCK
+ * (second chance) over two more bitsets: which frames may be evicted and which were
+ * referenced since the hand last passed. The hand moves a word at a time, so words
+ * with nothing evictable cost one test and each eviction is O(1) amortised.
+ */
+public class FrameAllocator {
+    static final int FRAME_SIZE_MB = 4;
+
+    private final int frameCount;
+    private final long[] words;
+    private final long[] evictable;
+    private final long[] referenced;
+    private final PageTable[] owners;
+    private final int[] slots; // Where each frame sits in its owner's table
+    private int usedFrames = 0;
+    private int cursor = 0; // Word where the next search starts
+    private int clockHand = 0; // Word the CLOCK hand is on
+    private long evictions = 0;
+
+    public FrameAllocator(int totalMemoryMb) {
+        this.frameCount = totalMemoryMb / FRAME_SIZE_MB;
+        this.words = new long[(frameCount + 63) / 64];
+        this.evictable = new long[words.length];
+        this.referenced = new long[words.length];
+        this.owners = new PageTable[frameCount];
+        this.slots = new int[frameCount];
+        // Bits past the last frame are permanently taken so the scan never hands them out
+        int tail = frameCount % 64;
+        if (tail != 0) {
+            words[words.length - 1] = -1L << tail;
+        }
+    }
+
+    /**
+     * Claim a free frame for the given slot of a page table, swapping out another
+     * process's page if memory is full. Returns -1 when nothing can be evicted.
+     */
+    public synchronized int allocate(PageTable owner, int slot) {
+        if (usedFrames == frameCount && !evictOne(owner)) {
+            return -1;
+        }
+        for (int i = 0; i < words.length; i++) {
+            int w = cursor + i < words.length ? cursor + i : cursor + i - words.length;
+            long free = ~words[w];
+            if (free != 0) {
+                int bit = Long.numberOfTrailingZeros(free);
+                words[w] |= 1L << bit;
+                referenced[w] |= 1L << bit; // Just loaded, so recently used
+                usedFrames++;
+                cursor = w;
+                int frame = w * 64 + bit;
+                owners[frame] = owner;
+                slots[frame] = slot;
+                return frame;
+            }
+        }
+        return -1;
+    }
+
+    public synchronized void free(int frame) {
+        int w = frame >>> 6;
+        long mask = 1L << (frame & 63);
+        if ((words[w] & mask) != 0) {
+            words[w] &= ~mask;
+            evictable[w] &= ~mask;
+            referenced[w] &= ~mask;
+            owners[frame] = null;
+            usedFrames--;
+        }
+    }
+
+    public synchronized boolean isAllocated(int frame) {
+        return (words[frame >>> 6] & (1L << (frame & 63))) != 0;
+    }
+
+    synchronized void setSlot(int frame, int slot) {
+        slots[frame] = slot;
+    }
+
+    /**
+     * Whether CLOCK may swap this frame out; only waiting processes' pages are evictable
+     */
+    public synchronized void setEvictable(int frame, boolean canEvict) {
+        long mask = 1L << (frame & 63);
+        if (canEvict) {
+            evictable[frame >>> 6] |= mask;
+            referenced[frame >>> 6] |= mask; // It was just in use; give it a second chance
+        } else {
+            evictable[frame >>> 6] &= ~mask;
+        }
+    }
+
+    // CLOCK: an evictable frame whose reference bit is clear is the victim; referenced
+    // frames under the hand lose their bit and are passed over. Two sweeps clear every
+    // bit, so if nothing turns up by then nothing is evictable.
+    private boolean evictOne(PageTable requester) {
+        for (int i = 0; i <= 2 * words.length; i++) {
+            int w = clockHand;
+            long candidates = evictable[w];
+            if (candidates != 0) {
+                long victims = candidates & ~referenced[w];
+                while (victims != 0) {
+                    int frame = w * 64 + Long.numberOfTrailingZeros(victims);
+                    if (owners[frame] != requester) {
+                        owners[frame].swapOut(slots[frame], this);
+                        free(frame);
+                        evictions++;
+                        cursor = w;
+                        return true;
+                    }
+                    victims &= victims - 1;
+                }
+                referenced[w] &= ~candidates; // Second chance
+            }
+            clockHand = clockHand + 1 < words.length ? clockHand + 1 : 0;
+        }
+        return false;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized int getUsedFrames() {
+        return usedFrames;
+    }
+
+    public synchronized int getFreeFrames() {
+        return frameCount - usedFrames;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Longest run of contiguous free frames. Whole free or whole used words are skipped in one step.
+     */
+    public synchronized int largestFreeRun() {
+        int best = 0;
+        int run = 0;
+        for (long word : words) {
+            if (word == 0) {
+                run += 64;
+            } else if (word == -1L) {
+                best = Math.max(best, run);
+                run = 0;
+            } else {
+                for (int bit = 0; bit < 64; bit++) {
+                    if ((word & (1L << bit)) == 0) {
+                        run++;
+                    } else {
+                        best = Math.max(best, run);
+                        run = 0;
+                    }
+                }
+            }
+        }
+        return Math.max(best, run);
+    }
+
+    /**
+     * External fragmentation: share of free memory that is not in the largest free run.
+     * 0 when free memory is one block (or there is none), approaching 1 when it is scattered.
+     */
+    public synchronized float fragmentation() {
+        int free = frameCount - usedFrames;
+        return free == 0 ? 0 : 1 - (float) largestFreeRun() / free;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.processcommander;
+
+/**
+ * Paces the render thread by what is on screen. Full rate while something moves or right
+ * after input or an engine event, a low rate while only slow animations (blinks, pulses,
+ * countdowns) change, and parked when the picture is static. wake() from any thread ends
+ * the current wait at once, so input latency is the same at every rate.
+ */
+public class FrameGovernor {
+    public enum Scene {
+        MOVING,   // Drags, lerps: needs every frame
+        AMBIENT,  // Blinks, pulses, live counters: a few frames a second look the same
+        STILL     // Nothing changes until something wakes us
+    }
+
+    static final long ACTIVE_FRAME_MS = 16;   // ~60 fps
+    static final long AMBIENT_FRAME_MS = 100; // ~10 fps, and the engine's largest time step
+    static final long PARKED = -1;
+    static final long WAKE_HOLD_MS = 500;     // Full rate this long after a wake
+
+    private final Object lock = new Object();
+    private boolean wakeRequested = false; // Guarded by lock
+    private long activeUntilMs = 0;        // Render thread only
+
+    /**
+     * Request full-rate frames now, e.g. on touch; safe from any thread
+     */
+    public void wake() {
+        synchronized (lock) {
+            wakeRequested = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Frame interval for a scene at the given time, or PARKED
+     */
+    long intervalFor(Scene scene, long nowMs) {
+        if (scene == Scene.MOVING || nowMs < activeUntilMs) {
+            return ACTIVE_FRAME_MS;
+        }
+        return scene == Scene.AMBIENT ? AMBIENT_FRAME_MS : PARKED;
+    }
+
+    /**
+     * Block the render thread until the next frame of this scene is due, or until wake()
+     *
+     * @param frameStartMs when the frame that just finished started
+     */
+    public void awaitNextFrame(Scene scene, long frameStartMs) throws InterruptedException {
+        synchronized (lock) {
+            while (true) {
+                long now = System.currentTimeMillis();
+                consumeWake(now);
+                long interval = intervalFor(scene, now);
+                if (interval == PARKED) {
+                    lock.wait();
+                    continue;
+                }
+                // A wake while waiting at a low rate shortens the wait to the full-rate deadline
+                long remaining = frameStartMs + interval - now;
+                if (remaining <= 0) {
+                    return;
+                }
+                lock.wait(remaining);
+            }
+        }
+    }
+
+    // Caller holds lock
+    private void consumeWake(long nowMs) {
+        if (wakeRequested) {
+            wakeRequested = false;
+            activeUntilMs = nowMs + WAKE_HOLD_MS;
+        }
+    }
+}
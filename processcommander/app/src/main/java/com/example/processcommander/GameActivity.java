@@ -9,14 +9,25 @@ import android.view.WindowManager;
 import android.widget.Toast;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
 
 public class GameActivity extends AppCompatActivity {
     private GameView gameView;
+    private GameSession session; // Outlives this activity across rotations
     private DatabaseHelper dbHelper;
     public static final String EXTRA_SCORE = "com.example.processcommander.SCORE";
     public static final String EXTRA_COMPLETED = "com.example.processcommander.COMPLETED";
     public static final String EXTRA_EMERGENCIES = "com.example.processcommander.EMERGENCIES";
     public static final String EXTRA_GAME_OVER_REASON = "com.example.processcommander.GAME_OVER_REASON"; // Key for reason
+    public static final String EXTRA_DIFFICULTY = "com.example.processcommander.DIFFICULTY";
+    // Optional: trace the session into a ring of this many events and write it as a Chrome trace at game over
+    public static final String EXTRA_TRACE_EVENTS = "com.example.processcommander.TRACE_EVENTS";
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -30,25 +41,58 @@ public class GameActivity extends AppCompatActivity {
         // Initialize database helper
         dbHelper = new DatabaseHelper(this);
         
-        // Create and set the game view
-        gameView = new GameView(this);
+        // Difficulty profiles are already cached by MainActivity, so this does no disk I/O
+        int difficulty = getIntent().getIntExtra(EXTRA_DIFFICULTY, DifficultyProfile.LEVEL_MEDIUM);
+        DifficultyProfile profile = DifficultyProfiles.get(this, difficulty);
+        
+        // The engine is kept by the session; a rotation only builds a new view onto it
+        session = new ViewModelProvider(this).get(GameSession.class);
+        gameView = new GameView(this, session, profile);
         setContentView(gameView);
+        
+        int traceEvents = getIntent().getIntExtra(EXTRA_TRACE_EVENTS, 0);
+        if (traceEvents > 0 && session.getTracer() == null) {
+            session.setTracer(new RingTracer(traceEvents));
+        }
+        if (session.getTracer() != null) {
+            gameView.setTracer(session.getTracer());
+        }
     }
     
     @Override
     protected void onPause() {
         super.onPause();
         gameView.pause();
+        session.stop();
     }
     
     @Override
     protected void onResume() {
         super.onResume();
+        session.start();
         gameView.resume();
     }
     
     // Called by GameView when game is over
-    public void onGameOver(int score, int processesCompleted, int emergenciesHandled, String reason) {
+    public void onGameOver(int score, int processesCompleted, int emergenciesHandled, String reason,
+                           TimelineRecorder timeline, List<SessionMetrics.Summary> metrics) {
+        // Persist the score, its timeline and its metrics (called from the game thread, so off the UI thread)
+        long scoreId = dbHelper.saveScore(score, processesCompleted, emergenciesHandled);
+        if (scoreId != -1 && timeline != null && timeline.size() > 0) {
+            dbHelper.saveTimeline(scoreId, timeline.size(), timeline.encode());
+        }
+        if (scoreId != -1 && metrics != null) {
+            // Touch-to-post latency is measured by the view, so it joins the engine's metrics here
+            LatencyHistogram touchLatency = gameView.getTouchLatency();
+            if (touchLatency.getCount() > 0) {
+                metrics.add(touchLatency.summarize(SessionMetrics.TOUCH_LATENCY));
+            }
+            dbHelper.saveMetrics(scoreId, metrics);
+        }
+        if (session.getTracer() != null) {
+            writeTrace(session.getTracer());
+        }
+        
         Intent resultIntent = new Intent();
         resultIntent.putExtra(EXTRA_SCORE, score);
         resultIntent.putExtra(EXTRA_COMPLETED, processesCompleted);
@@ -58,6 +102,16 @@ public class GameActivity extends AppCompatActivity {
         finish(); // Close GameActivity and return to MainActivity
     }
     
+    // Save the trace where adb can pull it: Android/data/<package>/files/trace-<time>.json
+    private void writeTrace(RingTracer tracer) {
+        File file = new File(getExternalFilesDir(null), "trace-" + System.currentTimeMillis() + ".json");
+        try (Writer out = new FileWriter(file)) {
+            tracer.writeChromeTrace(out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
     @Override
     protected void onDestroy() {
         super.onDestroy();
@@ -0,0 +1,72 @@
+package com.example.processcommander;
+
+/**
+ * Game time in milliseconds since the session began. The engine advances it once per tick
+ * from the frame's real delta, so everything that reads it during the tick sees the same
+ * instant without another clock call. While paused it stands still, and the time scale
+ * speeds it up or slows it down; starvation timers, the difficulty curve and blinking all
+ * follow it. A fresh clock starts at zero, which keeps headless runs reproducible.
+ *
+ * Advanced on the game thread; read from any thread.
+ */
+public class GameClock {
+    private volatile long nowMs = 0;
+    private volatile boolean paused = false;
+    private volatile float timeScale = 1f;
+    private float carryMs = 0; // Fractions of a millisecond not yet added, so frames don't drift
+    private long lastTickMs = 0;
+
+    public long now() {
+        return nowMs;
+    }
+
+    /**
+     * Advance by one frame of real time. Returns the game time that passed in seconds: none
+     * while paused, otherwise the real delta times the time scale.
+     */
+    public float tick(float realDeltaSeconds) {
+        float gameDelta = paused ? 0 : realDeltaSeconds * timeScale;
+        float ms = gameDelta * 1000 + carryMs;
+        lastTickMs = (long) ms;
+        carryMs = ms - lastTickMs;
+        nowMs += lastTickMs;
+        return gameDelta;
+    }
+
+    /**
+     * Whole milliseconds the last tick added
+     */
+    public long getLastTickMs() {
+        return lastTickMs;
+    }
+
+    /**
+     * Advance by an exact span of game time, ignoring pause and scale; for fast-forwarding
+     * a headless game from one event to the next
+     */
+    public void advance(long gameMs) {
+        nowMs += gameMs;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Game time per unit of real time; 1 is normal speed
+     */
+    public void setTimeScale(float timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("Time scale must not be negative: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.processcommander;
+
+import android.content.Context;
+
+import androidx.lifecycle.ViewModel;
+
+/**
+ * Owns one game's engine across configuration changes. The activity and its GameView are
+ * rebuilt on rotation, but this survives, so the engine keeps its queues and score and the
+ * new view just binds to it. Only the application context is held, so no activity leaks.
+ * Game time follows the activity: start() on resume runs the clock and the engine's haptics
+ * consumer, stop() on pause halts both.
+ */
+public class GameSession extends ViewModel {
+    private final GameClock clock = new GameClock();
+    private ProcessManager engine;
+    private RingTracer tracer;
+    // Survives rotation so the instructions are not shown again mid-game
+    private boolean instructionsDismissed = false;
+
+    /**
+     * The engine, created on first use for the given difficulty
+     */
+    public ProcessManager getEngine(Context context, DifficultyProfile profile) {
+        if (engine == null) {
+            engine = new ProcessManager(context.getApplicationContext(), profile, clock);
+        }
+        return engine;
+    }
+
+    /**
+     * The game's clock; it stands still from stop() to start()
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public void start() {
+        clock.setPaused(false);
+        if (engine != null && !engine.isGameOver()) {
+            engine.start();
+        }
+    }
+
+    public void stop() {
+        clock.setPaused(true);
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    public RingTracer getTracer() {
+        return tracer;
+    }
+
+    public void setTracer(RingTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    public boolean isInstructionsDismissed() {
+        return instructionsDismissed;
+    }
+
+    public void setInstructionsDismissed(boolean dismissed) {
+        instructionsDismissed = dismissed;
+    }
+
+    @Override
+    protected void onCleared() {
+        // The activity is finishing for good
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+}
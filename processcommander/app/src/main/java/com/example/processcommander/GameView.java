@@ -5,7 +5,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.RectF;
-import android.graphics.Typeface;
+import android.os.SystemClock;
 import android.view.MotionEvent;
 import android.view.SurfaceHolder;
 import android.view.SurfaceView;
@@ -16,7 +16,10 @@ import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.ViewGroup.LayoutParams;
 import android.widget.TextView;
+
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 public class GameView extends SurfaceView implements SurfaceHolder.Callback, Runnable {
     private SurfaceHolder surfaceHolder;
@@ -25,7 +28,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     
     private Context context;
     private ProcessManager processManager;
-    private Paint paint;
+    private final GameSession session;
+    private final CanvasRenderer canvasRenderer = new CanvasRenderer();
+    private Paint paint; // The renderer's paint, for measuring text
     
     // System UI margins
     private int statusBarHeight = 0;
@@ -33,15 +38,73 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     
     // Game state
     private long lastUpdateTime;
+    private long frameTimeMs; // Real time sampled once per frame, for UI that moves while the game is paused
+    private final GameClock clock;
     private float deltaTime;
     private boolean gameOverHandled = false;
-    private boolean showInstructions = true;  // Show instructions at startup
+    private boolean showInstructions;  // Show instructions at startup
     private long instructionsTimer = 10000;   // Show instructions for 10 seconds
-    private boolean gamePausedForInstructions = true; // Pause game while showing instructions
+    private boolean gamePausedForInstructions; // Pause game while showing instructions
     private String gameOverReason = "";  // Reason for game over
+    private String gameOverScoreText;     // Built once when the game-over screen first draws
+    private String gameOverBreakdownText; // Where the score came from, per ledger category
+    private String[] gameOverMetricLines; // Likewise, from the session metrics
     private float warningAnimTime = 0;  // Animation time for warnings
     private RectF criticalWarningRect; // Rectangle for critical warning display
     
+    // Touch input, queued by the UI thread and applied by the game thread
+    private static final long DRAG_PREDICTION_MS = 16; // About one frame from post to screen
+    private final TouchInput touchInput = new TouchInput(256);
+    private final DragPredictor dragPredictor = new DragPredictor();
+    private final float[] dragPoint = new float[2];
+    private final LatencyHistogram touchLatency = new LatencyHistogram();
+    private QueueViewport scrollingQueue; // Queue being scrolled by the current touch, if any
+    private float scrollStartY;
+    private int scrollStartRow;
+    // Lasso: a drag on empty space boxes a group, which then moves together in one transaction
+    private boolean lassoing = false;
+    private float lassoStartX, lassoStartY;
+    private final RectF lassoRect = new RectF();
+    private final List<Process> lassoGroup = new ArrayList<>();
+    private long oldestPendingTouchMs = -1;
+    private final TouchInput.Listener touchHandler = new TouchInput.Listener() {
+        @Override
+        public void onTouch(int action, float x, float y, long timeMs) {
+            handleTouch(action, x, y, timeMs);
+        }
+    };
+    
+    // Frame pacing: full rate only while something moves
+    private final FrameGovernor frameGovernor = new FrameGovernor();
+    private volatile Tracer tracer = Tracer.NONE; // Frame phase spans, off unless installed
+    private long lastSeenEventCount = 0;
+    
+    // Line breaks for overlay text, computed once instead of every frame
+    private final TextLayoutCache textLayouts = new TextLayoutCache(32);
+    
+    private static final String[] INSTRUCTIONS = {
+            "Welcome to Process Commander!",
+            "",
+            "Your goal is to manage system processes efficiently:",
+            "",
+            "• Drag processes between queues to manage them:",
+            "  - Running Queue (Green): Active processes using CPU",
+            "  - Ready Queue (Blue): Processes waiting to run",
+            "  - Blocked Queue (Red): Processes waiting for I/O",
+            "",
+            "• Watch out for:",
+            "  - Critical processes (Red text) - Handle immediately!",
+            "  - Process interrupts (Yellow text) - Move to blocked queue",
+            "  - Process starvation - Don't leave processes waiting too long",
+            "  - CPU and Memory usage - Don't overload the system",
+            "",
+            "• Use the buttons at the bottom to:",
+            "  - Terminate: Remove problematic processes",
+            "  - Unblock: Move processes back to ready state",
+            "",
+            "Tap anywhere to start!"
+    };
+    
     // Resource bars
     private RectF cpuBarBg, cpuBarFg;
     private RectF memoryBarBg, memoryBarFg;
@@ -71,19 +134,26 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     private static final int QUEUE_AREA_HEIGHT = 180; // Adjusted height for queues
     private static final int QUEUE_SPACING = 20;
     
-    public GameView(Context context) {
+    /**
+     * Binds to the session's engine, creating it on first use. After a rotation the new
+     * view picks up the running game as it was.
+     */
+    public GameView(Context context, GameSession session, DifficultyProfile difficultyProfile) {
         super(context);
         this.context = context;
+        this.session = session;
         this.surfaceHolder = getHolder();
         this.surfaceHolder.addCallback(this);
-        this.paint = new Paint();
-        this.paint.setAntiAlias(true);
+        this.paint = canvasRenderer.getPaint();
         
         // Calculate system UI margins
         calculateSystemUIMargins();
         
-        // Initialize process manager
-        this.processManager = new ProcessManager(context);
+        // The engine lives in the session, not the view
+        this.processManager = session.getEngine(context, difficultyProfile);
+        this.clock = session.getClock();
+        this.showInstructions = !session.isInstructionsDismissed();
+        this.gamePausedForInstructions = showInstructions;
         
         // Initialize resource bars
         cpuBarBg = new RectF();
@@ -122,8 +192,10 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         // ---> Set Queue Area References in ProcessManager <--- 
         // Pass the calculated areas to the ProcessManager so it knows where to place processes
         if (processManager != null) {
+             processManager.setScreenSize(getWidth(), getHeight());
              processManager.setQueueAreaReferences(newProcessArea, runningQueueArea, readyQueueArea, blockedQueueArea);
              processManager.repositionAllProcesses(); // Initial positioning in slots
+             processManager.finishAnimations(); // Start in place rather than gliding in
         }
         
         // Initialize game loop
@@ -139,11 +211,21 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
         // Update UI element sizes based on new dimensions
         updateUIElements(width, height);
+        textLayouts.invalidate(); // Overlay text wraps differently at the new size
+        
+        // The areas are new objects, so hand them over again and snap processes into them
+        if (processManager != null) {
+            processManager.setScreenSize(width, height);
+            processManager.setQueueAreaReferences(newProcessArea, runningQueueArea, readyQueueArea, blockedQueueArea);
+            processManager.repositionAllProcesses();
+            processManager.finishAnimations();
+        }
     }
     
     @Override
     public void surfaceDestroyed(SurfaceHolder holder) {
         isRunning = false;
+        frameGovernor.wake(); // Unpark the render thread so it can exit
         try {
             gameThread.join();
         } catch (InterruptedException e) {
@@ -185,30 +267,39 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     public void run() {
         while (isRunning) {
             // Calculate delta time
+            // The one real clock read per frame; the engine turns the delta into game time
             long currentTime = System.currentTimeMillis();
             deltaTime = (currentTime - lastUpdateTime) / 1000.0f; // Convert to seconds
             lastUpdateTime = currentTime;
+            frameTimeMs = currentTime;
             
             // Limit deltaTime to avoid large jumps
             if (deltaTime > 0.1f) {
                 deltaTime = 0.1f;
             }
             
+            // Apply touches that arrived since the last frame
+            tracer.begin(Tracer.FRAME_INPUT);
+            processInput();
+            tracer.end(Tracer.FRAME_INPUT);
+            
             // Handle instructions
             if (showInstructions) {
                 instructionsTimer -= (currentTime - lastUpdateTime);
                 if (instructionsTimer <= 0) {
                     showInstructions = false;
                     gamePausedForInstructions = false;
+                    session.setInstructionsDismissed(true);
                 }
                 
                 // Just draw while instructions are showing, don't update game state
                 draw();
+                recordInputLatency();
                 
                 // Skip the rest of the loop if paused for instructions
                 if (gamePausedForInstructions) {
                     try {
-                        Thread.sleep(16); // ~60fps
+                        frameGovernor.awaitNextFrame(FrameGovernor.Scene.AMBIENT, currentTime); // Only the prompt pulses
                     } catch (InterruptedException e) {
                         e.printStackTrace();
                     }
@@ -217,10 +308,15 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
             }
             
             // Update game state
+            tracer.begin(Tracer.FRAME_UPDATE);
             update(deltaTime);
+            tracer.end(Tracer.FRAME_UPDATE);
             
             // Draw the game
+            tracer.begin(Tracer.FRAME_DRAW);
             draw();
+            tracer.end(Tracer.FRAME_DRAW);
+            recordInputLatency();
             
             // Check for game over
             if (processManager.isGameOver() && !gameOverHandled) {
@@ -235,20 +331,40 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                         processManager.getScore(),
                         processManager.getProcessesCompleted(),
                         processManager.getEmergencyEventsHandled(),
-                        reason // Pass the reason
+                        reason, // Pass the reason
+                        processManager.getTimeline(),
+                        processManager.getSessionSummaries()
                     );
                 }
             }
             
-            // Control frame rate (optional)
+            // Control frame rate by what is on screen
             try {
-                Thread.sleep(16); // ~60fps
+                frameGovernor.awaitNextFrame(currentScene(), currentTime);
             } catch (InterruptedException e) {
                 e.printStackTrace();
             }
         }
     }
     
+    // What the next frame needs to show, for the frame governor
+    private FrameGovernor.Scene currentScene() {
+        if (gameOverHandled) {
+            return FrameGovernor.Scene.STILL; // Static overlay until the player touches something
+        }
+        // Engine events (completions, penalties, ...) get full-rate frames for a moment
+        long eventCount = processManager.getEvents().getPublishedCount();
+        if (eventCount != lastSeenEventCount) {
+            lastSeenEventCount = eventCount;
+            frameGovernor.wake();
+        }
+        if (isDragging || processManager.isAnimating()) {
+            return FrameGovernor.Scene.MOVING;
+        }
+        // The simulation keeps running: bars, countdowns, blinks and warnings change slowly
+        return FrameGovernor.Scene.AMBIENT;
+    }
+    
     private void update(float deltaTime) {
         // Update process manager
         processManager.update(deltaTime);
@@ -275,30 +391,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         try {
             canvas = surfaceHolder.lockCanvas();
             if (canvas != null) {
-                canvas.drawColor(Color.BLACK);
-                
-                // Draw resource bars FIRST
-                drawResourceBars(canvas);
-                
-                // Draw Queue Backgrounds/Info SECOND
-                drawQueueInfo(canvas, newProcessArea, "New Processes", processManager.getNewProcesses().size(), processManager.getMaxProcessesCapacity(), Color.DKGRAY);
-                drawQueueInfo(canvas, runningQueueArea, "Running Queue", processManager.getRunningQueueSize(), processManager.getRunningQueueCapacity(), Color.rgb(0, 50, 0));
-                drawQueueInfo(canvas, readyQueueArea, "Ready Queue", processManager.getReadyQueueSize(), processManager.getReadyQueueCapacity(), Color.rgb(0, 0, 50));
-                drawQueueInfo(canvas, blockedQueueArea, "Blocked Queue", processManager.getBlockedQueueSize(), processManager.getBlockedQueueCapacity(), Color.rgb(50, 0, 0));
-
-                // Draw Processes THIRD (on top of queues)
-                processManager.draw(canvas, paint, this); // Pass GameView for blinking logic
-
-                // Draw scores and status (includes instruction overlay logic)
-                drawStatusInfo(canvas);
-                
-                // Draw warnings / game over
-                if (processManager.isEmergencyEvent()) {
-                    drawCriticalWarning(canvas);
-                }
-                if (processManager.isGameOver()) {
-                    drawGameOver(canvas);
-                }
+                canvasRenderer.setCanvas(canvas);
+                drawFrame(canvasRenderer);
             }
         } finally {
             if (canvas != null) {
@@ -307,121 +401,198 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         }
     }
     
-    private void drawResourceBars(Canvas canvas) {
+    // The whole frame, through whichever renderer is given
+    private void drawFrame(Renderer renderer) {
+        renderer.drawColor(Color.BLACK);
+        
+        // Draw resource bars FIRST
+        drawResourceBars(renderer, processManager, cpuBarBg, cpuBarFg, memoryBarBg, memoryBarFg);
+        
+        // Draw Queue Backgrounds/Info SECOND
+        drawQueueInfo(renderer, newProcessArea, "New Processes", processManager.getNewProcesses().size(), processManager.getNewViewport(), Color.DKGRAY);
+        drawQueueInfo(renderer, runningQueueArea, "Running Queue", processManager.getRunningQueueSize(), processManager.getRunningViewport(), Color.rgb(0, 50, 0));
+        drawQueueInfo(renderer, readyQueueArea, "Ready Queue", processManager.getReadyQueueSize(), processManager.getReadyViewport(), Color.rgb(0, 0, 50));
+        drawQueueInfo(renderer, blockedQueueArea, "Blocked Queue", processManager.getBlockedQueueSize(), processManager.getBlockedViewport(), Color.rgb(50, 0, 0));
+
+        // Draw Processes THIRD (on top of queues)
+        processManager.draw(renderer, shouldBlink());
+        if (lassoing) {
+            drawLasso(renderer, lassoRect);
+        }
+
+        // Draw scores and status (includes instruction overlay logic)
+        drawStatusInfo(renderer);
+        
+        // Draw warnings / game over
+        if (processManager.isEmergencyEvent()) {
+            drawCriticalWarning(renderer);
+        }
+        if (processManager.isGameOver()) {
+            drawGameOver(renderer);
+        }
+    }
+    
+    private static void drawLasso(Renderer renderer, RectF lasso) {
+        renderer.setStyle(Renderer.FILL);
+        renderer.setColor(Color.YELLOW);
+        renderer.setAlpha(40);
+        renderer.drawRect(lasso);
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setAlpha(255);
+        renderer.setStrokeWidth(3f);
+        renderer.drawRect(lasso);
+        renderer.setStyle(Renderer.FILL);
+    }
+    
+    // Static, like drawQueueInfo, so JVM tests can record it without a view
+    static void drawResourceBars(Renderer renderer, ProcessManager processManager,
+                                 RectF cpuBarBg, RectF cpuBarFg, RectF memoryBarBg, RectF memoryBarFg) {
         // Draw CPU bar background with border
-        paint.setColor(Color.DKGRAY);
-        paint.setStyle(Paint.Style.FILL);
-        canvas.drawRect(cpuBarBg, paint);
+        renderer.setColor(Color.DKGRAY);
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRect(cpuBarBg);
         
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setColor(Color.WHITE);
-        paint.setStrokeWidth(2f);
-        canvas.drawRect(cpuBarBg, paint);
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setColor(Color.WHITE);
+        renderer.setStrokeWidth(2f);
+        renderer.drawRect(cpuBarBg);
         
         // Set color based on usage (green->yellow->red)
         float cpuUsage = (float) processManager.getUsedCPU() / processManager.getTotalCPU();
-        paint.setStyle(Paint.Style.FILL);
+        renderer.setStyle(Renderer.FILL);
         if (cpuUsage < 0.5f) {
-            paint.setColor(Color.GREEN);
+            renderer.setColor(Color.GREEN);
         } else if (cpuUsage < 0.8f) {
-            paint.setColor(Color.YELLOW);
+            renderer.setColor(Color.YELLOW);
         } else {
-            paint.setColor(Color.RED);
+            renderer.setColor(Color.RED);
+        }
+        renderer.drawRect(cpuBarFg);
+        
+        // Per-core utilisation strip under the CPU bar when running multi-core
+        int coreCount = processManager.getCoreCount();
+        if (coreCount > 1) {
+            float coreWidth = cpuBarBg.width() / coreCount;
+            float stripTop = cpuBarBg.bottom + 2;
+            float stripHeight = 6f;
+            for (int i = 0; i < coreCount; i++) {
+                float utilization = processManager.getCoreUtilization(i);
+                renderer.setColor(Color.DKGRAY);
+                float left = cpuBarBg.left + i * coreWidth;
+                renderer.drawRect(left, stripTop, left + coreWidth - 1, stripTop + stripHeight);
+                renderer.setColor(utilization < 0.5f ? Color.GREEN : utilization < 0.8f ? Color.YELLOW : Color.RED);
+                renderer.drawRect(left, stripTop, left + (coreWidth - 1) * utilization, stripTop + stripHeight);
+            }
         }
-        canvas.drawRect(cpuBarFg, paint);
         
         // Draw CPU label
-        paint.setColor(Color.WHITE);
-        paint.setTextSize(24);  // Increased from 16
-        paint.setTextAlign(Paint.Align.LEFT);
-        paint.setTypeface(Typeface.DEFAULT_BOLD);
-        canvas.drawText("CPU: " + processManager.getUsedCPU() + "%", 
-                       cpuBarBg.left, cpuBarBg.bottom + 30, paint);
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(24);  // Increased from 16
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
+        renderer.setBold(true);
+        renderer.drawText("CPU: " + processManager.getUsedCPU() + "%", 
+                       cpuBarBg.left, cpuBarBg.bottom + 30);
         
         // Draw Memory bar background with border
-        paint.setColor(Color.DKGRAY);
-        paint.setStyle(Paint.Style.FILL);
-        canvas.drawRect(memoryBarBg, paint);
+        renderer.setColor(Color.DKGRAY);
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRect(memoryBarBg);
         
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setColor(Color.WHITE);
-        paint.setStrokeWidth(2f);
-        canvas.drawRect(memoryBarBg, paint);
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setColor(Color.WHITE);
+        renderer.setStrokeWidth(2f);
+        renderer.drawRect(memoryBarBg);
         
         // Set color based on usage
         float memUsage = (float) processManager.getUsedMemory() / processManager.getTotalMemory();
-        paint.setStyle(Paint.Style.FILL);
+        renderer.setStyle(Renderer.FILL);
         if (memUsage < 0.5f) {
-            paint.setColor(Color.GREEN);
+            renderer.setColor(Color.GREEN);
         } else if (memUsage < 0.8f) {
-            paint.setColor(Color.YELLOW);
+            renderer.setColor(Color.YELLOW);
         } else {
-            paint.setColor(Color.RED);
+            renderer.setColor(Color.RED);
         }
-        canvas.drawRect(memoryBarFg, paint);
+        renderer.drawRect(memoryBarFg);
         
         // Draw Memory label
-        paint.setColor(Color.WHITE);
-        paint.setTextSize(24);  // Increased from 16
-        paint.setTextAlign(Paint.Align.LEFT);
-        canvas.drawText("Memory: " + processManager.getUsedMemory() + "/" + 
-                       processManager.getTotalMemory() + " MB", 
-                       memoryBarBg.left, memoryBarBg.bottom + 30, paint);
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(24);  // Increased from 16
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
+        renderer.drawText("Memory: " + processManager.getUsedMemory() + "/" + 
+                       processManager.getTotalMemory() + " MB  Frag: " +
+                       Math.round(processManager.getMemoryFragmentation() * 100) + "%  Swap: " +
+                       processManager.getSwappedMemory() + " MB", 
+                       memoryBarBg.left, memoryBarBg.bottom + 30);
     }
     
-    private void drawQueueInfo(Canvas canvas, RectF area, String queueName, int currentSize, int maxSize, int color) {
+    // Scratch rect for the slot outlines, reused every frame; only the draw thread touches it
+    private static final RectF slotRect = new RectF();
+
+    // Only the slots in the viewport's window are outlined, however large the queue
+    static void drawQueueInfo(Renderer renderer, RectF area, String queueName, int currentSize, QueueViewport viewport, int color) {
+        int maxSize = viewport.getCapacity();
         // Draw queue area background
-        paint.setColor(color);
-        paint.setAlpha(180); // Slightly transparent background
-        paint.setStyle(Paint.Style.FILL);
-        canvas.drawRoundRect(area, 15f, 15f, paint);
+        renderer.setColor(color);
+        renderer.setAlpha(180); // Slightly transparent background
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRoundRect(area, 15f);
 
         // Draw queue area border
-        paint.setColor(Color.WHITE);
-        paint.setAlpha(255);
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(2f);
-        canvas.drawRoundRect(area, 15f, 15f, paint);
+        renderer.setColor(Color.WHITE);
+        renderer.setAlpha(255);
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setStrokeWidth(2f);
+        renderer.drawRoundRect(area, 15f);
 
         // Draw queue title
-        paint.setStyle(Paint.Style.FILL);
-        paint.setTextSize(30);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        canvas.drawText(queueName, area.centerX(), area.top + 40, paint);
+        renderer.setStyle(Renderer.FILL);
+        renderer.setTextSize(30);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
+        renderer.setBold(true);
+        renderer.drawText(queueName, area.centerX(), area.top + 40);
 
         // Draw queue capacity text
-        paint.setTextSize(24);
-        paint.setTypeface(Typeface.DEFAULT);
-        canvas.drawText(currentSize + " / " + maxSize, area.centerX(), area.top + 75, paint);
+        renderer.setTextSize(24);
+        renderer.setBold(false);
+        renderer.drawText(currentSize + " / " + maxSize, area.centerX(), area.top + 75);
         
         // --- Draw Slot Outlines --- 
         float slotWidth = (area.width() - (SLOTS_PER_ROW + 1) * SLOT_SPACING) / SLOTS_PER_ROW;
-        float slotHeight = (area.height() - 100 - (getRowCount(maxSize) + 1) * SLOT_SPACING) / getRowCount(maxSize); // Adjusted height calculation
+        int visibleRows = viewport.getVisibleRows();
+        float slotHeight = (area.height() - 100 - (visibleRows + 1) * SLOT_SPACING) / visibleRows; // Adjusted height calculation
         slotHeight = Math.min(slotHeight, slotWidth * 1.2f); // Keep slots reasonably proportioned
         
-        paint.setColor(Color.argb(50, 255, 255, 255)); // Faint white for slot outlines
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(1f);
+        renderer.setColor(Color.argb(50, 255, 255, 255)); // Faint white for slot outlines
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setStrokeWidth(1f);
         
-        for (int i = 0; i < maxSize; i++) {
-            int row = i / SLOTS_PER_ROW;
+        int firstSlot = viewport.getFirstRow() * SLOTS_PER_ROW;
+        int endSlot = Math.min(maxSize, firstSlot + visibleRows * SLOTS_PER_ROW);
+        for (int i = firstSlot; i < endSlot; i++) {
+            int row = (i - firstSlot) / SLOTS_PER_ROW;
             int col = i % SLOTS_PER_ROW;
             
             float slotLeft = area.left + SLOT_SPACING + col * (slotWidth + SLOT_SPACING);
             float slotTop = area.top + 90 + SLOT_SPACING + row * (slotHeight + SLOT_SPACING); // Start below title/capacity text
             
-            RectF slotRect = new RectF(slotLeft, slotTop, slotLeft + slotWidth, slotTop + slotHeight);
-            canvas.drawRoundRect(slotRect, 10f, 10f, paint);
+            slotRect.set(slotLeft, slotTop, slotLeft + slotWidth, slotTop + slotHeight);
+            renderer.drawRoundRect(slotRect, 10f);
         }
         // --- End Slot Outlines ---
+        
+        // Scroll bar along the right edge when not every row fits
+        if (viewport.isScrollable()) {
+            float trackTop = area.top + 90 + SLOT_SPACING;
+            float trackHeight = area.bottom - SLOT_SPACING - trackTop;
+            float thumbHeight = trackHeight * visibleRows / viewport.getRowCount();
+            float thumbTop = trackTop + trackHeight * viewport.getFirstRow() / viewport.getRowCount();
+            renderer.setStyle(Renderer.FILL);
+            renderer.setColor(Color.argb(120, 255, 255, 255));
+            renderer.drawRect(area.right - 8, thumbTop, area.right - 4, thumbTop + thumbHeight);
+        }
 
-        paint.setTypeface(Typeface.DEFAULT); // Reset typeface
-    }
-
-    // Helper to get number of rows needed for slots
-    private int getRowCount(int maxSize) {
-        return (int) Math.ceil((double) maxSize / SLOTS_PER_ROW);
+        renderer.setBold(false); // Reset typeface
     }
     
     private void drawProcess(Canvas canvas, Process process) {
@@ -475,7 +646,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
     }
     
     // Draw a critical warning banner
-    private void drawCriticalWarning(Canvas canvas) {
+    private void drawCriticalWarning(Renderer renderer) {
         // Animation color - flashing between red and yellow
         int warningColor;
         if ((int)(warningAnimTime * 2) % 2 == 0) {
@@ -485,113 +656,145 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
         }
         
         // Draw background for warning
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(warningColor);
-        canvas.drawRoundRect(criticalWarningRect, 15, 15, paint);
+        renderer.setStyle(Renderer.FILL);
+        renderer.setColor(warningColor);
+        renderer.drawRoundRect(criticalWarningRect, 15);
         
         // Draw border
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setColor(Color.WHITE);
-        paint.setStrokeWidth(4f);
-        canvas.drawRoundRect(criticalWarningRect, 15, 15, paint);
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setColor(Color.WHITE);
+        renderer.setStrokeWidth(4f);
+        renderer.drawRoundRect(criticalWarningRect, 15);
         
         // Draw warning text
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.WHITE);
-        paint.setTextSize(40);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        renderer.setStyle(Renderer.FILL);
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(40);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
+        renderer.setBold(true);
         
-        canvas.drawText("❗ CRITICAL EMERGENCY ❗", 
+        renderer.drawText("❗ CRITICAL EMERGENCY ❗", 
                        criticalWarningRect.centerX(), 
-                       criticalWarningRect.centerY() - 15, 
-                       paint);
+                       criticalWarningRect.centerY() - 15);
         
-        paint.setTextSize(32);
-        canvas.drawText("Find and UNBLOCK the critical process!", 
+        renderer.setTextSize(32);
+        renderer.drawText("Find and UNBLOCK the critical process!", 
                        criticalWarningRect.centerX(), 
-                       criticalWarningRect.centerY() + 35, 
-                       paint);
+                       criticalWarningRect.centerY() + 35);
         
         // Reset text properties
-        paint.setTypeface(Typeface.DEFAULT);
-        paint.setTextAlign(Paint.Align.LEFT);
+        renderer.setBold(false);
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
     }
     
-    private void drawGameOver(Canvas canvas) {
+    private void drawGameOver(Renderer renderer) {
         int width = getWidth();
         int height = getHeight();
         
         // Semi-transparent background
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.argb(200, 0, 0, 0));
-        canvas.drawRect(0, 0, width, height, paint);
+        renderer.setStyle(Renderer.FILL);
+        renderer.setColor(Color.argb(200, 0, 0, 0));
+        renderer.drawRect(0, 0, width, height);
         
         // Game Over text
-        paint.setColor(Color.RED);
-        paint.setTextSize(80);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        canvas.drawText("GAME OVER", width/2, height/2 - 100, paint);
+        renderer.setColor(Color.RED);
+        renderer.setTextSize(80);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
+        renderer.setBold(true);
+        drawWrappedText(renderer, "GAME OVER", width/2, height/2 - 100, width - 100, 90);
         
         // Reason for game over
-        paint.setColor(Color.WHITE);
-        paint.setTextSize(40);
-        String[] lines = splitTextIntoLines(gameOverReason, width - 100, paint);
-        int y = height/2;
-        for (String line : lines) {
-            canvas.drawText(line, width/2, y, paint);
-            y += 50;
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(40);
+        drawWrappedText(renderer, gameOverReason, width/2, height/2, width - 100, 50);
+        
+        // Score, fixed once the game is over
+        renderer.setColor(Color.YELLOW);
+        renderer.setTextSize(60);
+        if (gameOverScoreText == null) {
+            gameOverScoreText = "Score: " + processManager.getScore();
+            gameOverBreakdownText = formatScoreBreakdown(processManager.getScoreLedger());
         }
+        drawWrappedText(renderer, gameOverScoreText, width/2, height/2 + 150, width - 100, 70);
         
-        // Score
-        paint.setColor(Color.YELLOW);
-        paint.setTextSize(60);
-        canvas.drawText("Score: " + processManager.getScore(), width/2, height/2 + 150, paint);
+        // Session metrics under the score breakdown
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(32);
+        renderer.setBold(false);
+        float metricY = drawWrappedText(renderer, gameOverBreakdownText, width/2, height/2 + 210, width - 100, 42) + 20;
+        if (gameOverMetricLines == null) {
+            gameOverMetricLines = formatMetrics(processManager.getSessionSummaries());
+        }
+        for (String line : gameOverMetricLines) {
+            metricY = drawWrappedText(renderer, line, width/2, metricY, width - 100, 42);
+        }
         
         // Reset text properties
-        paint.setTypeface(Typeface.DEFAULT);
-        paint.setTextAlign(Paint.Align.LEFT);
+        renderer.setBold(false);
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
     }
     
-    // Helper method to split text into lines
-    private String[] splitTextIntoLines(String text, float maxWidth, Paint paint) {
-        String[] words = text.split(" ");
-        StringBuilder line = new StringBuilder();
-        ArrayList<String> lines = new ArrayList<>();
-        
-        for (String word : words) {
-            if (paint.measureText(line + " " + word) <= maxWidth) {
-                if (line.length() > 0) {
-                    line.append(" ");
-                }
-                line.append(word);
-            } else {
-                if (line.length() > 0) {
-                    lines.add(line.toString());
-                    line = new StringBuilder(word);
-                } else {
-                    lines.add(word);
-                }
+    // e.g. "Completions +4200   Starvation -800   Critical -300"
+    private static String formatScoreBreakdown(ScoreLedger ledger) {
+        StringBuilder text = new StringBuilder();
+        for (int category = 0; category < ScoreLedger.CATEGORY_NAMES.length; category++) {
+            if (category > 0) {
+                text.append("   ");
             }
+            int points = ledger.getCategoryTotal(category);
+            text.append(ScoreLedger.CATEGORY_NAMES[category]).append(points > 0 ? " +" : " ").append(points);
         }
-        
-        if (line.length() > 0) {
-            lines.add(line.toString());
+        return text.toString();
+    }
+    
+    // Game-over lines for the headline metrics; the full set is stored with the score
+    private static String[] formatMetrics(List<SessionMetrics.Summary> summaries) {
+        SessionMetrics.Summary throughput = null, turnaround = null, waiting = null, response = null, cpu = null, memory = null;
+        for (SessionMetrics.Summary summary : summaries) {
+            switch (summary.name) {
+                case SessionMetrics.THROUGHPUT: throughput = summary; break;
+                case SessionMetrics.TURNAROUND: turnaround = summary; break;
+                case SessionMetrics.WAITING: waiting = summary; break;
+                case SessionMetrics.RESPONSE: response = summary; break;
+                case SessionMetrics.CPU_UTILISATION: cpu = summary; break;
+                case SessionMetrics.MEMORY_UTILISATION: memory = summary; break;
+            }
         }
-        
-        return lines.toArray(new String[0]);
+        return new String[] {
+            String.format(Locale.US, "Throughput: %.1f processes/min", throughput.mean),
+            formatTimeMetric("Turnaround", turnaround),
+            formatTimeMetric("Waiting", waiting),
+            formatTimeMetric("Response", response),
+            String.format(Locale.US, "CPU: %.0f%% avg   Memory: %.0f%% avg", cpu.mean, memory.mean)
+        };
     }
     
-    private void drawStatusInfo(Canvas canvas) {
+    private static String formatTimeMetric(String label, SessionMetrics.Summary summary) {
+        if (summary.count == 0) {
+            return label + ": -";
+        }
+        return String.format(Locale.US, "%s: %.1fs avg, %.1fs p95", label, summary.mean / 1000, summary.p95 / 1000);
+    }
+    
+    // Draw text wrapped to maxWidth with the paint's current settings; returns the y below the last line
+    private float drawWrappedText(Renderer renderer, String text, float x, float y, float maxWidth, float lineSpacing) {
+        String[] lines = textLayouts.lines(text, maxWidth, paint);
+        for (String line : lines) {
+            renderer.drawText(line, x, y);
+            y += lineSpacing;
+        }
+        return y;
+    }
+    
+    private void drawStatusInfo(Renderer renderer) {
         float fontSize = 32;
         float headerFontSize = 34;
         
         // If showing instructions, draw tutorial overlay
         if (showInstructions) {
             // Semi-transparent dark background
-            paint.setColor(Color.argb(200, 0, 0, 0));
-            canvas.drawRect(0, 0, getWidth(), getHeight(), paint);
+            renderer.setColor(Color.argb(200, 0, 0, 0));
+            renderer.drawRect(0, 0, getWidth(), getHeight());
             
             // Draw instruction box
             float boxMargin = 50;
@@ -600,178 +803,224 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
             RectF instructionBox = new RectF(boxMargin, boxMargin, boxMargin + boxWidth, boxMargin + boxHeight);
             
             // Box background
-            paint.setColor(Color.rgb(30, 30, 50));
-            canvas.drawRoundRect(instructionBox, 20, 20, paint);
+            renderer.setColor(Color.rgb(30, 30, 50));
+            renderer.drawRoundRect(instructionBox, 20);
             
             // Box border
-            paint.setStyle(Paint.Style.STROKE);
-            paint.setColor(Color.WHITE);
-            paint.setStrokeWidth(4);
-            canvas.drawRoundRect(instructionBox, 20, 20, paint);
+            renderer.setStyle(Renderer.STROKE);
+            renderer.setColor(Color.WHITE);
+            renderer.setStrokeWidth(4);
+            renderer.drawRoundRect(instructionBox, 20);
         
         // Title
-            paint.setStyle(Paint.Style.FILL);
-            paint.setTextSize(headerFontSize * 1.2f);
-        paint.setTextAlign(Paint.Align.CENTER);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-            canvas.drawText("Process Commander Tutorial", getWidth()/2, boxMargin + 80, paint);
+            renderer.setStyle(Renderer.FILL);
+            renderer.setTextSize(headerFontSize * 1.2f);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
+        renderer.setBold(true);
+            drawWrappedText(renderer, "Process Commander Tutorial", getWidth()/2, boxMargin + 80, boxWidth - 100, headerFontSize * 1.5f);
             
             // Instructions
-            paint.setTextSize(fontSize * 0.9f);
-            paint.setTextAlign(Paint.Align.LEFT);
-        paint.setTypeface(Typeface.DEFAULT);
+            renderer.setTextSize(fontSize * 0.9f);
+            renderer.setTextAlign(Renderer.ALIGN_LEFT);
+        renderer.setBold(false);
             float instructionX = boxMargin + 50;
             float instructionY = boxMargin + 160;
             float lineSpacing = fontSize * 1.5f;
-        
-        String[] instructions = {
-                "Welcome to Process Commander!",
-                "",
-                "Your goal is to manage system processes efficiently:",
-                "",
-                "• Drag processes between queues to manage them:",
-                "  - Running Queue (Green): Active processes using CPU",
-                "  - Ready Queue (Blue): Processes waiting to run",
-                "  - Blocked Queue (Red): Processes waiting for I/O",
-                "",
-                "• Watch out for:",
-                "  - Critical processes (Red text) - Handle immediately!",
-                "  - Process interrupts (Yellow text) - Move to blocked queue",
-                "  - Process starvation - Don't leave processes waiting too long",
-                "  - CPU and Memory usage - Don't overload the system",
-                "",
-                "• Use the buttons at the bottom to:",
-                "  - Terminate: Remove problematic processes",
-                "  - Unblock: Move processes back to ready state",
-                "",
-                "Tap anywhere to start!"
-            };
             
-            for (String instruction : instructions) {
-                canvas.drawText(instruction, instructionX, instructionY, paint);
-                instructionY += lineSpacing;
+            for (String instruction : INSTRUCTIONS) {
+                instructionY = drawWrappedText(renderer, instruction, instructionX, instructionY, boxWidth - 100, lineSpacing);
             }
             
             // Draw pulsing "Tap to Start" at the bottom
-            paint.setTextAlign(Paint.Align.CENTER);
-            paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-            paint.setTextSize(fontSize);
-            float alpha = (float) Math.abs(Math.sin(System.currentTimeMillis() / 500.0));
-            paint.setColor(Color.argb((int)(255 * alpha), 255, 255, 255));
-            canvas.drawText("TAP ANYWHERE TO START!", getWidth()/2, boxMargin + boxHeight - 50, paint);
+            renderer.setTextAlign(Renderer.ALIGN_CENTER);
+            renderer.setBold(true);
+            renderer.setTextSize(fontSize);
+            float alpha = (float) Math.abs(Math.sin(frameTimeMs / 500.0));
+            renderer.setColor(Color.argb((int)(255 * alpha), 255, 255, 255));
+            drawWrappedText(renderer, "TAP ANYWHERE TO START!", getWidth()/2, boxMargin + boxHeight - 50, boxWidth - 100, lineSpacing);
             
             // Reset paint properties
-            paint.setColor(Color.WHITE);
-            paint.setTypeface(Typeface.DEFAULT);
-            paint.setTextAlign(Paint.Align.LEFT);
+            renderer.setColor(Color.WHITE);
+            renderer.setBold(false);
+            renderer.setTextAlign(Renderer.ALIGN_LEFT);
             return; // Don't draw other UI elements while showing instructions
         }
         
         // Regular UI drawing code
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(Color.WHITE);
-        paint.setTextAlign(Paint.Align.LEFT);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        renderer.setStyle(Renderer.FILL);
+        renderer.setColor(Color.WHITE);
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
+        renderer.setBold(true);
         
         // CPU Usage
-        paint.setTextSize(headerFontSize);
-        canvas.drawText("CPU Usage:", cpuBarBg.left, cpuBarBg.top - 15, paint);
-        paint.setTextSize(fontSize);
+        renderer.setTextSize(headerFontSize);
+        renderer.drawText("CPU Usage:", cpuBarBg.left, cpuBarBg.top - 15);
+        renderer.setTextSize(fontSize);
         int cpuPercentage = (int)((float)processManager.getUsedCPU() / processManager.getTotalCPU() * 100);
-        canvas.drawText(cpuPercentage + "%", cpuBarBg.right + 20, cpuBarBg.top + cpuBarBg.height()/2 + fontSize/3, paint);
+        renderer.drawText(cpuPercentage + "%", cpuBarBg.right + 20, cpuBarBg.top + cpuBarBg.height()/2 + fontSize/3);
         
         // Memory Usage
-        paint.setTextSize(headerFontSize);
-        canvas.drawText("Memory Usage:", memoryBarBg.left, memoryBarBg.top - 15, paint);
-        paint.setTextSize(fontSize);
+        renderer.setTextSize(headerFontSize);
+        renderer.drawText("Memory Usage:", memoryBarBg.left, memoryBarBg.top - 15);
+        renderer.setTextSize(fontSize);
         int memoryPercentage = (int)((float)processManager.getUsedMemory() / processManager.getTotalMemory() * 100);
-        canvas.drawText(memoryPercentage + "%", memoryBarBg.right + 20, memoryBarBg.top + memoryBarBg.height()/2 + fontSize/3, paint);
+        renderer.drawText(memoryPercentage + "%", memoryBarBg.right + 20, memoryBarBg.top + memoryBarBg.height()/2 + fontSize/3);
         
         // Draw queue information
         float queueInfoY = memoryBarBg.bottom + 100;
-        paint.setTextSize(headerFontSize);
-        paint.setTextAlign(Paint.Align.CENTER);
+        renderer.setTextSize(headerFontSize);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
         int screenWidth = getWidth();
         
         // Running Queue
-        drawQueueInfo(canvas, runningQueueArea, "Running Queue", processManager.getRunningQueueSize(), 3, Color.rgb(60, 180, 60));
+        drawQueueInfo(renderer, runningQueueArea, "Running Queue", processManager.getRunningQueueSize(), processManager.getRunningViewport(), Color.rgb(60, 180, 60));
         
         // Ready Queue
-        drawQueueInfo(canvas, readyQueueArea, "Ready Queue", processManager.getReadyQueueSize(), 5, Color.rgb(60, 60, 180));
+        drawQueueInfo(renderer, readyQueueArea, "Ready Queue", processManager.getReadyQueueSize(), processManager.getReadyViewport(), Color.rgb(60, 60, 180));
         
         // Blocked Queue
-        drawQueueInfo(canvas, blockedQueueArea, "Blocked Queue", processManager.getBlockedQueueSize(), 4, Color.rgb(180, 60, 60));
+        drawQueueInfo(renderer, blockedQueueArea, "Blocked Queue", processManager.getBlockedQueueSize(), processManager.getBlockedViewport(), Color.rgb(180, 60, 60));
         
         // Reset color
-        paint.setColor(Color.WHITE);
+        renderer.setColor(Color.WHITE);
         
         // Draw score and stats
-        paint.setTextSize(fontSize);
+        renderer.setTextSize(fontSize);
         float statsY = queueInfoY + 60;
-        canvas.drawText("Score: " + processManager.getScore(), screenWidth/2, statsY, paint);
+        renderer.drawText("Score: " + processManager.getScore(), screenWidth/2, statsY);
         statsY += fontSize + 10;
-        canvas.drawText("Processes: " + processManager.getProcessesCompleted(), screenWidth/2, statsY, paint);
+        renderer.drawText("Processes: " + processManager.getProcessesCompleted(), screenWidth/2, statsY);
         
         // Draw emergency warning if active
         if (processManager.isEmergencyEvent()) {
-            drawCriticalWarning(canvas);
+            drawCriticalWarning(renderer);
         }
     }
     
     @Override
     public boolean onTouchEvent(MotionEvent event) {
+        // Queue the samples for the game thread, which applies them at the start of its next frame
+        touchInput.onMotionEvent(event);
+        frameGovernor.wake(); // Input never waits for a slow frame
+        return true;
+    }
+    
+    // Apply queued touch samples; game thread, once per frame
+    private void processInput() {
+        touchInput.drain(touchHandler);
+        
+        // Draw the dragged card where the finger will be when this frame reaches the screen
+        Process dragged = processManager.getSelectedProcess();
+        if (isDragging && dragged != null && dragPredictor.positionAt(SystemClock.uptimeMillis() + DRAG_PREDICTION_MS, dragPoint)) {
+            dragged.setPosition(dragPoint[0], dragPoint[1]);
+        }
+    }
+    
+    private void handleTouch(int action, float touchX, float touchY, long timeMs) {
+        if (oldestPendingTouchMs < 0) {
+            oldestPendingTouchMs = timeMs;
+        }
+        
         // Handle instruction screen touch first
-        if (showInstructions && event.getAction() == MotionEvent.ACTION_DOWN) {
+        if (showInstructions && action == TouchInput.DOWN) {
                 showInstructions = false;
                 gamePausedForInstructions = false;
-                return true;
+                session.setInstructionsDismissed(true);
+                return;
             }
             
         if (processManager.isGameOver() || gamePausedForInstructions) {
-                return true;
+                return;
             }
-            
-        float touchX = event.getX();
-        float touchY = event.getY();
         
-        switch (event.getAction()) {
-            case MotionEvent.ACTION_DOWN:
+        switch (action) {
+            case TouchInput.DOWN:
                 lastTouchX = touchX;
                 lastTouchY = touchY;
                 
                 // Check if touching a process to start dragging
                 Process touchedProcess = processManager.findProcessAtPosition(touchX, touchY);
                 if (touchedProcess != null) {
+                    boolean groupDrag = lassoGroup.contains(touchedProcess);
+                    if (!groupDrag) {
+                        clearLassoGroup();
+                    }
                     processManager.selectProcess(touchedProcess);
+                    if (groupDrag) {
+                        highlightLassoGroup(); // selectProcess cleared the previous member's highlight
+                    }
                     touchedProcess.setDragging(true); // Set dragging on the process itself
                     isDragging = true;
-                    return true;
+                    dragPredictor.reset();
+                    dragPredictor.add(touchX, touchY, timeMs);
+                    return;
                 }
                 
                 // If not touching a process or button, deselect
                 processManager.selectProcess(null);
+                clearLassoGroup();
                 isDragging = false;
-                break; // Important: break here if no action taken
                 
-            case MotionEvent.ACTION_MOVE:
-                if (isDragging && processManager.getSelectedProcess() != null) {
-                    Process draggedProcess = processManager.getSelectedProcess();
-                    // Update position directly while dragging
-                    draggedProcess.setPosition(touchX, touchY);
+                // A drag on a queue's empty space scrolls it; anywhere else it draws a lasso
+                scrollingQueue = processManager.getViewportAt(touchX, touchY);
+                if (scrollingQueue != null && !scrollingQueue.isScrollable()) {
+                    scrollingQueue = null;
+                }
+                if (scrollingQueue != null) {
+                    scrollStartY = touchY;
+                    scrollStartRow = scrollingQueue.getFirstRow();
+                } else {
+                    lassoing = true;
+                    lassoStartX = touchX;
+                    lassoStartY = touchY;
+                    lassoRect.set(touchX, touchY, touchX, touchY);
+                }
+                break;
+                
+            case TouchInput.MOVE:
+                if (scrollingQueue != null) {
+                    int rows = Math.round((scrollStartY - touchY) / scrollingQueue.getRowPitch());
+                    processManager.scrollQueue(scrollingQueue, scrollStartRow + rows);
+                } else if (lassoing) {
+                    lassoRect.set(Math.min(lassoStartX, touchX), Math.min(lassoStartY, touchY),
+                            Math.max(lassoStartX, touchX), Math.max(lassoStartY, touchY));
+                } else if (isDragging && processManager.getSelectedProcess() != null) {
+                    // Every batched sample feeds the predictor; the card is placed once per frame
+                    dragPredictor.add(touchX, touchY, timeMs);
                     lastTouchX = touchX;
                     lastTouchY = touchY;
-                    return true;
                 }
                 break;
                 
-            case MotionEvent.ACTION_UP:
+            case TouchInput.UP:
+            case TouchInput.CANCEL:
                 if (isDragging && processManager.getSelectedProcess() != null) {
                     Process droppedProcess = processManager.getSelectedProcess();
                     droppedProcess.setDragging(false); // Stop dragging state
                     isDragging = false;
+                    dragPredictor.reset();
+                    
+                    // A lasso group moves as one transaction: one relayout however many there are
+                    if (action == TouchInput.UP && lassoGroup.contains(droppedProcess)) {
+                        int target = queueAt(touchX, touchY);
+                        if (target >= 0) {
+                            QueueTransaction transaction = new QueueTransaction();
+                            for (int i = 0; i < lassoGroup.size(); i++) {
+                                transaction.moveTo(lassoGroup.get(i), target);
+                            }
+                            processManager.apply(transaction);
+                        } else {
+                            processManager.repositionProcessBasedOnCurrentState(droppedProcess);
+                        }
+                        clearLassoGroup();
+                        processManager.selectProcess(null);
+                        return;
+                    }
                     
                     // Check drop location and move process using ProcessManager
-                    if (runningQueueArea.contains(touchX, touchY)) {
+                    if (action == TouchInput.CANCEL) {
+                        processManager.repositionProcessBasedOnCurrentState(droppedProcess);
+                    } else if (runningQueueArea.contains(touchX, touchY)) {
                         processManager.moveToRunningQueue(droppedProcess);
                     } else if (readyQueueArea.contains(touchX, touchY)) {
                         processManager.moveToReadyQueue(droppedProcess);
@@ -784,18 +1033,66 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
                     
                     // Deselect after drop? Optional, but good practice
                     // processManager.selectProcess(null);
-                    return true;
+                    return;
+                }
+                if (lassoing) {
+                    lassoing = false;
+                    if (action == TouchInput.UP) {
+                        processManager.collectProcessesIn(lassoRect, lassoGroup);
+                        highlightLassoGroup();
+                    }
                 }
                 isDragging = false; // Ensure dragging flag is reset
+                scrollingQueue = null;
                 break;
         }
-        
-        return super.onTouchEvent(event); // Allow system handling if we didn't consume
+    }
+    
+    // The queue a group can be dropped on, as a QueueTransaction target, or -1
+    private int queueAt(float x, float y) {
+        if (runningQueueArea.contains(x, y)) return QueueTransaction.RUNNING;
+        if (readyQueueArea.contains(x, y)) return QueueTransaction.READY;
+        if (blockedQueueArea.contains(x, y)) return QueueTransaction.BLOCKED;
+        return -1;
+    }
+    
+    private void highlightLassoGroup() {
+        for (int i = 0; i < lassoGroup.size(); i++) {
+            lassoGroup.get(i).setSelected(true);
+        }
+    }
+    
+    private void clearLassoGroup() {
+        for (int i = 0; i < lassoGroup.size(); i++) {
+            lassoGroup.get(i).setSelected(false);
+        }
+        lassoGroup.clear();
+    }
+    
+    // Touch-to-post latency of the frame just drawn, from the oldest sample it consumed
+    private void recordInputLatency() {
+        if (oldestPendingTouchMs >= 0) {
+            touchLatency.record(SystemClock.uptimeMillis() - oldestPendingTouchMs);
+            oldestPendingTouchMs = -1;
+        }
+    }
+    
+    public LatencyHistogram getTouchLatency() {
+        return touchLatency;
+    }
+    
+    /**
+     * Record frame phases and engine work into the given tracer, or stop with null
+     */
+    public void setTracer(Tracer tracer) {
+        this.tracer = tracer != null ? tracer : Tracer.NONE;
+        processManager.setTracer(tracer);
     }
     
     public void pause() {
         isRunning = false;
-        processManager.shutdown();
+        frameGovernor.wake(); // Unpark the render thread so it can exit
+        // The engine is left alone: the session stops its threads and keeps its state
         try {
             gameThread.join();
         } catch (InterruptedException e) {
@@ -812,7 +1109,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Run
 
     // Method for ProcessManager to get blink status (used in drawProcess)
     public boolean shouldBlink() {
-        // Blink every half second
-        return (System.currentTimeMillis() / 500) % 2 == 0;
+        // Blink every half second of game time, so it holds still while paused
+        return (clock.now() / 500) % 2 == 0;
     }
 } 
\ No newline at end of file
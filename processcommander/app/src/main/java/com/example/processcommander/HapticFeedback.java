@@ -0,0 +1,118 @@
+package com.example.processcommander;
+
+import android.os.Build;
+import android.os.VibrationEffect;
+import android.os.Vibrator;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the engine event bus on its own thread and turns events into vibrations. Bursts are
+ * coalesced: after a buzz, events no stronger than it are absorbed for the rest of the window,
+ * and a stronger one waits for the window to close, so a flood of starvation events in one
+ * second produces a single vibration.
+ */
+public class HapticFeedback implements EngineEventBus.Listener {
+    static final long COALESCE_WINDOW_MS = 1000;
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private static final int NONE = 0;
+
+    private final Vibrator vibrator;
+    private final EngineEventBus events;
+    private final GameClock clock; // Events are stamped in game time, so the window is measured in it too
+    private ScheduledExecutorService consumer;
+
+    // Consumer thread only
+    private int pendingType = -1;
+    private long lastBuzzAtMs = Long.MIN_VALUE / 2;
+    private int lastBuzzStrength = NONE;
+
+    public HapticFeedback(Vibrator vibrator, EngineEventBus events, GameClock clock) {
+        this.vibrator = vibrator;
+        this.events = events;
+        this.clock = clock;
+    }
+
+    public void start() {
+        consumer = Executors.newSingleThreadScheduledExecutor();
+        consumer.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                poll(clock.now());
+            }
+        }, POLL_INTERVAL_MS, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (consumer != null) {
+            consumer.shutdownNow();
+        }
+    }
+
+    // One consumer pass: drain, then buzz if something is pending and the window has closed
+    void poll(long nowMs) {
+        events.drain(this);
+        if (pendingType >= 0 && nowMs - lastBuzzAtMs >= COALESCE_WINDOW_MS) {
+            lastBuzzAtMs = nowMs;
+            lastBuzzStrength = strength(pendingType);
+            buzz(pendingType);
+            pendingType = -1;
+        }
+    }
+
+    @Override
+    public void onEvent(int type, int value, long timeMs) {
+        int strength = strength(type);
+        if (strength == NONE) {
+            return;
+        }
+        boolean inWindow = timeMs - lastBuzzAtMs < COALESCE_WINDOW_MS;
+        if (inWindow && strength <= lastBuzzStrength) {
+            return; // Already felt something at least this strong
+        }
+        if (pendingType < 0 || strength > strength(pendingType)) {
+            pendingType = type;
+        }
+    }
+
+    // How urgent an event feels; events that rank NONE are not felt at all
+    private static int strength(int type) {
+        switch (type) {
+            case EngineEventBus.UNBLOCK:
+                return 1;
+            case EngineEventBus.STARVATION:
+            case EngineEventBus.EMERGENCY_ESCALATED:
+                return 2;
+            case EngineEventBus.PENALTY:
+                return 3;
+            case EngineEventBus.EMERGENCY:
+                return 4;
+            default:
+                return NONE;
+        }
+    }
+
+    void buzz(int type) {
+        if (vibrator == null || !vibrator.hasVibrator()) {
+            return;
+        }
+        if (type == EngineEventBus.EMERGENCY) {
+            long[] pattern = {0, 500, 200, 500};
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                vibrator.vibrate(VibrationEffect.createWaveform(pattern, -1));
+            } else {
+                vibrator.vibrate(pattern, -1);
+            }
+            return;
+        }
+        long durationMs = type == EngineEventBus.UNBLOCK ? 200 : 500;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            vibrator.vibrate(VibrationEffect.createOneShot(durationMs, VibrationEffect.DEFAULT_AMPLITUDE));
+        } else {
+            vibrator.vibrate(durationMs);
+        }
+    }
+}
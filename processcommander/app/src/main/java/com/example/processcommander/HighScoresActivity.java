@@ -2,16 +2,15 @@ package com.example.processcommander;
 
 import android.app.Activity;
 import android.os.Bundle;
-import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.ListView;
 import android.view.View;
-import java.util.ArrayList;
-import java.util.List;
 
 public class HighScoresActivity extends Activity {
 
     private ListView highScoresListView;
+    private DatabaseHelper dbHelper;
+    private ScoreHistoryAdapter scoreAdapter;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -21,7 +20,8 @@ public class HighScoresActivity extends Activity {
         highScoresListView = findViewById(R.id.highScoresListView);
         Button backButton = findViewById(R.id.backButton);
 
-        displayDummyHighScores();
+        dbHelper = new DatabaseHelper(this);
+        loadHighScoresFromDatabase();
 
         backButton.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -31,35 +31,20 @@ public class HighScoresActivity extends Activity {
         });
     }
 
-    private void displayDummyHighScores() {
-        // For now, just display some dummy scores until the database is fully implemented
-        List<String> scoreEntries = new ArrayList<>();
-        scoreEntries.add("1. Score: 15000 - CPU Overload");
-        scoreEntries.add("2. Score: 12500 - Memory Exceeded");
-        scoreEntries.add("3. Score: 10200 - Critical Process Failures");
-        scoreEntries.add("4. Score: 8700 - CPU Overload");
-        scoreEntries.add("5. Score: 7200 - Memory Exceeded");
-        scoreEntries.add("6. Score: 6500 - Critical Process Failures");
-        scoreEntries.add("7. Score: 5800 - CPU Overload");
-        scoreEntries.add("8. Score: 4200 - Memory Exceeded");
-        scoreEntries.add("9. Score: 3600 - Process Starvation");
-        scoreEntries.add("10. Score: 2900 - Critical Process Failures");
-
-        // Create a simple array adapter
-        ArrayAdapter<String> adapter = new ArrayAdapter<>(
-            this,
-            android.R.layout.simple_list_item_1, // Built-in layout for simple text items
-            scoreEntries
-        );
-
-        highScoresListView.setAdapter(adapter);
+    private void loadHighScoresFromDatabase() {
+        // Rows are paged in on a background thread as the list scrolls
+        scoreAdapter = new ScoreHistoryAdapter(this, dbHelper);
+        highScoresListView.setAdapter(scoreAdapter);
     }
 
-    /* 
-    // When you implement the real database functionality later:
-    private void loadHighScoresFromDatabase() {
-        // Get scores from the database
-        // Create and set adapter
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (scoreAdapter != null) {
+            scoreAdapter.close();
+        }
+        if (dbHelper != null) {
+            dbHelper.close();
+        }
     }
-    */
 }
@@ -0,0 +1,191 @@
+package com.example.processcommander;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Devices that blocked processes wait on. Each device serves one request at a time from its
+ * own FIFO queue, linked through the processes themselves so submitting and cancelling
+ * don't search it. When a request starts, its service time is drawn once and its completion
+ * goes into a min-heap ordered by time, so the engine only does work when a completion is
+ * actually due: a frame with nothing due is a single peek, however many processes are blocked.
+ */
+public class IoSubsystem {
+    public static final int DISK = 0;
+    public static final int NETWORK = 1;
+    public static final int USER_INPUT = 2;
+    public static final int DEVICE_COUNT = 3;
+
+    // Shown on the card as the interrupt reason
+    static final String[] DEVICE_LABELS = { "Disk Operation", "Network Access", "User Input" };
+    static final long[] MEAN_SERVICE_MS = { 3000, 6000, 8000 };
+    // Share of interrupts that go to each device, cumulative
+    private static final float[] CUMULATIVE_SHARE = { 0.5f, 0.8f, 1.0f };
+
+    private static final class Completion {
+        final long atMs;
+        final int device;
+        final long serviceId;
+        final Process process;
+
+        Completion(long atMs, int device, long serviceId, Process process) {
+            this.atMs = atMs;
+            this.device = device;
+            this.serviceId = serviceId;
+            this.process = process;
+        }
+    }
+
+    private final Random random;
+    // Each device's wait list, oldest first
+    private final Process[] waitingHeads;
+    private final Process[] waitingTails;
+    private final int[] waitingCounts;
+    private final Process[] inService;
+    private final long[] serviceIds; // Bumped on every start; a heap entry with an older id was cancelled
+    private final PriorityQueue<Completion> completions = new PriorityQueue<>(16, new Comparator<Completion>() {
+        @Override
+        public int compare(Completion a, Completion b) {
+            return Long.compare(a.atMs, b.atMs);
+        }
+    });
+
+    public IoSubsystem(Random random) {
+        this.random = random;
+        this.waitingHeads = new Process[DEVICE_COUNT];
+        this.waitingTails = new Process[DEVICE_COUNT];
+        this.waitingCounts = new int[DEVICE_COUNT];
+        this.inService = new Process[DEVICE_COUNT];
+        this.serviceIds = new long[DEVICE_COUNT];
+    }
+
+    /**
+     * Which device a new interrupt is for
+     */
+    public static int pickDevice(Random random) {
+        float roll = random.nextFloat();
+        for (int d = 0; d < DEVICE_COUNT - 1; d++) {
+            if (roll < CUMULATIVE_SHARE[d]) {
+                return d;
+            }
+        }
+        return DEVICE_COUNT - 1;
+    }
+
+    /**
+     * Queue an I/O request for the process on its interrupt's device
+     */
+    public void submit(Process process, long nowMs) {
+        int device = process.getIoDevice();
+        if (device < 0 || inService[device] == process || process.ioWaitingOn >= 0) {
+            return;
+        }
+        if (inService[device] == null) {
+            startService(device, process, nowMs);
+        } else {
+            enqueue(device, process);
+        }
+    }
+
+    /**
+     * Withdraw the process's request, e.g. when it leaves the blocked queue before its I/O is done
+     */
+    public void cancel(Process process, long nowMs) {
+        if (process.ioWaitingOn >= 0) {
+            unlink(process);
+            return;
+        }
+        int device = process.getIoDevice();
+        if (device >= 0 && inService[device] == process) {
+            inService[device] = null;
+            serviceIds[device]++; // Orphans the heap entry
+            startNext(device, nowMs);
+        }
+    }
+
+    /**
+     * Move every request due by nowMs into out and start the next one on each freed device
+     */
+    public void collectCompleted(long nowMs, List<Process> out) {
+        Completion next = completions.peek();
+        while (next != null && next.atMs <= nowMs) {
+            completions.poll();
+            if (next.serviceId == serviceIds[next.device]) {
+                out.add(next.process);
+                inService[next.device] = null;
+                // The next request started when this one finished, not when we noticed
+                startNext(next.device, next.atMs);
+            }
+            next = completions.peek();
+        }
+    }
+
+    /**
+     * Time of the earliest pending completion, or Long.MAX_VALUE when every device is idle.
+     * May be a cancelled request's time, which is harmless: collecting then finds nothing.
+     */
+    public long nextCompletionAtMs() {
+        Completion next = completions.peek();
+        return next != null ? next.atMs : Long.MAX_VALUE;
+    }
+
+    public int getQueueLength(int device) {
+        return waitingCounts[device] + (inService[device] != null ? 1 : 0);
+    }
+
+    private void startNext(int device, long startMs) {
+        Process process = waitingHeads[device];
+        if (process != null) {
+            unlink(process);
+            startService(device, process, startMs);
+        }
+    }
+
+    private void enqueue(int device, Process process) {
+        process.ioWaitingOn = device;
+        process.ioPrev = waitingTails[device];
+        process.ioNext = null;
+        if (waitingTails[device] != null) {
+            waitingTails[device].ioNext = process;
+        } else {
+            waitingHeads[device] = process;
+        }
+        waitingTails[device] = process;
+        waitingCounts[device]++;
+    }
+
+    private void unlink(Process process) {
+        int device = process.ioWaitingOn;
+        if (process.ioPrev != null) {
+            process.ioPrev.ioNext = process.ioNext;
+        } else {
+            waitingHeads[device] = process.ioNext;
+        }
+        if (process.ioNext != null) {
+            process.ioNext.ioPrev = process.ioPrev;
+        } else {
+            waitingTails[device] = process.ioPrev;
+        }
+        process.ioPrev = null;
+        process.ioNext = null;
+        process.ioWaitingOn = -1;
+        waitingCounts[device]--;
+    }
+
+    private void startService(int device, Process process, long startMs) {
+        inService[device] = process;
+        serviceIds[device]++;
+        completions.add(new Completion(startMs + serviceTimeMs(device), device, serviceIds[device], process));
+    }
+
+    // Disk is steady; network and user input are exponential with long tails
+    private long serviceTimeMs(int device) {
+        long mean = MEAN_SERVICE_MS[device];
+        if (device == DISK) {
+            return (long) (mean * (0.5f + random.nextFloat()));
+        }
+        return Math.max(100, (long) (-Math.log(1 - random.nextDouble()) * mean));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.processcommander;
+
+/**
+ * Fixed 1 ms buckets from 0 to MAX_MS; anything slower lands in the last bucket.
+ * Recording is allocation-free and the whole thing is a few hundred ints.
+ */
+public class LatencyHistogram {
+    static final int MAX_MS = 250;
+
+    private final int[] buckets = new int[MAX_MS + 1];
+    private long count = 0;
+    private long sumMs = 0;
+    private double sumSquaresMs = 0;
+    private long maxMs = 0;
+
+    public synchronized void record(long latencyMs) {
+        if (latencyMs < 0) {
+            return;
+        }
+        buckets[(int) Math.min(latencyMs, MAX_MS)]++;
+        count++;
+        sumMs += latencyMs;
+        sumSquaresMs += (double) latencyMs * latencyMs;
+        maxMs = Math.max(maxMs, latencyMs);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized float getMeanMs() {
+        return count == 0 ? 0 : (float) sumMs / count;
+    }
+
+    public synchronized long getMaxMs() {
+        return maxMs;
+    }
+
+    /**
+     * Smallest bucket that covers the given fraction of samples, e.g. 0.95 for p95
+     */
+    public synchronized int percentileMs(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int ms = 0; ms <= MAX_MS; ms++) {
+            seen += buckets[ms];
+            if (seen >= rank) {
+                return ms;
+            }
+        }
+        return MAX_MS;
+    }
+
+    /**
+     * Everything recorded so far as a session metric, so it is saved with the game's other metrics
+     */
+    public synchronized SessionMetrics.Summary summarize(String name) {
+        double mean = getMeanMs();
+        double variance = count == 0 ? 0 : Math.max(0, sumSquaresMs / count - mean * mean);
+        return new SessionMetrics.Summary(name, count, mean, Math.sqrt(variance),
+                percentileMs(0.5), percentileMs(0.95), maxMs);
+    }
+}
@@ -15,8 +15,8 @@ public class MainActivity extends Activity {
     private RadioGroup difficultyRadioGroup;
     private TextView lastScoreTextView; // TextView to display last score/reason
     private static final int GAME_ACTIVITY_REQUEST_CODE = 1; // Request code for starting GameActivity
-    private static final String PREFS_NAME = "ProcessCommanderPrefs";
-    private static final String PREF_DIFFICULTY = "difficulty";
+    private static final String PREFS_NAME = DifficultyProfiles.PREFS_NAME;
+    private static final String PREF_DIFFICULTY = DifficultyProfiles.PREF_DIFFICULTY;
     private static final String PREF_LAST_SCORE = "lastScore";
     private static final String PREF_LAST_REASON = "lastReason"; // Key to save reason
 
@@ -24,6 +24,9 @@ public class MainActivity extends Activity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
+        
+        // Parse the difficulty profiles in the background so starting a game does no I/O
+        DifficultyProfiles.preload(this);
 
         Button startButton = findViewById(R.id.startButton);
         Button highScoresButton = findViewById(R.id.highScoresButton);
@@ -32,10 +35,10 @@ public class MainActivity extends Activity {
 
         // Load saved difficulty
         SharedPreferences settings = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
-        int savedDifficulty = settings.getInt(PREF_DIFFICULTY, 1); // Default to medium
-        if (savedDifficulty == 0) {
+        int savedDifficulty = settings.getInt(PREF_DIFFICULTY, DifficultyProfile.LEVEL_MEDIUM);
+        if (savedDifficulty == DifficultyProfile.LEVEL_EASY) {
             difficultyRadioGroup.check(R.id.radioEasy);
-        } else if (savedDifficulty == 2) {
+        } else if (savedDifficulty == DifficultyProfile.LEVEL_HARD) {
             difficultyRadioGroup.check(R.id.radioHard);
         } else {
             difficultyRadioGroup.check(R.id.radioMedium);
@@ -51,16 +54,17 @@ public class MainActivity extends Activity {
             public void onClick(View v) {
                 // Save selected difficulty
                 int selectedId = difficultyRadioGroup.getCheckedRadioButtonId();
-                int difficulty = 1; // Default to medium
+                int difficulty = DifficultyProfile.LEVEL_MEDIUM;
                 if (selectedId == R.id.radioEasy) {
-                    difficulty = 0;
+                    difficulty = DifficultyProfile.LEVEL_EASY;
                 } else if (selectedId == R.id.radioHard) {
-                    difficulty = 2;
+                    difficulty = DifficultyProfile.LEVEL_HARD;
                 }
                 saveDifficultySetting(difficulty);
 
-                // Start game activity
+                // Start game activity, handing over the chosen level so it needn't read prefs
                 Intent intent = new Intent(MainActivity.this, GameActivity.class);
+                intent.putExtra(GameActivity.EXTRA_DIFFICULTY, difficulty);
                 startActivityForResult(intent, GAME_ACTIVITY_REQUEST_CODE); // Use startActivityForResult
             }
         });
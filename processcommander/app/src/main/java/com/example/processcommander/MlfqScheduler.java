@@ -0,0 +1,96 @@
+package com.example.processcommander;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Multi-level feedback queue. New and I/O-bound processes start on the top level with a
+ * short quantum; a process that uses its whole quantum drops a level, where quanta are
+ * longer. Every boost interval everything moves back to the top so long jobs can't starve.
+ */
+public class MlfqScheduler implements Scheduler {
+    private final long[] quantaMs;
+    private final long boostIntervalMs;
+    private final List<ArrayDeque<Process>> levels;
+    private final IdentityHashMap<Process, Integer> levelOf = new IdentityHashMap<>();
+    private long lastBoostMs = -1;
+
+    public MlfqScheduler(long[] quantaMs, long boostIntervalMs) {
+        this.quantaMs = quantaMs.clone();
+        this.boostIntervalMs = boostIntervalMs;
+        this.levels = new ArrayList<>(quantaMs.length);
+        for (int i = 0; i < quantaMs.length; i++) {
+            levels.add(new ArrayDeque<Process>());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "MLFQ(" + quantaMs.length + " levels)";
+    }
+
+    @Override
+    public void onReady(Process process, long nowMs) {
+        levels.get(levelFor(process)).addLast(process);
+    }
+
+    @Override
+    public void onRemoved(Process process) {
+        Integer level = levelOf.get(process);
+        levels.get(level != null ? level : 0).remove(process);
+    }
+
+    @Override
+    public Process selectNext(long nowMs) {
+        if (lastBoostMs < 0) {
+            lastBoostMs = nowMs;
+        } else if (nowMs - lastBoostMs >= boostIntervalMs) {
+            boost();
+            lastBoostMs = nowMs;
+        }
+        for (ArrayDeque<Process> level : levels) {
+            Process next = level.pollFirst();
+            if (next != null) {
+                return next;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long getQuantumMs(Process process) {
+        return quantaMs[levelFor(process)];
+    }
+
+    @Override
+    public void onQuantumExpired(Process process) {
+        // Used its whole slice: treat as CPU bound and demote
+        levelOf.put(process, Math.min(levels.size() - 1, levelFor(process) + 1));
+    }
+
+    @Override
+    public void reset() {
+        for (ArrayDeque<Process> level : levels) {
+            level.clear();
+        }
+        levelOf.clear();
+        lastBoostMs = -1;
+    }
+
+    private int levelFor(Process process) {
+        Integer level = levelOf.get(process);
+        return level != null ? level : 0;
+    }
+
+    private void boost() {
+        ArrayDeque<Process> top = levels.get(0);
+        for (int i = 1; i < levels.size(); i++) {
+            top.addAll(levels.get(i));
+            levels.get(i).clear();
+        }
+        // Forget demotions, including for processes running or blocked right now
+        levelOf.clear();
+    }
+}
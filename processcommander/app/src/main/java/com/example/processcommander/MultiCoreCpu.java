@@ -0,0 +1,174 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * N-core CPU model. Each core owns a run queue and time-slices between its processes
+ * round-robin; an idle core steals a waiting process from the busiest core. A tick does
+ * constant work per core, so the cost grows linearly with the core count.
+ */
+public class MultiCoreCpu {
+    public static final int MIN_CORES = 1;
+    public static final int MAX_CORES = 64;
+
+    // Time constant of the utilization average: about 0.1 weight per 60 Hz frame, at any tick length
+    private static final float UTILIZATION_TAU_SECONDS = 0.16f;
+
+    private final Core[] cores;
+    private final float timeSliceSeconds;
+
+    public MultiCoreCpu(int coreCount, long timeSliceMs) {
+        coreCount = Math.max(MIN_CORES, Math.min(MAX_CORES, coreCount));
+        this.cores = new Core[coreCount];
+        for (int i = 0; i < coreCount; i++) {
+            cores[i] = new Core(i);
+        }
+        this.timeSliceSeconds = timeSliceMs / 1000f;
+    }
+
+    /**
+     * Place a process on the core with the shortest run queue
+     */
+    public void assign(Process process) {
+        if (process.getCoreIndex() >= 0) {
+            return;
+        }
+        Core target = cores[0];
+        for (int i = 1; i < cores.length; i++) {
+            if (cores[i].runQueue.size() < target.runQueue.size()) {
+                target = cores[i];
+            }
+        }
+        target.add(process);
+    }
+
+    public void remove(Process process) {
+        int index = process.getCoreIndex();
+        if (index >= 0 && index < cores.length) {
+            cores[index].remove(process);
+        }
+    }
+
+    /**
+     * Whether the process currently holds its core (as opposed to waiting in the core's run queue)
+     */
+    public boolean isExecuting(Process process) {
+        int index = process.getCoreIndex();
+        return index >= 0 && index < cores.length && cores[index].current() == process;
+    }
+
+    public void tick(float deltaTime, Random random) {
+        // One pass to find the core with the most waiting work for idle cores to steal from
+        Core busiest = cores[0];
+        for (int i = 1; i < cores.length; i++) {
+            if (cores[i].runQueue.size() > busiest.runQueue.size()) {
+                busiest = cores[i];
+            }
+        }
+
+        for (Core core : cores) {
+            if (core.runQueue.isEmpty() && busiest.runQueue.size() > 1) {
+                Process stolen = busiest.stealWaiting();
+                if (stolen != null) {
+                    core.add(stolen);
+                }
+            }
+            core.tick(deltaTime, timeSliceSeconds, random);
+        }
+    }
+
+    public int getCoreCount() {
+        return cores.length;
+    }
+
+    public float getUtilization(int coreIndex) {
+        return cores[coreIndex].utilization;
+    }
+
+    public int getRunQueueLength(int coreIndex) {
+        return cores[coreIndex].runQueue.size();
+    }
+
+    private static class Core {
+        final int index;
+        final ArrayList<Process> runQueue = new ArrayList<>();
+        int currentSlot = 0;
+        float sliceRemaining = 0;
+        float utilization = 0;
+
+        Core(int index) {
+            this.index = index;
+        }
+
+        void add(Process process) {
+            runQueue.add(process);
+            process.setCoreIndex(index);
+        }
+
+        void remove(Process process) {
+            int slot = runQueue.indexOf(process);
+            if (slot < 0) {
+                return;
+            }
+            runQueue.remove(slot);
+            process.setCoreIndex(-1);
+            if (slot < currentSlot) {
+                currentSlot--;
+            } else if (slot == currentSlot) {
+                sliceRemaining = 0; // Next process starts a fresh slice
+            }
+            if (currentSlot >= runQueue.size()) {
+                currentSlot = 0;
+            }
+        }
+
+        Process current() {
+            return runQueue.isEmpty() ? null : runQueue.get(currentSlot);
+        }
+
+        // Take a runnable process that is not on the CPU right now
+        Process stealWaiting() {
+            for (int i = runQueue.size() - 1; i >= 0; i--) {
+                Process candidate = runQueue.get(i);
+                if (i != currentSlot && candidate.getState() == Process.State.RUNNING) {
+                    remove(candidate);
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        void tick(float deltaTime, float timeSliceSeconds, Random random) {
+            Process process = pickRunnable(timeSliceSeconds);
+            boolean busy = process != null;
+            if (busy) {
+                process.execute(deltaTime, random);
+                sliceRemaining -= deltaTime;
+                if (sliceRemaining <= 0 && runQueue.size() > 1) {
+                    currentSlot = (currentSlot + 1) % runQueue.size();
+                    sliceRemaining = timeSliceSeconds;
+                }
+            }
+            // Weight the sample by the time it covers, so slow frames and fast-forward steps agree
+            float alpha = 1f - (float) Math.exp(-deltaTime / UTILIZATION_TAU_SECONDS);
+            utilization += ((busy ? 1f : 0f) - utilization) * alpha;
+        }
+
+        // Skip over processes that are blocked on an interrupt while still parked on this core
+        private Process pickRunnable(float timeSliceSeconds) {
+            for (int tries = 0; tries < runQueue.size(); tries++) {
+                Process candidate = runQueue.get(currentSlot);
+                if (candidate.getState() == Process.State.RUNNING) {
+                    if (sliceRemaining <= 0) {
+                        sliceRemaining = timeSliceSeconds;
+                    }
+                    return candidate;
+                }
+                currentSlot = (currentSlot + 1) % runQueue.size();
+                sliceRemaining = 0;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.processcommander;
+
+import java.util.Arrays;
+
+/**
+ * A process's pages. Resident pages occupy frames[0..residentPages); swapped pages were
+ * evicted to the swap tier and come back when the process runs again; unmapped pages
+ * found neither a free frame nor anything to evict, and still count as used memory.
+ * A move between queues only touches the pages that change.
+ */
+public class PageTable {
+    private int[] frames = new int[16];
+    private int residentPages = 0;
+    private int swappedPages = 0;
+    private int targetPages = 0;
+    private boolean evictable = false;
+
+    /**
+     * Grow or shrink to the given number of pages. Shrinking drops swapped pages before
+     * resident ones; growing maps new pages to fresh frames.
+     */
+    public void resize(int pages, FrameAllocator allocator) {
+        targetPages = pages;
+        int excess = residentPages + swappedPages - pages;
+        if (excess > 0) {
+            int dropped = Math.min(excess, swappedPages);
+            swappedPages -= dropped;
+            excess -= dropped;
+            while (excess-- > 0) {
+                allocator.free(frames[--residentPages]);
+            }
+        }
+        while (residentPages + swappedPages < pages) {
+            if (!mapOne(allocator)) {
+                break; // Nothing free or evictable; the rest stay unmapped until frames free up
+            }
+        }
+    }
+
+    /**
+     * Bring swapped pages back into frames; returns how many came back
+     */
+    public int swapIn(FrameAllocator allocator) {
+        int loaded = 0;
+        while (swappedPages > 0 && mapOne(allocator)) {
+            swappedPages--;
+            loaded++;
+        }
+        return loaded;
+    }
+
+    /**
+     * Whether the allocator may swap out this table's pages
+     */
+    public void setEvictable(boolean canEvict, FrameAllocator allocator) {
+        if (evictable == canEvict) {
+            return;
+        }
+        evictable = canEvict;
+        for (int slot = 0; slot < residentPages; slot++) {
+            allocator.setEvictable(frames[slot], canEvict);
+        }
+    }
+
+    public void release(FrameAllocator allocator) {
+        resize(0, allocator);
+    }
+
+    // Called by the allocator: the page in this slot goes to swap; the last resident page fills the hole
+    void swapOut(int slot, FrameAllocator allocator) {
+        int last = frames[--residentPages];
+        if (slot != residentPages) {
+            frames[slot] = last;
+            allocator.setSlot(last, slot);
+        }
+        swappedPages++;
+    }
+
+    private boolean mapOne(FrameAllocator allocator) {
+        int frame = allocator.allocate(this, residentPages);
+        if (frame < 0) {
+            return false;
+        }
+        if (residentPages == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        frames[residentPages++] = frame;
+        if (evictable) {
+            allocator.setEvictable(frame, true);
+        }
+        return true;
+    }
+
+    public int frameOf(int slot) {
+        return frames[slot];
+    }
+
+    public int getResidentPages() {
+        return residentPages;
+    }
+
+    public int getSwappedPages() {
+        return swappedPages;
+    }
+
+    public int getUnmappedPages() {
+        return targetPages - residentPages - swappedPages;
+    }
+}
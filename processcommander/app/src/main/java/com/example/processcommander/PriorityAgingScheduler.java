@@ -0,0 +1,75 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+
+/**
+ * The engine's own policy, as the starvation checker applies it: highest priority first,
+ * with a process gaining one priority level for every starvation threshold it waits.
+ * Runs to completion.
+ */
+public class PriorityAgingScheduler implements Scheduler {
+    private final ArrayList<Process> ready = new ArrayList<>();
+    private final ArrayList<Long> readySince = new ArrayList<>();
+    private final long agingIntervalMs;
+
+    public PriorityAgingScheduler(long agingIntervalMs) {
+        this.agingIntervalMs = agingIntervalMs;
+    }
+
+    @Override
+    public String getName() {
+        return "Engine priority+aging";
+    }
+
+    @Override
+    public void onReady(Process process, long nowMs) {
+        ready.add(process);
+        readySince.add(nowMs);
+    }
+
+    @Override
+    public void onRemoved(Process process) {
+        int index = ready.indexOf(process);
+        if (index >= 0) {
+            ready.remove(index);
+            readySince.remove(index);
+        }
+    }
+
+    @Override
+    public Process selectNext(long nowMs) {
+        if (ready.isEmpty()) {
+            return null;
+        }
+        int best = 0;
+        long bestPriority = effectivePriority(0, nowMs);
+        for (int i = 1; i < ready.size(); i++) {
+            long priority = effectivePriority(i, nowMs);
+            if (priority > bestPriority) {
+                best = i;
+                bestPriority = priority;
+            }
+        }
+        readySince.remove(best);
+        return ready.remove(best);
+    }
+
+    @Override
+    public long getQuantumMs(Process process) {
+        return NO_QUANTUM;
+    }
+
+    @Override
+    public void onQuantumExpired(Process process) {
+    }
+
+    @Override
+    public void reset() {
+        ready.clear();
+        readySince.clear();
+    }
+
+    private long effectivePriority(int index, long nowMs) {
+        return ready.get(index).getPriority() + (nowMs - readySince.get(index)) / agingIntervalMs;
+    }
+}
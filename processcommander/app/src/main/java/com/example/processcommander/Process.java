@@ -1,11 +1,9 @@
 package com.example.processcommander;
 
-import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Paint;
 import android.graphics.RectF;
-import android.graphics.Typeface;
 
+import java.util.Random;
 import java.util.UUID;
 
 public class Process {
@@ -36,27 +34,55 @@ public class Process {
     private long cpuBurstTime;        // Time needed to complete
     private long cpuTimeRemaining;    // Time left to complete
     private int memoryRequired;      // Memory needed by the process
-    private long creationTime;       // When the process was created
+    private long creationTime;       // When the process was created, in game time
     private float x, y;              // Position on screen
-    private float targetX, targetY;  // Target position for animations
     private RectF bounds;            // Bounds for touch detection
     private boolean selected;        // Whether this process is selected by user
     private boolean isCritical;
     private boolean hasInterrupt;
     private boolean isIOCompleted;   // Added field for I/O completion status
     private String interruptReason;
+    private int ioDevice = -1;       // IoSubsystem device the interrupt waits on, -1 for none
+    // Links in IoSubsystem's wait list for a device, so joining and leaving it is O(1)
+    int ioWaitingOn = -1;
+    Process ioPrev, ioNext;
+    long nextInterruptAtMs = -1;     // Pre-drawn interrupt time for event-driven simulation, -1 for none
+    private final PageTable pageTable = new PageTable(); // Frames holding the resident pages
+    long swapInRemainingMs = 0;      // Disk time left to page swapped memory back in before it can run
+    // Timestamps kept by SessionMetrics
+    long arrivalMs = -1;
+    long firstRunMs = -1;
+    long queueSinceMs;
+    long readyWaitMs = 0;
+    int metricsQueue = SessionMetrics.QUEUE_NONE;
     private float size;              // Size of the process visual representation
     private boolean dragging;        // Added field
+    private volatile boolean onScreen = true; // False while its queue is scrolled past it
+    private volatile int detail = DETAIL_FULL;
     private boolean ioCompleted;     // Added field for I/O completion status
+    private int coreIndex = -1;      // Core this process is queued on in multi-core mode
+    private long dispatchCpuRemaining; // cpuTimeRemaining when last moved to running, for quanta
 
     // Visual properties
+    static final float INTERRUPT_RATE_PER_SECOND = 0.02f;
     private static final float DEFAULT_PROCESS_SIZE = 120f;
+    // Levels of detail, picked from the slot size at each relayout
+    static final int DETAIL_FULL = 0; // The whole card
+    static final int DETAIL_TILE = 1; // Coloured tile with the priority digit and CPU bar
+    static final int DETAIL_DOT = 2;  // A rect in the state colour, batched by ProcessManager
+    static final float FULL_DETAIL_MIN_SLOT = 90f;
+    static final float TILE_DETAIL_MIN_SLOT = 36f;
+    private static final String[] PRIORITY_LABELS = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10"};
     private static final float TEXT_SIZE = 24f;
 
-    private float animationTime = 0f;  // Time variable for animations
-    private float pulseScale = 1.0f;   // Scale factor for pulsing effect
-
     public Process(String name, int priority, long cpuBurstTime, int memoryRequired) {
+        this(name, priority, cpuBurstTime, memoryRequired, 0);
+    }
+
+    /**
+     * creationTime is on the game clock
+     */
+    public Process(String name, int priority, long cpuBurstTime, int memoryRequired, long creationTime) {
         this.id = UUID.randomUUID().toString();
         this.name = name;
         this.state = State.NEW;
@@ -64,7 +90,7 @@ public class Process {
         this.cpuBurstTime = cpuBurstTime;
         this.cpuTimeRemaining = cpuBurstTime;
         this.memoryRequired = memoryRequired;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = creationTime;
         this.bounds = new RectF();
         this.selected = false;
         this.isCritical = false;
@@ -76,56 +102,59 @@ public class Process {
         this.ioCompleted = false; // Initialize ioCompleted state
     }
 
-    public void update(float deltaTime) {
-        // Update position with smooth animation
-        float speedFactor = 5.0f * deltaTime;
-        x += (targetX - x) * speedFactor;
-        y += (targetY - y) * speedFactor;
-        
-        // Update bounds for touch detection
-        bounds.set(x - size/2, y - size/2, x + size/2, y + size/2);
-                  
+    // Consume CPU time while this process holds a CPU; random is the engine's (seedable) source
+    public void execute(float deltaTime, Random random) {
         // If process is running, decrease remaining time
-        if (state == State.RUNNING) {
+        if (state == State.RUNNING && isSwappingIn()) {
+            swapInRemainingMs = Math.max(0, swapInRemainingMs - (long) (deltaTime * 1000));
+        } else if (state == State.RUNNING) {
             cpuTimeRemaining -= deltaTime * 1000; // Convert to milliseconds
             
             // Random chance to generate interrupt
-            if (!hasInterrupt && Math.random() < 0.02 * deltaTime) { // 2% chance per second
-                generateInterrupt();
+            if (!hasInterrupt && random.nextFloat() < INTERRUPT_RATE_PER_SECOND * deltaTime) { // 2% chance per second
+                raiseInterrupt(IoSubsystem.pickDevice(random));
             }
         }
-        
-        // Update animation time
-        animationTime += deltaTime;
-        
-        // Set pulse scale to default - no critical processes
-        pulseScale = 1.0f;
     }
 
-    private void generateInterrupt() {
+    // Deterministic CPU accounting, also used by headless simulations
+    void consumeCpu(long timeMs) {
+        cpuTimeRemaining -= timeMs;
+    }
+
+    // Called when the process is dispatched so schedulers can measure its slice
+    public void markDispatched() {
+        dispatchCpuRemaining = cpuTimeRemaining;
+    }
+
+    public long getCpuTimeSinceDispatch() {
+        return dispatchCpuRemaining - cpuTimeRemaining;
+    }
+
+    // Block on an I/O request to the given device
+    public void raiseInterrupt(int device) {
         hasInterrupt = true;
-        String[] interruptTypes = {
-            "I/O Request",
-            "Network Access",
-            "Disk Operation",
-            "User Input",
-            "Device Signal"
-        };
-        interruptReason = interruptTypes[(int)(Math.random() * interruptTypes.length)];
+        ioDevice = device;
+        nextInterruptAtMs = -1;
+        interruptReason = IoSubsystem.DEVICE_LABELS[device];
         state = State.BLOCKED;
     }
 
-    public void draw(Canvas canvas, Paint paint, GameView gameView) {
+    public int getIoDevice() {
+        return ioDevice;
+    }
+
+    public void draw(Renderer renderer, boolean blinkDim) {
         // Determine visual properties based on state, selection, etc.
         int color = getColorForState();
         int alpha = 255;
-        Paint.Style style = Paint.Style.FILL;
+        int style = Renderer.FILL;
         float strokeWidth = 4f;
         boolean isBlinking = false;
 
         // Blinking logic for blocked processes with completed I/O
         if (state == State.BLOCKED && isIOCompleted) {
-            if (gameView.shouldBlink()) {
+            if (blinkDim) {
                 alpha = 100; // Dim when blinking off
                 isBlinking = true;
             } else {
@@ -133,61 +162,70 @@ public class Process {
             }
         }
         
+        int detail = this.detail;
+        if (detail == DETAIL_DOT) {
+            drawDot(renderer);
+            return;
+        } else if (detail == DETAIL_TILE) {
+            drawTile(renderer, color, alpha);
+            return;
+        }
+        
         // Process background
-        paint.setColor(color);
-        paint.setAlpha(alpha); 
-        paint.setStyle(style);
+        renderer.setColor(color);
+        renderer.setAlpha(alpha); 
+        renderer.setStyle(style);
         RectF bounds = getBounds();
         float cornerRadius = 15f;
-        canvas.drawRoundRect(bounds, cornerRadius, cornerRadius, paint);
+        renderer.drawRoundRect(bounds, cornerRadius);
 
         // Border (thicker if selected or critical)
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setAlpha(255); // Border always full opacity
+        renderer.setStyle(Renderer.STROKE);
+        renderer.setAlpha(255); // Border always full opacity
         if (selected) {
-            paint.setColor(Color.YELLOW);
-            paint.setStrokeWidth(strokeWidth * 1.5f);
+            renderer.setColor(Color.YELLOW);
+            renderer.setStrokeWidth(strokeWidth * 1.5f);
         } else if (name.startsWith("CRITICAL")) {
-            paint.setColor(Color.RED);
-            paint.setStrokeWidth(strokeWidth * 1.5f);
+            renderer.setColor(Color.RED);
+            renderer.setStrokeWidth(strokeWidth * 1.5f);
         } else {
-            paint.setColor(Color.WHITE);
-            paint.setStrokeWidth(strokeWidth);
+            renderer.setColor(Color.WHITE);
+            renderer.setStrokeWidth(strokeWidth);
         }
-        canvas.drawRoundRect(bounds, cornerRadius, cornerRadius, paint);
+        renderer.drawRoundRect(bounds, cornerRadius);
 
         // Text color (adjust for blinking)
         if (isBlinking && alpha < 200) {
-            paint.setColor(Color.LTGRAY); // Dim text when background is dim
+            renderer.setColor(Color.LTGRAY); // Dim text when background is dim
         } else if (name.startsWith("CRITICAL")) {
-            paint.setColor(Color.RED); // Critical text is red
+            renderer.setColor(Color.RED); // Critical text is red
         } else {
-            paint.setColor(Color.WHITE);
+            renderer.setColor(Color.WHITE);
         }
-        paint.setAlpha(255); // Text always full opacity relative to its color
-        paint.setStyle(Paint.Style.FILL);
-        paint.setTextAlign(Paint.Align.CENTER);
+        renderer.setAlpha(255); // Text always full opacity relative to its color
+        renderer.setStyle(Renderer.FILL);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
         
         // Draw Process Name (adjust size)
         float nameTextSize = size * 0.18f;
-        paint.setTextSize(nameTextSize);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        canvas.drawText(name, x, y - nameTextSize * 0.5f, paint);
+        renderer.setTextSize(nameTextSize);
+        renderer.setBold(true);
+        renderer.drawText(name, x, y - nameTextSize * 0.5f);
 
         // Draw Priority and State (adjust size)
         float infoTextSize = size * 0.15f;
-        paint.setTextSize(infoTextSize);
-        paint.setTypeface(Typeface.DEFAULT);
+        renderer.setTextSize(infoTextSize);
+        renderer.setBold(false);
         String stateLabel = (state == State.BLOCKED && isIOCompleted) ? "IO Done!" : state.getLabel(); // Show IO Done state
-        canvas.drawText("P:" + priority + " | " + stateLabel, x, y + infoTextSize * 1.2f, paint);
+        renderer.drawText("P:" + priority + " | " + stateLabel, x, y + infoTextSize * 1.2f);
 
         // Draw CPU and Memory requirements
-        paint.setColor(Color.rgb(255, 235, 180)); // Light amber color for resource info
-        paint.setTextSize(infoTextSize * 0.9f);
+        renderer.setColor(Color.rgb(255, 235, 180)); // Light amber color for resource info
+        renderer.setTextSize(infoTextSize * 0.9f);
         
         // Display CPU burst time remaining and memory required
         String resourceText = "CPU: " + formatTime(cpuTimeRemaining) + " | MEM: " + memoryRequired + "MB";
-        canvas.drawText(resourceText, x, y + infoTextSize * 2.4f, paint);
+        renderer.drawText(resourceText, x, y + infoTextSize * 2.4f);
 
         // Draw resource bars
         float barWidth = size * 0.7f;
@@ -195,52 +233,111 @@ public class Process {
         float barY = y + infoTextSize * 3.2f;
         
         // CPU bar background
-        paint.setColor(Color.DKGRAY);
+        renderer.setColor(Color.DKGRAY);
         RectF cpuBarBg = new RectF(x - barWidth/2, barY, x + barWidth/2, barY + barHeight);
-        canvas.drawRect(cpuBarBg, paint);
+        renderer.drawRect(cpuBarBg);
         
         // CPU bar foreground (shows percentage of time remaining)
         float cpuPercent = Math.max(0, Math.min(1, (float)cpuTimeRemaining / cpuBurstTime));
-        paint.setColor(Color.rgb(65, 200, 245)); // Cyan for CPU
+        renderer.setColor(Color.rgb(65, 200, 245)); // Cyan for CPU
         RectF cpuBarFg = new RectF(
             cpuBarBg.left, 
             cpuBarBg.top, 
             cpuBarBg.left + cpuBarBg.width() * cpuPercent, 
             cpuBarBg.bottom
         );
-        canvas.drawRect(cpuBarFg, paint);
+        renderer.drawRect(cpuBarFg);
         
         // Memory bar background
-        paint.setColor(Color.DKGRAY);
+        renderer.setColor(Color.DKGRAY);
         RectF memBarBg = new RectF(x - barWidth/2, barY + barHeight + 5, x + barWidth/2, barY + barHeight*2 + 5);
-        canvas.drawRect(memBarBg, paint);
+        renderer.drawRect(memBarBg);
         
         // Memory bar foreground (fixed since memory requirement doesn't change)
-        paint.setColor(Color.rgb(245, 170, 65)); // Orange for memory
+        renderer.setColor(Color.rgb(245, 170, 65)); // Orange for memory
         RectF memBarFg = new RectF(
             memBarBg.left, 
             memBarBg.top, 
             memBarBg.left + memBarBg.width() * Math.min(1, memoryRequired / 200f), // Scale based on max expected memory
             memBarBg.bottom
         );
-        canvas.drawRect(memBarFg, paint);
+        renderer.drawRect(memBarFg);
 
         // Draw Interrupt Reason if any
         if (hasInterrupt && !interruptReason.isEmpty()) {
-             paint.setColor(Color.YELLOW);
-             paint.setTextSize(infoTextSize * 0.9f);
-             canvas.drawText(interruptReason, x, y + infoTextSize * 5.0f, paint);
+             renderer.setColor(Color.YELLOW);
+             renderer.setTextSize(infoTextSize * 0.9f);
+             renderer.drawText(interruptReason, x, y + infoTextSize * 5.0f);
         }
         
-        // Reset paint defaults
-        paint.setColor(Color.WHITE);
-        paint.setAlpha(255);
-        paint.setTextAlign(Paint.Align.LEFT);
-        paint.setTypeface(Typeface.DEFAULT);
-        paint.setStrokeWidth(1f);
+        resetState(renderer);
+    }
+
+    // Small tier: the tile in its state colour, priority digit and CPU bar
+    private void drawTile(Renderer renderer, int color, int alpha) {
+        RectF bounds = getBounds();
+        float cornerRadius = size * 0.12f;
+        renderer.setColor(color);
+        renderer.setAlpha(alpha);
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRoundRect(bounds, cornerRadius);
+
+        // Border only when it means something
+        if (selected || name.startsWith("CRITICAL")) {
+            renderer.setStyle(Renderer.STROKE);
+            renderer.setColor(selected ? Color.YELLOW : Color.RED);
+            renderer.setStrokeWidth(4f);
+            renderer.drawRoundRect(bounds, cornerRadius);
+            renderer.setStyle(Renderer.FILL);
+        }
+
+        float digitSize = size * 0.45f;
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(digitSize);
+        renderer.setTextAlign(Renderer.ALIGN_CENTER);
+        renderer.setBold(true);
+        renderer.drawText(priority >= 0 && priority < PRIORITY_LABELS.length ? PRIORITY_LABELS[priority] : String.valueOf(priority),
+                x, y + digitSize * 0.2f);
+
+        // CPU bar along the bottom
+        float barWidth = size * 0.7f;
+        float barHeight = Math.max(2f, size * 0.08f);
+        float barLeft = x - barWidth / 2;
+        float barTop = bounds.bottom - size * 0.12f - barHeight;
+        float cpuPercent = Math.max(0, Math.min(1, (float) cpuTimeRemaining / cpuBurstTime));
+        renderer.setColor(Color.DKGRAY);
+        renderer.drawRect(barLeft, barTop, barLeft + barWidth, barTop + barHeight);
+        renderer.setColor(Color.rgb(65, 200, 245));
+        renderer.drawRect(barLeft, barTop, barLeft + barWidth * cpuPercent, barTop + barHeight);
+
+        resetState(renderer);
+    }
+
+    // Tiny tier on its own; ProcessManager batches the unselected ones instead
+    private void drawDot(Renderer renderer) {
+        renderer.setColor(getColorForState());
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRect(getBounds());
+        if (selected) {
+            renderer.setStyle(Renderer.STROKE);
+            renderer.setColor(Color.YELLOW);
+            renderer.setStrokeWidth(3f);
+            renderer.drawRect(getBounds());
+            renderer.setStyle(Renderer.FILL);
+        }
+        resetState(renderer);
+    }
+
+    private static void resetState(Renderer renderer) {
+        // Reset state defaults
+        renderer.setColor(Color.WHITE);
+        renderer.setAlpha(255);
+        renderer.setTextAlign(Renderer.ALIGN_LEFT);
+        renderer.setBold(false);
+        renderer.setStrokeWidth(1f);
     }
 
-    private int getColorForState() {
+    int getColorForState() {
         switch (state) {
             case NEW:
                 return Color.GRAY;
@@ -263,11 +360,6 @@ public class Process {
         updateBounds();
     }
 
-    public void setTargetPosition(float x, float y) {
-        this.targetX = x;
-        this.targetY = y;
-    }
-
     public boolean contains(float touchX, float touchY) {
         return bounds.contains(touchX, touchY);
     }
@@ -321,6 +413,14 @@ public class Process {
         return selected;
     }
 
+    public boolean isOnScreen() {
+        return onScreen;
+    }
+
+    public void setOnScreen(boolean onScreen) {
+        this.onScreen = onScreen;
+    }
+
     public void setSelected(boolean selected) {
         this.selected = selected;
     }
@@ -344,6 +444,7 @@ public class Process {
     public void clearInterrupt() {
         hasInterrupt = false;
         interruptReason = "";
+        ioDevice = -1;
     }
 
     public boolean isIOCompleted() {
@@ -364,6 +465,24 @@ public class Process {
         return size;
     }
 
+    /**
+     * Pick the level of detail for a slot of this size. Full cards keep their usual size;
+     * the smaller tiers shrink to the slot so dense queues don't overlap.
+     */
+    public void fitToSlot(float slotSize) {
+        if (slotSize >= FULL_DETAIL_MIN_SLOT) {
+            detail = DETAIL_FULL;
+            setSize(DEFAULT_PROCESS_SIZE);
+        } else {
+            detail = slotSize >= TILE_DETAIL_MIN_SLOT ? DETAIL_TILE : DETAIL_DOT;
+            setSize(slotSize);
+        }
+    }
+
+    public int getDetail() {
+        return detail;
+    }
+
     public void setInterrupted(boolean interrupted) {
         this.hasInterrupt = interrupted;
         if (interrupted) {
@@ -375,6 +494,22 @@ public class Process {
         bounds.set(x - size/2, y - size/2, x + size/2, y + size/2);
     }
 
+    public int getCoreIndex() {
+        return coreIndex;
+    }
+
+    public void setCoreIndex(int coreIndex) {
+        this.coreIndex = coreIndex;
+    }
+
+    public boolean isSwappingIn() {
+        return swapInRemainingMs > 0;
+    }
+
+    public PageTable getPageTable() {
+        return pageTable;
+    }
+
     public boolean isDragging() {
         return dragging;
     }
@@ -383,7 +518,7 @@ public class Process {
         this.dragging = dragging;
     }
 
-    private RectF getBounds() {
+    RectF getBounds() {
         return bounds;
     }
 
@@ -1,37 +1,26 @@
 package com.example.processcommander;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.os.Vibrator;
 import android.content.Context;
-import android.os.VibrationEffect;
-import android.os.Build;
 import android.view.Display;
 import android.view.WindowManager;
 import android.graphics.Point;
-import android.content.SharedPreferences;
 import android.graphics.RectF;
 import android.graphics.PointF;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ProcessManager {
     // Constants
     private static final int MAX_PROCESSES = 15;
-    private static final int MAX_RUNNING_PROCESSES = 4;
-    private static final int RUNNING_QUEUE_SIZE = 3;
-    private static final int READY_QUEUE_SIZE = 5;
-    private static final int BLOCKED_QUEUE_SIZE = 4;
-    private static final long PROCESS_GEN_INTERVAL_MS = 5000; // Time between new process generation
+    private static final int QUEUE_INDEX_NEW = 3; // The new queue, after QueueTransaction's RUNNING, READY and BLOCKED
+    private static final int RUNNING_QUEUE_SIZE = 3; // Slots per core
     private static final String[] PROCESS_NAMES = {
             "Browser", "FileSystem", "Network", "Audio", "Video", 
             "SystemUI", "Kernel", "Memory", "Update", "Security", 
@@ -41,26 +30,23 @@ public class ProcessManager {
     // Android context and system services
     private Context context;
     private Random random;
-    private Vibrator vibrator;
     
-    // Difficulty settings
-    private static final String PREFS_NAME = "ProcessCommanderPrefs";
-    private static final String PREF_DIFFICULTY = "difficulty";
-    private int difficultyLevel; // 0=easy, 1=medium, 2=hard
+    // Engine events (starvation, penalties, emergencies, ...) for haptics and sound, published
+    // from the simulation thread only
+    private final EngineEventBus events = new EngineEventBus(256);
+    private HapticFeedback haptics;
+    
+    // Difficulty settings, preloaded and immutable
+    private final DifficultyProfile profile;
     
     // Difficulty progression
     private long gameStartTime;
     private float difficultyMultiplier = 1.0f; // Increases as game progresses
-    private static final float EASY_MODE_DIFFICULTY_INCREASE_RATE = 0.05f; // 5% more difficult per minute
-    private static final float HARD_MODE_DIFFICULTY_INCREASE_RATE = 0.1f; // 10% more difficult per minute
-    
-    // Resource adjustment based on difficulty
-    private float cpuUsageMultiplier;
-    private float memoryUsageMultiplier;
-    private int maxProcessesByDifficulty;
     private int maxRunningProcessesByDifficulty;
-    private long emergencyIntervalMin; // min time between emergencies in ms
-    private long emergencyIntervalMax; // max time between emergencies in ms
+    
+    // CPU model: null on a single core, where every running process progresses at once
+    private MultiCoreCpu multiCoreCpu;
+    private int runningQueueCapacity;
     
     // System resources
     private int totalCPU = 100;
@@ -68,6 +54,18 @@ public class ProcessManager {
     private int totalMemory = 1024; // MB
     private int usedMemory = 0;
     
+    // Physical memory in frames; each queue keeps a share of a process's pages resident
+    private final FrameAllocator frames = new FrameAllocator(totalMemory);
+    private int unmappedPages = 0; // Pages wanted but not backed by a frame, which still count as used
+    private float sizedForMultiplier = Float.NaN; // difficultyMultiplier the working sets were last sized for
+    private static final float NEW_RESIDENT_SHARE = 0.3f;
+    private static final float RUNNING_RESIDENT_SHARE = 1.0f;
+    private static final float READY_RESIDENT_SHARE = 0.5f;
+    private static final float BLOCKED_RESIDENT_SHARE = 0.3f;
+    // Simulated disk time to bring one swapped page back before the process can run
+    static final long SWAP_IN_MS_PER_PAGE = 10;
+    private int swappedPages = 0;
+    
     // Screen dimensions for process positioning
     private int screenWidth;
     private int screenHeight;
@@ -82,7 +80,10 @@ public class ProcessManager {
     private Process selectedProcess;
 
     // Starvation prevention
-    private static final long STARVATION_THRESHOLD_MS = 30000; // 30 seconds
+    static final long STARVATION_THRESHOLD_MS = 30000; // 30 seconds
+    static final float INTERRUPT_RATE_PER_SECOND = 0.05f;
+    // Fixed step for fast-forwarding multi-core games, whose time slices rotate every few ms
+    static final long MULTI_CORE_STEP_MS = 100;
     private ConcurrentHashMap<Process, Long> processWaitTimes;
     
     // Flags and state
@@ -90,46 +91,78 @@ public class ProcessManager {
     private long emergencyStartTime = 0; // Track when emergency started
     private int emergencyTimeoutSeconds = 15; // How long before emergency escalates
     private int criticalPenaltyCount = 0; // Track how many critical tasks were ignored
-    private int score = 0;
+    // Every scoring event; the score is its running total
+    private final ScoreLedger scoreLedger = new ScoreLedger();
     private int processesCompleted = 0;
     private int emergencyEventsHandled = 0;
     private boolean gameOver = false;
     private String gameOverReason = ""; // Add field to store reason
     private static final int CRITICAL_GRACE_PERIOD = 5; // Grace period in seconds before critical processes can have penalties
+    private static final Comparator<Process> LOWEST_PRIORITY_FIRST = new Comparator<Process>() {
+        @Override
+        public int compare(Process p1, Process p2) {
+            return Integer.compare(p1.getPriority(), p2.getPriority());
+        }
+    };
+    
+    // Optional scheduling policy; null means the player makes every move by hand
+    private volatile Scheduler scheduler;
+    
+    // Per-second history of resources and queue sizes, saved with the score at game over
+    private TimelineRecorder timeline;
+    private float timelineSampleTimer = 0;
+    
+    // Devices that blocked processes wait on
+    private IoSubsystem io;
+    
+    // Slot animations; only processes in motion are tracked
+    private final TweenEngine tweens = new TweenEngine();
+    
+    // Per-tick scratch, reused so a frame allocates nothing (AllocationBudgetTest holds us to it)
+    private final List<Process> completedScratch = new ArrayList<>();
+    private final List<Process> unblockScratch = new ArrayList<>();
+    // Relayout output; also the lock for relayouts, which the UI thread runs on surface changes
+    private final PointF slotPosition = new PointF();
+    // Tiny-tier processes of the frame being drawn; used by the drawing thread only
+    private final RectBatch dotBatch = new RectBatch();
+    
+    // Throughput, turnaround, waiting, response, residency and utilisation for this session
+    private final SessionMetrics metrics = new SessionMetrics();
+    
+    // Timing spans for profiling; records nothing unless a tracer is installed
+    private volatile Tracer tracer = Tracer.NONE;
     
     // Threading
-    private ExecutorService threadPool;
-    private volatile boolean isRunning = true;
+    private volatile boolean isRunning = false;
+    
+    // Game time, advanced once per update() and read everywhere else. Arrivals, starvation
+    // checks and the difficulty curve all run on it, so pausing or scaling it covers them all.
+    private final GameClock clock;
+    
+    // Headless mode (bots, calibration, tests): no threads and no Android services
+    private final boolean headless;
+    private long nextArrivalAtMs;
+    private long nextStarvationCheckAtMs;
     
     // Priority system
     private int nextProcessPriority = 10; // Start with highest priority
     private boolean initialPriorityPhase = true; // Track if we're still in the initial 1-10 phase
     
-    // References to GameView's queue areas (need to be set)
-    private RectF newProcessAreaRef;
-    private RectF runningQueueAreaRef;
-    private RectF readyQueueAreaRef;
-    private RectF blockedQueueAreaRef;
+    // Queue capacities; ready and blocked come from the profile and may run to hundreds
+    private final int readyQueueCapacity;
+    private final int blockedQueueCapacity;
     
-    private static final int SLOTS_PER_ROW = 3; 
-    private static final float SLOT_SPACING = 15f;
+    // Scrollable windows onto GameView's queue areas (areas need to be set); only the
+    // processes in a window are laid out, drawn and hit-tested
+    private final QueueViewport newViewport;
+    private final QueueViewport runningViewport;
+    private final QueueViewport readyViewport;
+    private final QueueViewport blockedViewport;
     
-    public ProcessManager(Context context) {
+    public ProcessManager(Context context, DifficultyProfile profile, GameClock clock) {
+        this(profile, new Random(), clock, false);
         this.context = context;
-        this.newProcesses = new CopyOnWriteArrayList<>(); // Initialize new list
-        this.runningQueue = new CopyOnWriteArrayList<>();
-        this.readyQueue = new CopyOnWriteArrayList<>();
-        this.blockedQueue = new CopyOnWriteArrayList<>();
-        this.processWaitTimes = new ConcurrentHashMap<>();
-        this.random = new Random();
-        this.vibrator = (Vibrator) context.getSystemService(Context.VIBRATOR_SERVICE);
-        this.threadPool = Executors.newFixedThreadPool(3);
-        
-        // Track game start time for difficulty progression
-        this.gameStartTime = System.currentTimeMillis();
-        
-        // Load difficulty settings
-        loadDifficultySettings();
+        this.haptics = new HapticFeedback((Vibrator) context.getSystemService(Context.VIBRATOR_SERVICE), events, clock);
         
         // Get screen dimensions for better process placement
         WindowManager wm = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
@@ -138,78 +171,93 @@ public class ProcessManager {
         display.getSize(size);
         screenWidth = size.x;
         screenHeight = size.y;
-        
-        // Start the process generator thread
-        startProcessGeneratorThread();
-        
-        // Start the emergency event generator thread
-        startEmergencyEventThread();
-        
-        // Start the starvation checker thread
-        startStarvationCheckerThread();
     }
     
-    private void loadDifficultySettings() {
-        SharedPreferences settings = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        difficultyLevel = settings.getInt(PREF_DIFFICULTY, 1); // Default to medium
+    /**
+     * Headless engine for simulations: seeded, no threads and no Android services.
+     * Time only advances through update() and fastForward(), on a clock of its own.
+     */
+    ProcessManager(DifficultyProfile profile, long seed) {
+        this(profile, seed, new GameClock());
+    }
+    
+    /**
+     * Headless engine on the given clock, so a test can pause or scale it
+     */
+    ProcessManager(DifficultyProfile profile, long seed, GameClock clock) {
+        this(profile, new Random(seed), clock, true);
+    }
+    
+    // Everything but the Android services, shared by the live and headless engines
+    private ProcessManager(DifficultyProfile profile, Random random, GameClock clock, boolean headless) {
+        this.profile = profile;
+        this.clock = clock;
+        this.headless = headless;
+        this.maxRunningProcessesByDifficulty = profile.maxRunningProcesses;
+        this.runningQueueCapacity = RUNNING_QUEUE_SIZE * profile.cores;
+        this.readyQueueCapacity = profile.readyQueueSize;
+        this.blockedQueueCapacity = profile.blockedQueueSize;
+        this.newViewport = new QueueViewport(Math.max(MAX_PROCESSES, profile.maxProcesses));
+        this.runningViewport = new QueueViewport(runningQueueCapacity);
+        this.readyViewport = new QueueViewport(readyQueueCapacity);
+        this.blockedViewport = new QueueViewport(blockedQueueCapacity);
+        if (profile.cores > 1) {
+            this.multiCoreCpu = new MultiCoreCpu(profile.cores, profile.coreTimeSliceMs);
+        }
+        this.newProcesses = new CopyOnWriteArrayList<>(); // Initialize new list
+        this.runningQueue = new CopyOnWriteArrayList<>();
+        this.readyQueue = new CopyOnWriteArrayList<>();
+        this.blockedQueue = new CopyOnWriteArrayList<>();
+        this.processWaitTimes = new ConcurrentHashMap<>();
+        this.timeline = new TimelineRecorder();
+        this.random = random;
+        this.io = new IoSubsystem(random);
         
-        // Set resource adjustments based on difficulty
-        switch (difficultyLevel) {
-            case 0: // Easy - starts very easy but becomes harder
-                cpuUsageMultiplier = 0.3f;
-                memoryUsageMultiplier = 0.4f;
-                maxProcessesByDifficulty = 6;
-                maxRunningProcessesByDifficulty = 3;
-                emergencyIntervalMin = 45000; // 45 seconds
-                emergencyIntervalMax = 90000; // 90 seconds
-                break;
-            case 1: // Medium (default)
-                cpuUsageMultiplier = 1.0f;
-                memoryUsageMultiplier = 1.0f;
-                maxProcessesByDifficulty = MAX_PROCESSES;
-                maxRunningProcessesByDifficulty = MAX_RUNNING_PROCESSES;
-                emergencyIntervalMin = 15000; // 15 seconds
-                emergencyIntervalMax = 45000; // 45 seconds
-                break;
-            case 2: // Hard - starts easier than before but ramps up quickly
-                cpuUsageMultiplier = 1.2f; // Reduced from 1.5f
-                memoryUsageMultiplier = 1.1f; // Reduced from 1.3f
-                maxProcessesByDifficulty = MAX_PROCESSES;
-                maxRunningProcessesByDifficulty = MAX_RUNNING_PROCESSES;
-                emergencyIntervalMin = 12000; // 12 seconds
-                emergencyIntervalMax = 30000; // 30 seconds
-                break;
+        // Track game start time for difficulty progression
+        this.gameStartTime = clock.now();
+        this.nextArrivalAtMs = gameStartTime + profile.processGenIntervalMs;
+        this.nextStarvationCheckAtMs = gameStartTime + 1000;
+    }
+    
+    // Current time for game logic: the game clock as of this tick
+    private long now() {
+        return clock.now();
+    }
+    
+    // Generate a process if the difficulty's process limit allows
+    private void generateProcessIfRoom() {
+        if (newProcesses.size() + runningQueue.size() + readyQueue.size() + blockedQueue.size() < profile.maxProcesses && !gameOver) {
+            generateNewProcess();
         }
     }
     
-    private void startProcessGeneratorThread() {
-        threadPool.execute(new Runnable() {
-            @Override
-            public void run() {
-                while (isRunning) {
-                    try {
-                        // Adjust interval based on difficulty
-                        long interval = PROCESS_GEN_INTERVAL_MS;
-                        if (difficultyLevel == 0) { // Easy mode
-                            interval += 2000; // Longer interval between processes
-                        } else if (difficultyLevel == 2) { // Hard mode
-                            interval -= 1000; // Shorter interval between processes
-                        }
-                        
-                        Thread.sleep(interval);
-                        if (newProcesses.size() + runningQueue.size() + readyQueue.size() + blockedQueue.size() < maxProcessesByDifficulty && !gameOver) {
-                            generateNewProcess();
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
+    // Timed work that runs on the simulation thread: arrivals and starvation checks
+    private void runBackgroundTasks() {
+        tracer.begin(Tracer.BACKGROUND_TASKS);
+        try {
+            long currentTime = now();
+            while (currentTime >= nextArrivalAtMs) {
+                tracer.begin(Tracer.PROCESS_GENERATOR);
+                try {
+                    generateProcessIfRoom();
+                } finally {
+                    tracer.end(Tracer.PROCESS_GENERATOR);
                 }
+                nextArrivalAtMs += profile.processGenIntervalMs;
             }
-        });
+            // Check every second; on the simulation thread so engine events keep a single producer
+            while (currentTime >= nextStarvationCheckAtMs) {
+                checkForStarvation();
+                nextStarvationCheckAtMs += 1000;
+            }
+        } finally {
+            tracer.end(Tracer.BACKGROUND_TASKS);
+        }
     }
     
     private void startEmergencyEventThread() {
         // Emergency event thread disabled - no critical processes will be created
+        // If re-enabled, trigger from runBackgroundTasks() instead so events keep a single producer
         // The original implementation:
         /*
         threadPool.execute(new Runnable() {
@@ -218,14 +266,14 @@ public class ProcessManager {
                 while (isRunning) {
                     try {
                         // Wait between emergency events based on difficulty
-                        int randomInterval = random.nextInt((int)(emergencyIntervalMax - emergencyIntervalMin));
-                        Thread.sleep(emergencyIntervalMin + randomInterval);
+                        int randomInterval = random.nextInt((int)(profile.emergencyIntervalMaxMs - profile.emergencyIntervalMinMs));
+                        Thread.sleep(profile.emergencyIntervalMinMs + randomInterval);
                         
                         if (!gameOver && !emergencyEvent) {
                             // In easy mode, don't trigger emergencies if player is already struggling
-                            if (difficultyLevel == 0 && (usedCPU > totalCPU * 0.7f || usedMemory > totalMemory * 0.7f)) {
+                            if (profile.skipEmergencyWhenStrained && (usedCPU > totalCPU * 0.7f || usedMemory > totalMemory * 0.7f)) {
                                 // Skip this emergency to give player a break
-                                Thread.sleep(emergencyIntervalMax);
+                                Thread.sleep(profile.emergencyIntervalMaxMs);
                                 continue;
                             }
                             
@@ -240,24 +288,8 @@ public class ProcessManager {
         */
     }
     
-    private void startStarvationCheckerThread() {
-        threadPool.execute(new Runnable() {
-            @Override
-            public void run() {
-                while (isRunning) {
-                    try {
-                        Thread.sleep(1000); // Check every second
-                        checkForStarvation();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-            }
-        });
-    }
-    
     private void checkForStarvation() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = now();
         
         // Check ready queue for starvation
         for (Process process : readyQueue) {
@@ -268,18 +300,12 @@ public class ProcessManager {
                     process.setPriority(process.getPriority() + 1); // Increase priority
                 }
                 
-                if (runningQueue.size() < RUNNING_QUEUE_SIZE) {
+                if (runningQueue.size() < runningQueueCapacity) {
                     moveToRunningQueue(process);
                 } else if (!process.getName().startsWith("CRITICAL")) {
                     // If not critical, penalize the player
-                    score = Math.max(0, score - 200);
-                    if (vibrator != null && vibrator.hasVibrator()) {
-                        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                            vibrator.vibrate(VibrationEffect.createOneShot(500, VibrationEffect.DEFAULT_AMPLITUDE));
-            } else {
-                            vibrator.vibrate(500);
-                        }
-                    }
+                    scoreLedger.record(ScoreLedger.STARVATION, -200, currentTime);
+                    events.publish(EngineEventBus.STARVATION, process.getPriority(), currentTime);
             } else {
                     // Critical process is starving
                     criticalPenaltyCount++;
@@ -290,92 +316,327 @@ public class ProcessManager {
     }
     
     public void moveToRunningQueue(Process process) {
-        if (process == null || runningQueue.size() >= RUNNING_QUEUE_SIZE) return;
-        removeProcessFromAllQueues(process);
-        if (!runningQueue.contains(process)) {
-            runningQueue.add(process);
-            process.setState(Process.State.RUNNING);
-            processWaitTimes.remove(process);
-            repositionAllProcesses(); // Reposition ALL after move
+        tracer.begin(Tracer.MOVE_TO_RUNNING);
+        try {
+            if (process == null || runningQueue.size() >= runningQueueCapacity) return;
+            removeProcessFromAllQueues(process);
+            if (!runningQueue.contains(process)) {
+                runningQueue.add(process);
+                enterRunningQueue(process);
+                repositionAllProcesses(); // Reposition ALL after move
+            }
+        } finally {
+            tracer.end(Tracer.MOVE_TO_RUNNING);
         }
     }
 
     public void moveToReadyQueue(Process process) {
-        if (process == null || readyQueue.size() >= READY_QUEUE_SIZE) return;
-        removeProcessFromAllQueues(process);
-        if (!readyQueue.contains(process)) {
-            readyQueue.add(process);
-            process.setState(Process.State.READY);
-            processWaitTimes.putIfAbsent(process, System.currentTimeMillis());
-            repositionAllProcesses(); // Reposition ALL after move
+        tracer.begin(Tracer.MOVE_TO_READY);
+        try {
+            if (process == null || readyQueue.size() >= readyQueueCapacity) return;
+            removeProcessFromAllQueues(process);
+            if (!readyQueue.contains(process)) {
+                readyQueue.add(process);
+                enterReadyQueue(process);
+                repositionAllProcesses(); // Reposition ALL after move
+            }
+        } finally {
+            tracer.end(Tracer.MOVE_TO_READY);
         }
     }
 
     public void moveToBlockedQueue(Process process) {
-        if (process == null || blockedQueue.size() >= BLOCKED_QUEUE_SIZE) return;
-        removeProcessFromAllQueues(process);
-        if (!blockedQueue.contains(process)) {
-            blockedQueue.add(process);
-            process.setState(Process.State.BLOCKED);
-            processWaitTimes.remove(process);
-            repositionAllProcesses(); // Reposition ALL after move
+        tracer.begin(Tracer.MOVE_TO_BLOCKED);
+        try {
+            if (process == null || blockedQueue.size() >= blockedQueueCapacity) return;
+            removeProcessFromAllQueues(process);
+            if (!blockedQueue.contains(process)) {
+                blockedQueue.add(process);
+                enterBlockedQueue(process);
+                repositionAllProcesses(); // Reposition ALL after move
+            }
+        } finally {
+            tracer.end(Tracer.MOVE_TO_BLOCKED);
+        }
+    }
+    
+    // Bookkeeping for a process just added to a queue; shared by the single moves and apply()
+    
+    private void enterRunningQueue(Process process) {
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_RUNNING, now());
+        process.setState(Process.State.RUNNING);
+        process.markDispatched();
+        if (multiCoreCpu != null) {
+            multiCoreCpu.assign(process);
+        }
+        processWaitTimes.remove(process);
+        setResidentShare(process, RUNNING_RESIDENT_SHARE, false);
+    }
+    
+    private void enterReadyQueue(Process process) {
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_READY, now());
+        process.setState(Process.State.READY);
+        processWaitTimes.putIfAbsent(process, now());
+        Scheduler activeScheduler = scheduler;
+        if (activeScheduler != null) {
+            activeScheduler.onReady(process, now());
+        }
+        setResidentShare(process, READY_RESIDENT_SHARE, true);
+    }
+    
+    private void enterBlockedQueue(Process process) {
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_BLOCKED, now());
+        process.setState(Process.State.BLOCKED);
+        processWaitTimes.remove(process);
+        if (process.isInterrupted() && !process.isIOCompleted()) {
+            io.submit(process, now()); // Its device takes over from here
+        }
+        setResidentShare(process, BLOCKED_RESIDENT_SHARE, true);
+    }
+    
+    /**
+     * Apply a batch of moves, terminations and priority changes as one. Each queue is copied
+     * once for everything leaving it and once for everything arriving, and the board is laid
+     * out and resources recounted once at the end, where single moves do all of that per
+     * process. A move into a full queue is skipped, judged in order as if the operations ran
+     * one by one. Returns how many operations took effect. Call on the game thread.
+     */
+    public int apply(QueueTransaction transaction) {
+        tracer.begin(Tracer.APPLY_TRANSACTION);
+        try {
+            if (transaction.isEmpty()) {
+                return 0;
+            }
+            int applied = 0;
+            for (int i = 0; i < transaction.reprioritized.size(); i++) {
+                Process process = transaction.reprioritized.get(i);
+                if (process != null) {
+                    process.setPriority(transaction.priorities.get(i));
+                    applied++;
+                }
+            }
+            
+            // Decide which operations fit, tracking how full each queue would be by then.
+            // Indexed by the transaction's queue constants, with the new queue last.
+            int[] sizes = {runningQueue.size(), readyQueue.size(), blockedQueue.size(), newProcesses.size()};
+            int[] capacities = {runningQueueCapacity, readyQueueCapacity, blockedQueueCapacity};
+            boolean[] losing = new boolean[4];
+            List<Process> accepted = new ArrayList<>();
+            List<Integer> acceptedTargets = new ArrayList<>();
+            List<Integer> sources = new ArrayList<>();
+            for (int i = 0; i < transaction.processes.size(); i++) {
+                Process process = transaction.processes.get(i);
+                int target = transaction.targets.get(i);
+                if (process == null || process.getState() == Process.State.TERMINATED) {
+                    continue;
+                }
+                if (target != QueueTransaction.TERMINATE) {
+                    if (sizes[target] >= capacities[target]) {
+                        continue; // Full, as the single move would find it
+                    }
+                    sizes[target]++;
+                }
+                int source = queueIndexOf(process);
+                if (source >= 0) {
+                    sizes[source]--;
+                    losing[source] = true;
+                }
+                accepted.add(process);
+                acceptedTargets.add(target);
+                sources.add(source);
+            }
+            
+            // One copy per queue for the leavers, then the same hooks removeProcessFromAllQueues runs
+            if (losing[QUEUE_INDEX_NEW]) newProcesses.removeAll(accepted);
+            if (losing[QueueTransaction.RUNNING]) runningQueue.removeAll(accepted);
+            if (losing[QueueTransaction.READY]) readyQueue.removeAll(accepted);
+            if (losing[QueueTransaction.BLOCKED]) blockedQueue.removeAll(accepted);
+            Scheduler activeScheduler = scheduler;
+            for (int i = 0; i < accepted.size(); i++) {
+                Process process = accepted.get(i);
+                process.nextInterruptAtMs = -1;
+                int source = sources.get(i);
+                if (source == QueueTransaction.RUNNING && multiCoreCpu != null) {
+                    multiCoreCpu.remove(process);
+                } else if (source == QueueTransaction.READY && activeScheduler != null) {
+                    activeScheduler.onRemoved(process);
+                } else if (source == QueueTransaction.BLOCKED) {
+                    io.cancel(process, now());
+                }
+            }
+            
+            // One copy per queue for the arrivals, in transaction order
+            runningQueue.addAll(arrivalsFor(accepted, acceptedTargets, QueueTransaction.RUNNING));
+            readyQueue.addAll(arrivalsFor(accepted, acceptedTargets, QueueTransaction.READY));
+            blockedQueue.addAll(arrivalsFor(accepted, acceptedTargets, QueueTransaction.BLOCKED));
+            for (int i = 0; i < accepted.size(); i++) {
+                Process process = accepted.get(i);
+                switch (acceptedTargets.get(i)) {
+                    case QueueTransaction.RUNNING:
+                        enterRunningQueue(process);
+                        break;
+                    case QueueTransaction.READY:
+                        enterReadyQueue(process);
+                        break;
+                    case QueueTransaction.BLOCKED:
+                        enterBlockedQueue(process);
+                        break;
+                    default:
+                        retire(process);
+                        break;
+                }
+            }
+            applied += accepted.size();
+            
+            repositionAllProcesses();
+            updateResources();
+            return applied;
+        } finally {
+            tracer.end(Tracer.APPLY_TRANSACTION);
+        }
+    }
+    
+    private static List<Process> arrivalsFor(List<Process> processes, List<Integer> targets, int target) {
+        List<Process> arrivals = new ArrayList<>();
+        for (int i = 0; i < processes.size(); i++) {
+            if (targets.get(i) == target) {
+                arrivals.add(processes.get(i));
+            }
         }
+        return arrivals;
+    }
+    
+    // Which queue holds the process, by the transaction's queue constants, or -1
+    private int queueIndexOf(Process process) {
+        if (runningQueue.contains(process)) return QueueTransaction.RUNNING;
+        if (readyQueue.contains(process)) return QueueTransaction.READY;
+        if (blockedQueue.contains(process)) return QueueTransaction.BLOCKED;
+        if (newProcesses.contains(process)) return QUEUE_INDEX_NEW;
+        return -1;
     }
     
     private void removeProcessFromAllQueues(Process process) {
         newProcesses.remove(process);
-        runningQueue.remove(process);
-        readyQueue.remove(process);
-        blockedQueue.remove(process);
+        removeFromRunningQueue(process);
+        if (readyQueue.remove(process)) {
+            Scheduler activeScheduler = scheduler;
+            if (activeScheduler != null) {
+                activeScheduler.onRemoved(process);
+            }
+        }
+        if (blockedQueue.remove(process)) {
+            io.cancel(process, now());
+        }
+    }
+    
+    // Grow or shrink the process's pages to the given share of its footprint. A waiting
+    // process's pages may be swapped out under pressure; any other process first brings its
+    // swapped pages back, and a running one pays for that in swap-in time.
+    private void setResidentShare(Process process, float share, boolean waiting) {
+        int pages = (int) Math.ceil(process.getMemoryRequired() * profile.memoryUsageMultiplier
+                * difficultyMultiplier * share / FrameAllocator.FRAME_SIZE_MB);
+        PageTable pageTable = process.getPageTable();
+        synchronized (frames) {
+            unmappedPages -= pageTable.getUnmappedPages();
+            pageTable.setEvictable(waiting, frames);
+            pageTable.resize(pages, frames);
+            if (!waiting && pageTable.getSwappedPages() > 0) {
+                process.swapInRemainingMs += pageTable.swapIn(frames) * SWAP_IN_MS_PER_PAGE;
+            }
+            unmappedPages += pageTable.getUnmappedPages();
+        }
+    }
+    
+    // Return every frame of a process that has left the system
+    private void releaseMemory(Process process) {
+        setResidentShare(process, 0, false);
+    }
+    
+    private void removeFromRunningQueue(Process process) {
+        process.nextInterruptAtMs = -1; // Drawn again on the next dispatch
+        if (runningQueue.remove(process) && multiCoreCpu != null) {
+            multiCoreCpu.remove(process);
+        }
     }
     
     public void repositionAllProcesses() {
-        repositionProcessesInList(newProcesses, newProcessAreaRef, Process.State.NEW, MAX_PROCESSES); // Use MAX_PROCESSES for new area capacity
-        repositionProcessesInList(runningQueue, runningQueueAreaRef, Process.State.RUNNING, RUNNING_QUEUE_SIZE);
-        repositionProcessesInList(readyQueue, readyQueueAreaRef, Process.State.READY, READY_QUEUE_SIZE);
-        repositionProcessesInList(blockedQueue, blockedQueueAreaRef, Process.State.BLOCKED, BLOCKED_QUEUE_SIZE);
+        tracer.begin(Tracer.REPOSITION);
+        try {
+            synchronized (slotPosition) {
+                repositionProcessesInList(newProcesses, newViewport);
+                repositionProcessesInList(runningQueue, runningViewport);
+                repositionProcessesInList(readyQueue, readyViewport);
+                repositionProcessesInList(blockedQueue, blockedViewport);
+            }
+        } finally {
+            tracer.end(Tracer.REPOSITION);
+        }
     }
     
-    private void repositionProcessesInList(List<Process> processList, RectF area, Process.State state, int queueCapacity) {
-        if (area == null) return; // Don't reposition if the area reference isn't set yet
+    private void repositionProcessesInList(List<Process> processList, QueueViewport viewport) {
+        if (viewport.getArea() == null) return; // Don't reposition if the area reference isn't set yet
+        viewport.clamp(processList.size());
+        float slotSize = viewport.getSlotSize(); // Sets each card's level of detail
         for (int i = 0; i < processList.size(); i++) {
             Process process = processList.get(i);
-            // Calculate target slot position based on index 'i'
-            PointF targetPos = calculateSlotPosition(i, area, queueCapacity);
-            process.setPosition(targetPos.x, targetPos.y); // Snap immediately for now
-            process.setTargetPosition(targetPos.x, targetPos.y);
             process.setDragging(false); // Ensure not dragging
+            if (!viewport.isSlotVisible(i)) {
+                // Scrolled out: not drawn or hit-tested; it glides in from here when scrolled back
+                process.setOnScreen(false);
+                tweens.cancel(process);
+                continue;
+            }
+            process.setOnScreen(true);
+            process.fitToSlot(slotSize);
+            // Calculate target slot position based on index 'i'
+            viewport.slotCenter(i, slotPosition);
+            tweens.animateTo(process, slotPosition.x, slotPosition.y); // Glide into the slot
         }
     }
-
-    private PointF calculateSlotPosition(int slotIndex, RectF area, int queueCapacity) {
-        if (area == null) {
-            // Default position if area is not yet defined (e.g., during initialization)
-            return new PointF(screenWidth / 2, screenHeight / 2); 
+    
+    /**
+     * The queue window under a point, or null
+     */
+    public QueueViewport getViewportAt(float x, float y) {
+        if (newViewport.contains(x, y)) return newViewport;
+        if (runningViewport.contains(x, y)) return runningViewport;
+        if (readyViewport.contains(x, y)) return readyViewport;
+        if (blockedViewport.contains(x, y)) return blockedViewport;
+        return null;
+    }
+    
+    /**
+     * Scroll a queue window so the given row is at the top, and lay the queue out again
+     */
+    public void scrollQueue(QueueViewport viewport, int firstRow) {
+        int before = viewport.getFirstRow();
+        viewport.scrollTo(firstRow, queueFor(viewport).size());
+        if (viewport.getFirstRow() != before) {
+            repositionAllProcesses();
         }
-        
-        // Use queueCapacity to determine layout, not maxSize directly if it differs (like for New area)
-        int maxSlots = queueCapacity;
-        int rowCount = (int) Math.ceil((double) maxSlots / SLOTS_PER_ROW);
-
-        float areaContentWidth = area.width() - 2 * SLOT_SPACING;
-        float areaContentHeight = area.height() - 90 - 2 * SLOT_SPACING; // Available height below title
-
-        float slotWidth = areaContentWidth / SLOTS_PER_ROW - SLOT_SPACING;
-        float slotHeight = areaContentHeight / rowCount - SLOT_SPACING;
-        slotHeight = Math.min(slotHeight, slotWidth * 1.2f); // Maintain aspect ratio
-
-        int targetRow = slotIndex / SLOTS_PER_ROW;
-        int targetCol = slotIndex % SLOTS_PER_ROW;
-
-        float slotLeft = area.left + SLOT_SPACING + targetCol * (slotWidth + SLOT_SPACING);
-        float slotTop = area.top + 90 + SLOT_SPACING + targetRow * (slotHeight + SLOT_SPACING);
-
-        // Calculate the center of the target slot
-        float targetX = slotLeft + slotWidth / 2;
-        float targetY = slotTop + slotHeight / 2;
-
-        return new PointF(targetX, targetY);
+    }
+    
+    private List<Process> queueFor(QueueViewport viewport) {
+        if (viewport == runningViewport) return runningQueue;
+        if (viewport == readyViewport) return readyQueue;
+        if (viewport == blockedViewport) return blockedQueue;
+        return newProcesses;
+    }
+    
+    public QueueViewport getNewViewport() {
+        return newViewport;
+    }
+    
+    public QueueViewport getRunningViewport() {
+        return runningViewport;
+    }
+    
+    public QueueViewport getReadyViewport() {
+        return readyViewport;
+    }
+    
+    public QueueViewport getBlockedViewport() {
+        return blockedViewport;
     }
     
     private void generateNewProcess() {
@@ -395,72 +656,39 @@ public class ProcessManager {
             name,
             priority,
             cpuBurstTime,
-            memoryRequired
+            memoryRequired,
+            now()
         );
         
         // Add to list FIRST
         newProcesses.add(newProcess);
+        metrics.onArrival(newProcess, now());
+        setResidentShare(newProcess, NEW_RESIDENT_SHARE, false);
         
-        // THEN reposition all to find its slot
+        // THEN reposition all to find its slot, where the new card appears without gliding in
         repositionAllProcesses();
+        tweens.finish(newProcess);
     }
     
     private void triggerEmergencyEvent() {
         emergencyEvent = true;
-        emergencyStartTime = System.currentTimeMillis();
+        emergencyStartTime = now();
         
-        // Determine timeout based on difficulty
-        if (difficultyLevel == 0) { // Easy
-            emergencyTimeoutSeconds = 20; // 20 seconds before consequences
-        } else if (difficultyLevel == 2) { // Hard
-            emergencyTimeoutSeconds = 10; // 10 seconds before consequences
-        } else { // Medium
-            emergencyTimeoutSeconds = 15; // 15 seconds before consequences
-        }
+        // Timeout before consequences depends on difficulty
+        emergencyTimeoutSeconds = profile.emergencyTimeoutSeconds;
         
-        // Vibrate the device to alert the user
-        if (vibrator != null && vibrator.hasVibrator()) {
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                vibrator.vibrate(VibrationEffect.createWaveform(new long[]{0, 500, 200, 500}, -1));
-            } else {
-                vibrator.vibrate(new long[]{0, 500, 200, 500}, -1);
-            }
-        }
+        // Alert the user
+        events.publish(EngineEventBus.EMERGENCY, profile.criticalPriority, emergencyStartTime);
         
         // Generate a critical process based on difficulty
         String name = "CRITICAL-" + random.nextInt(100);
         
-        // Adjust priority based on difficulty
-        int priority;
-        if (difficultyLevel == 0) { // Easy
-            priority = 8; // Not max priority in easy mode
-        } else if (difficultyLevel == 2) { // Hard
-            priority = 10; // Highest priority
-        } else { // Medium
-            priority = 9; // High priority
-        }
-        
-        // Adjust burst time based on difficulty
-        int cpuBurstTime;
-        if (difficultyLevel == 0) { // Easy
-            cpuBurstTime = (random.nextInt(5) + 5) * 1000; // 5-9 seconds - more time to respond
-        } else if (difficultyLevel == 2) { // Hard
-            cpuBurstTime = (random.nextInt(4) + 1) * 1000; // 1-4 seconds - less time
-        } else { // Medium
-            cpuBurstTime = (random.nextInt(4) + 2) * 1000; // 2-5 seconds
-        }
-        
-        // Adjust memory required based on difficulty
-        int memoryRequired;
-        if (difficultyLevel == 0) { // Easy
-            memoryRequired = (random.nextInt(50) + 50); // 50-100 MB
-        } else if (difficultyLevel == 2) { // Hard
-            memoryRequired = (random.nextInt(150) + 100); // 100-250 MB
-        } else { // Medium
-            memoryRequired = (random.nextInt(100) + 50); // 50-150 MB
-        }
-        
-        Process emergencyProcess = new Process(name, priority, cpuBurstTime, memoryRequired);
+        // Priority, burst time and memory scale with difficulty
+        int priority = profile.criticalPriority;
+        int cpuBurstTime = (random.nextInt(profile.criticalBurstSpreadSeconds) + profile.criticalBurstMinSeconds) * 1000;
+        int memoryRequired = random.nextInt(profile.criticalMemorySpread) + profile.criticalMemoryMin;
+        
+        Process emergencyProcess = new Process(name, priority, cpuBurstTime, memoryRequired, now());
         emergencyProcess.setState(Process.State.BLOCKED); // Start in blocked state
         
         // Position the process prominently on screen (center)
@@ -470,90 +698,263 @@ public class ProcessManager {
         
         // Add to processes list
         runningQueue.add(emergencyProcess);
+        metrics.onEnterQueue(emergencyProcess, SessionMetrics.QUEUE_RUNNING, now());
+        setResidentShare(emergencyProcess, RUNNING_RESIDENT_SHARE, false);
     }
     
+    /**
+     * Advance the game by one frame of real time; the clock turns it into game time, which is
+     * nothing while paused
+     */
     public void update(float deltaTime) {
         if (gameOver) {
-            return;
+            return; // Time stops with the game
+        }
+        float gameDelta = clock.tick(deltaTime);
+        step(gameDelta, clock.getLastTickMs(), false);
+    }
+    
+    /**
+     * Advance a headless game by the given game time, jumping from one scheduled event to the
+     * next instead of stepping frames: arrivals, CPU bursts finishing, pre-drawn interrupts,
+     * I/O completions, quantum expiries and the one-second grid that starvation checks and the
+     * difficulty curve run on. Between events nothing the rules look at changes, so a quiet
+     * stretch costs one step however long it is. Stops early at game over. Returns the number
+     * of steps taken.
+     */
+    int fastForward(long durationMs) {
+        if (!headless) {
+            throw new IllegalStateException("fastForward needs the headless engine");
+        }
+        long untilMs = clock.now() + durationMs;
+        int steps = 0;
+        while (clock.now() < untilMs && !gameOver) {
+            long stepMs = multiCoreCpu != null
+                    ? Math.min(MULTI_CORE_STEP_MS, untilMs - clock.now())
+                    : nextEventAtMs(untilMs) - clock.now();
+            clock.advance(stepMs);
+            step(stepMs / 1000f, stepMs, multiCoreCpu == null);
+            steps++;
         }
+        return steps;
+    }
+    
+    // Earliest scheduled event after now, capped at untilMs; draws interrupt times for newly dispatched processes
+    private long nextEventAtMs(long untilMs) {
+        long current = now();
+        long next = earliestAfter(current, untilMs, nextArrivalAtMs);
+        int secondsElapsed = (int) ((current - gameStartTime) / 1000);
+        if (!readyQueue.isEmpty() || secondsElapsed < profile.progressionEndSeconds()) {
+            // Starvation checks and the difficulty curve both move on whole seconds
+            next = earliestAfter(current, next, nextStarvationCheckAtMs);
+        }
+        next = earliestAfter(current, next, io.nextCompletionAtMs());
         
-        // Update difficulty progression
-        updateDifficultyProgression();
+        Scheduler activeScheduler = scheduler;
+        for (Process process : runningQueue) {
+            if (process.getState() != Process.State.RUNNING) {
+                continue;
+            }
+            if (process.isSwappingIn()) {
+                next = earliestAfter(current, next, current + process.swapInRemainingMs);
+                continue;
+            }
+            if (process.nextInterruptAtMs < 0 && !process.isInterrupted()) {
+                // Memoryless, so drawing from dispatch or from now is the same distribution
+                double rate = INTERRUPT_RATE_PER_SECOND + Process.INTERRUPT_RATE_PER_SECOND;
+                process.nextInterruptAtMs = current + 1 + (long) (-Math.log(1 - random.nextDouble()) * 1000 / rate);
+            }
+            if (process.nextInterruptAtMs >= 0) {
+                next = earliestAfter(current, next, process.nextInterruptAtMs);
+            }
+            next = earliestAfter(current, next, current + process.getCpuTimeRemaining());
+            if (activeScheduler != null) {
+                long quantum = activeScheduler.getQuantumMs(process);
+                if (quantum != Scheduler.NO_QUANTUM) {
+                    next = earliestAfter(current, next, current + quantum - process.getCpuTimeSinceDispatch());
+                }
+            }
+        }
+        return next;
+    }
+    
+    // Events already due but blocked (e.g. a quantum expiry with a full ready queue) don't hold time back
+    private static long earliestAfter(long current, long next, long candidate) {
+        return candidate > current && candidate < next ? candidate : next;
+    }
+    
+    // One simulation step. Event-driven steps consume CPU time exactly and raise interrupts at
+    // their pre-drawn times; frame steps roll for interrupts per step as the live game does.
+    private void step(float deltaTime, long deltaMs, boolean eventDriven) {
+        tracer.begin(Tracer.ENGINE_UPDATE);
+        try {
+            if (gameOver) {
+                return;
+            }
         
-        // List to hold processes that completed in this frame
-        List<Process> completedProcesses = new ArrayList<>();
+            runBackgroundTasks();
+        
+            // Update difficulty progression
+            updateDifficultyProgression();
+        
+            // Advance slot animations
+            tweens.update(deltaTime);
+        
+            // List to hold processes that completed in this frame
+            List<Process> completedProcesses = completedScratch;
+            completedProcesses.clear();
 
-        // List to hold processes that need to move from Blocked to Ready
-        List<Process> readyToUnblock = new ArrayList<>();
+            // List to hold processes that need to move from Blocked to Ready
+            List<Process> readyToUnblock = unblockScratch;
+            readyToUnblock.clear();
 
-        // Check for process interrupts & Update running processes
-        Iterator<Process> iterator = runningQueue.iterator();
-        while (iterator.hasNext()) {
-            Process process = iterator.next();
-            
-            // Process Interrupts (Check first)
-            if (!process.isInterrupted() && random.nextFloat() < 0.05f * deltaTime) { // 5% chance per second
-                process.setInterrupted(true); // Mark as interrupted
-                // Don't move immediately, let state handling logic manage it
+            // Advance the cores; each executes the process holding its current time slice
+            if (multiCoreCpu != null) {
+                multiCoreCpu.tick(deltaTime, random);
             }
+        
+            // Check for process interrupts & Update running processes. Indexed rather than an
+            // iterator to save the allocation; nothing leaves the running queue until below.
+            for (int i = 0; i < runningQueue.size(); i++) {
+                Process process = runningQueue.get(i);
+                boolean onCpu = multiCoreCpu == null || multiCoreCpu.isExecuting(process);
             
-            // Update process logic (e.g., decrementing CPU time)
-            process.update(deltaTime); 
+                if (multiCoreCpu == null && process.getState() == Process.State.RUNNING && process.isSwappingIn()) {
+                    // Still paging its working set back in; it makes no progress until resident
+                    // (cores account for this themselves in Process.execute)
+                    process.swapInRemainingMs = Math.max(0, process.swapInRemainingMs - deltaMs);
+                } else if (eventDriven) {
+                    // The process ran right up to this event, so it consumes the whole step first
+                    if (process.getState() == Process.State.RUNNING) {
+                        process.consumeCpu(deltaMs);
+                        if (process.getCpuTimeRemaining() > 0 && !process.isInterrupted() && process.nextInterruptAtMs >= 0
+                                && now() >= process.nextInterruptAtMs) {
+                            process.raiseInterrupt(IoSubsystem.pickDevice(random));
+                        }
+                    }
+                } else {
+                    // Process Interrupts (Check first), only code that is executing can raise one
+                    if (onCpu && !process.isInterrupted() && random.nextFloat() < INTERRUPT_RATE_PER_SECOND * deltaTime) { // 5% chance per second
+                        process.raiseInterrupt(IoSubsystem.pickDevice(random)); // Mark as interrupted
+                        // Don't move immediately, let state handling logic manage it
+                    }
+                
+                    // Decrement CPU time
+                    if (multiCoreCpu == null) {
+                        process.execute(deltaTime, random); // On a single core every running process progresses
+                    }
+                }
             
-            // Check for completion AFTER updating
-            if (process.getState() == Process.State.RUNNING && process.getCpuTimeRemaining() <= 0) {
-                completedProcesses.add(process); // Add to list for later removal
-            }
+                // Check for completion AFTER updating
+                if (process.getState() == Process.State.RUNNING && process.getCpuTimeRemaining() <= 0) {
+                    completedProcesses.add(process); // Add to list for later removal
+                }
             
-            // Handle state changes (like moving interrupted processes)
-            if (process.isInterrupted() && process.getState() == Process.State.RUNNING) {
-                 // We could potentially move it to blocked queue here, 
-                 // but let's stick to user/button actions for moves for now.
-                 // The state is already set to BLOCKED inside process.setInterrupted(true)
-                 // We just need to ensure it stops consuming CPU etc.
+                // Handle state changes (like moving interrupted processes)
+                if (process.isInterrupted() && process.getState() == Process.State.RUNNING) {
+                     // We could potentially move it to blocked queue here, 
+                     // but let's stick to user/button actions for moves for now.
+                     // The state is already set to BLOCKED inside process.raiseInterrupt()
+                     // We just need to ensure it stops consuming CPU etc.
+                }
             }
-        }
 
-        // --- Process Completed Processes --- 
-        if (!completedProcesses.isEmpty()) {
-            for (Process completedProcess : completedProcesses) {
-                if (runningQueue.contains(completedProcess)) { // Check if still in running queue
-                    completedProcess.setState(Process.State.TERMINATED); // Mark as terminated
-                    runningQueue.remove(completedProcess); // Now remove it safely
-                    processesCompleted++;
-                    score += completedProcess.getPriority() * 100; 
-                    processWaitTimes.remove(completedProcess);
+            // --- Process Completed Processes --- 
+            if (!completedProcesses.isEmpty()) {
+                for (int i = 0; i < completedProcesses.size(); i++) {
+                    Process completedProcess = completedProcesses.get(i);
+                    if (runningQueue.contains(completedProcess)) { // Check if still in running queue
+                        completedProcess.setState(Process.State.TERMINATED); // Mark as terminated
+                        removeFromRunningQueue(completedProcess); // Now remove it safely
+                        releaseMemory(completedProcess);
+                        metrics.onCompleted(completedProcess, now());
+                        processesCompleted++;
+                        scoreLedger.record(ScoreLedger.COMPLETION, completedProcess.getPriority() * 100, now());
+                        events.publish(EngineEventBus.COMPLETION, completedProcess.getPriority(), now());
+                        processWaitTimes.remove(completedProcess);
+                    }
                 }
+                repositionAllProcesses(); // Reposition after handling completions
             }
-            repositionAllProcesses(); // Reposition after handling completions
-        }
-        // --- End Processing Completions ---
+            // --- End Processing Completions ---
 
-        // Randomly complete I/O for blocked processes & Check for auto-unblock
-        for (Process process : blockedQueue) {
-            // Ensure it's actually blocked due to an interrupt before randomly completing I/O
-            if (process.getState() == Process.State.BLOCKED && process.isInterrupted()) { 
-                 if (!process.isIOCompleted() && random.nextFloat() < 0.1f * deltaTime) { // 10% chance per second
-                    process.setIOCompleted(true); // Mark I/O as done
-                    // Automatically move to Ready queue now
-                    readyToUnblock.add(process);
+            // Finished I/O requests; nothing to do unless a completion is due
+            io.collectCompleted(now(), readyToUnblock);
+            for (int i = 0; i < readyToUnblock.size(); i++) {
+                readyToUnblock.get(i).setIOCompleted(true); // Mark I/O as done, then move to Ready below
+            }
+        
+            // --- Auto-move processes from Blocked to Ready --- 
+            if (!readyToUnblock.isEmpty()) {
+                for (int i = 0; i < readyToUnblock.size(); i++) {
+                    moveToReadyQueue(readyToUnblock.get(i)); // This also calls repositionAllProcesses
                 }
+                // No need to call repositionAllProcesses here, as moveToReadyQueue does it.
             }
+
+            // Let the scheduling policy make its moves, if one is installed
+            Scheduler activeScheduler = scheduler;
+            if (activeScheduler != null) {
+                runScheduler(activeScheduler);
+            }
+        
+            // Update resources
+            updateResources();
+        
+            // Sample the timeline once per second of game time
+            timelineSampleTimer += deltaTime;
+            while (timelineSampleTimer >= TimelineRecorder.SAMPLE_INTERVAL_MS / 1000f) {
+                timelineSampleTimer -= TimelineRecorder.SAMPLE_INTERVAL_MS / 1000f;
+                timeline.record(usedCPU, usedMemory, newProcesses.size(), runningQueue.size(),
+                        readyQueue.size(), blockedQueue.size());
+                metrics.sampleUtilisation(usedCPU * 100f / totalCPU, usedMemory * 100f / totalMemory);
+            }
+        
+            // Check for game over condition
+            checkGameOverCondition();
+        } finally {
+            tracer.end(Tracer.ENGINE_UPDATE);
         }
+    }
+    
+    // Admit, preempt and dispatch processes on behalf of the player
+    private void runScheduler(Scheduler activeScheduler) {
+        long now = now();
         
-        // --- Auto-move processes from Blocked to Ready --- 
-        if (!readyToUnblock.isEmpty()) {
-            for (Process process : readyToUnblock) {
-                moveToReadyQueue(process); // This also calls repositionAllProcesses
+        // Admit new arrivals, oldest first, while the ready queue has room (each move removes the head)
+        while (!newProcesses.isEmpty() && readyQueue.size() < readyQueueCapacity) {
+            moveToReadyQueue(newProcesses.get(0));
+        }
+        
+        // Interrupted processes wait for I/O; processes out of quantum go back to ready.
+        // Indexed to avoid an iterator per frame; a process that moved out shifts the rest down.
+        for (int i = 0; i < runningQueue.size(); ) {
+            Process process = runningQueue.get(i);
+            if (process.getName().startsWith("CRITICAL")) {
+                i++;
+                continue; // Emergencies stay where the player must handle them
+            }
+            if (process.isInterrupted() && process.getState() == Process.State.BLOCKED) {
+                moveToBlockedQueue(process);
+            } else if (process.getState() == Process.State.RUNNING
+                    && process.getCpuTimeSinceDispatch() >= activeScheduler.getQuantumMs(process)
+                    && readyQueue.size() < readyQueueCapacity) {
+                activeScheduler.onQuantumExpired(process);
+                moveToReadyQueue(process);
+            }
+            if (i < runningQueue.size() && runningQueue.get(i) == process) {
+                i++; // Still here
             }
-            // No need to call repositionAllProcesses here, as moveToReadyQueue does it.
         }
-
-        // Update resources
-        updateResources();
         
-        // Check for game over condition
-        checkGameOverCondition();
+        // Fill free running slots
+        while (runningQueue.size() < runningQueueCapacity) {
+            Process next = activeScheduler.selectNext(now);
+            if (next == null) {
+                break;
+            }
+            moveToRunningQueue(next);
+        }
     }
     
     // Helper method for easy mode: automatically terminate low priority processes
@@ -567,19 +968,16 @@ public class ProcessManager {
         }
         
         // Sort by priority (lowest first)
-        Collections.sort(allRunning, new Comparator<Process>() {
-            @Override
-            public int compare(Process p1, Process p2) {
-                return Integer.compare(p1.getPriority(), p2.getPriority());
-            }
-        });
+        Collections.sort(allRunning, LOWEST_PRIORITY_FIRST);
         
         // Terminate up to 2 lowest priority processes
         int count = 0;
         for (Process p : allRunning) {
             if (count < 2) {
                 p.setState(Process.State.TERMINATED);
-                runningQueue.remove(p);
+                removeFromRunningQueue(p);
+                releaseMemory(p);
+                metrics.onTerminated(p, now());
                 count++;
             } else {
                 break;
@@ -589,97 +987,142 @@ public class ProcessManager {
     
     // Update difficulty based on elapsed game time
     private void updateDifficultyProgression() {
-        // Calculate how many minutes the game has been running
-        long currentTime = System.currentTimeMillis();
-        float minutesElapsed = (currentTime - gameStartTime) / 60000f;
-        
-        // Adjust difficulty multiplier based on game mode
-        if (difficultyLevel == 0) { // Easy mode - gradually gets harder
-            difficultyMultiplier = 1.0f + (minutesElapsed * EASY_MODE_DIFFICULTY_INCREASE_RATE);
-            
-            // Cap the max difficulty for easy mode to avoid it becoming too hard
-            difficultyMultiplier = Math.min(difficultyMultiplier, 2.0f);
-            
-            // After 10 minutes, start reducing max running processes to increase challenge
-            if (minutesElapsed > 10) {
-                int processReduction = (int)(minutesElapsed - 10) / 5; // Every 5 mins after 10 mins
-                maxRunningProcessesByDifficulty = Math.max(2, 3 - processReduction);
-            }
-        } else if (difficultyLevel == 2) { // Hard mode - starts easier, gets much harder
-            difficultyMultiplier = 1.0f + (minutesElapsed * HARD_MODE_DIFFICULTY_INCREASE_RATE);
-            
-            // Cap the hard mode difficulty to avoid it becoming impossible
-            difficultyMultiplier = Math.min(difficultyMultiplier, 2.5f);
-        }
-        
-        // No progression for medium mode - it stays consistent
+        // Look up the precomputed curve for the elapsed whole seconds
+        int secondsElapsed = (int) ((now() - gameStartTime) / 1000);
+        difficultyMultiplier = profile.difficultyMultiplierAt(secondsElapsed);
+        maxRunningProcessesByDifficulty = profile.maxRunningProcessesAt(secondsElapsed);
     }
     
     private void updateResources() {
-        usedCPU = 0;
-        usedMemory = 0;
+        // Arrivals and moves size their own working sets. Everything is resized only when the
+        // difficulty multiplier moves or to retry pages that found no free frame; otherwise
+        // this just recounts, without taking the frames lock per process.
+        // Indexed loops: this runs every frame and must not allocate iterators. Only this
+        // thread changes the queues; arrivals too come from update().
+        boolean resize = difficultyMultiplier != sizedForMultiplier || unmappedPages > 0;
+        sizedForMultiplier = difficultyMultiplier;
+        swappedPages = 0;
+        if (resize) {
+            for (int i = 0; i < newProcesses.size(); i++) {
+                setResidentShare(newProcesses.get(i), NEW_RESIDENT_SHARE, false);
+            }
+        }
         
-        // Calculate for all processes including new ones
-        for (Process process : newProcesses) {
-            usedMemory += process.getMemoryRequired() * memoryUsageMultiplier * difficultyMultiplier * 0.3;
+        // CPU demand is spread over all cores, so one core behaves exactly as before
+        float cpuDemand = 0;
+        for (int i = 0; i < runningQueue.size(); i++) {
+            Process process = runningQueue.get(i);
+            cpuDemand += process.getPriority() * 10 * profile.cpuUsageMultiplier * difficultyMultiplier;
+            if (resize) {
+                setResidentShare(process, RUNNING_RESIDENT_SHARE, false);
+            }
         }
+        usedCPU = (int) (cpuDemand / profile.cores);
         
-        for (Process process : runningQueue) {
-            usedCPU += process.getPriority() * 10 * cpuUsageMultiplier * difficultyMultiplier;
-                usedMemory += process.getMemoryRequired() * memoryUsageMultiplier * difficultyMultiplier;
+        for (int i = 0; i < readyQueue.size(); i++) {
+            Process process = readyQueue.get(i);
+            if (resize) {
+                setResidentShare(process, READY_RESIDENT_SHARE, true);
             }
+            swappedPages += process.getPageTable().getSwappedPages();
+        }
         
-        for (Process process : readyQueue) {
-            usedMemory += process.getMemoryRequired() * memoryUsageMultiplier * difficultyMultiplier * 0.5;
+        for (int i = 0; i < blockedQueue.size(); i++) {
+            Process process = blockedQueue.get(i);
+            if (resize) {
+                setResidentShare(process, BLOCKED_RESIDENT_SHARE, true);
+            }
+            swappedPages += process.getPageTable().getSwappedPages();
         }
         
-        for (Process process : blockedQueue) {
-            usedMemory += process.getMemoryRequired() * memoryUsageMultiplier * difficultyMultiplier * 0.3;
+        // Swapped pages live on disk and don't count; unmapped pages do, so running out of
+        // frames with nothing left to evict shows up as an overload
+        synchronized (frames) {
+            usedMemory = (frames.getUsedFrames() + unmappedPages) * FrameAllocator.FRAME_SIZE_MB;
         }
     }
     
-    public void draw(Canvas canvas, Paint paint, GameView gameView) {
-        // Draw all processes in their respective areas
-        for (Process process : newProcesses) {
-            process.draw(canvas, paint, gameView);
-        }
-        for (Process process : runningQueue) {
-            process.draw(canvas, paint, gameView);
-        }
-        for (Process process : readyQueue) {
-            process.draw(canvas, paint, gameView);
+    // Blink phase is passed in so drawing doesn't depend on the view
+    public void draw(Renderer renderer, boolean blinkDim) {
+        // Draw all processes in their respective areas; scrolled-out ones cost nothing here.
+        // Tiny-tier processes are collected and go out as one call per state colour.
+        Process lifted = drawQueue(newProcesses, renderer, blinkDim, null);
+        lifted = drawQueue(runningQueue, renderer, blinkDim, lifted);
+        lifted = drawQueue(readyQueue, renderer, blinkDim, lifted);
+        lifted = drawQueue(blockedQueue, renderer, blinkDim, lifted);
+        dotBatch.flush(renderer);
+        // The selected process goes on top, so a dragged card isn't hidden under the batch
+        if (lifted != null) {
+            lifted.draw(renderer, blinkDim);
         }
-        for (Process process : blockedQueue) {
-            process.draw(canvas, paint, gameView);
+    }
+    
+    private Process drawQueue(List<Process> queue, Renderer renderer, boolean blinkDim, Process lifted) {
+        for (int i = 0; i < queue.size(); i++) {
+            Process process = queue.get(i);
+            if (!process.isOnScreen() && !process.isDragging()) {
+                continue;
+            }
+            if (process.isSelected() || process.isDragging()) {
+                if (lifted != null) {
+                    lifted.draw(renderer, blinkDim); // Only one is ever selected; don't lose a stray one
+                }
+                lifted = process;
+            } else if (process.getDetail() == Process.DETAIL_DOT) {
+                dotBatch.add(process.getColorForState(), process.getBounds());
+            } else {
+                process.draw(renderer, blinkDim);
+            }
         }
+        return lifted;
     }
     
     public Process findProcessAtPosition(float x, float y) {
         // Check new processes first
-        for (Process process : newProcesses) {
-            if (process.contains(x, y)) {
-                return process;
-            }
-        }
+        Process hit = findProcessIn(newProcesses, x, y);
         // Then check other queues
-        for (Process process : runningQueue) {
-            if (process.contains(x, y)) {
-                return process;
-            }
+        if (hit == null) {
+            hit = findProcessIn(runningQueue, x, y);
         }
-        for (Process process : readyQueue) {
-            if (process.contains(x, y)) {
-                return process;
-            }
+        if (hit == null) {
+            hit = findProcessIn(readyQueue, x, y);
         }
-        for (Process process : blockedQueue) {
-            if (process.contains(x, y)) {
+        if (hit == null) {
+            hit = findProcessIn(blockedQueue, x, y);
+        }
+        return hit;
+    }
+    
+    // Indexed so a touch allocates no iterators; called on the game thread, which does all removals
+    private static Process findProcessIn(List<Process> queue, float x, float y) {
+        for (int i = 0; i < queue.size(); i++) {
+            Process process = queue.get(i);
+            if (process.isOnScreen() && process.contains(x, y)) {
                 return process;
             }
         }
         return null;
     }
     
+    /**
+     * Add every on-screen process whose centre lies in the area to out, for lasso selection
+     */
+    public void collectProcessesIn(RectF area, List<Process> out) {
+        collectIn(newProcesses, area, out);
+        collectIn(runningQueue, area, out);
+        collectIn(readyQueue, area, out);
+        collectIn(blockedQueue, area, out);
+    }
+    
+    private static void collectIn(List<Process> queue, RectF area, List<Process> out) {
+        for (int i = 0; i < queue.size(); i++) {
+            Process process = queue.get(i);
+            if (process.isOnScreen() && area.contains(process.getX(), process.getY())) {
+                out.add(process);
+            }
+        }
+    }
+    
     public void selectProcess(Process process) {
         // Deselect previous process
         if (selectedProcess != null) {
@@ -712,13 +1155,7 @@ public class ProcessManager {
             
             // If this is an emergency process, give immediate feedback
             if (process.getName().startsWith("CRITICAL")) {
-                if (vibrator != null && vibrator.hasVibrator()) {
-                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                        vibrator.vibrate(VibrationEffect.createOneShot(200, VibrationEffect.DEFAULT_AMPLITUDE));
-                    } else {
-                        vibrator.vibrate(200);
-                    }
-                }
+                events.publish(EngineEventBus.UNBLOCK, process.getPriority(), now());
             }
         }
     }
@@ -726,22 +1163,63 @@ public class ProcessManager {
     public void terminateProcess(Process process) {
         if (process != null) {
             removeProcessFromAllQueues(process); // Remove first
-            processWaitTimes.remove(process);
-            process.setState(Process.State.TERMINATED); // Mark as terminated (optional)
-            
-            // Penalty for terminating critical process
-            if (process.getName().startsWith("CRITICAL")) {
-                criticalPenaltyCount++;
-                applyPenalty();
-            }
-            
+            retire(process);
             repositionAllProcesses(); // Reposition remaining processes
         }
     }
     
-    public void shutdown() {
+    // Bookkeeping for a process the player terminated, once it is out of the queues
+    private void retire(Process process) {
+        processWaitTimes.remove(process);
+        process.setState(Process.State.TERMINATED); // Mark as terminated (optional)
+        releaseMemory(process);
+        metrics.onTerminated(process, now());
+        
+        // Penalty for terminating critical process
+        if (process.getName().startsWith("CRITICAL")) {
+            criticalPenaltyCount++;
+            applyPenalty();
+        }
+    }
+    
+    /**
+     * Start the haptics consumer, the engine's only thread. Called on resume; does nothing
+     * when headless or already started.
+     */
+    public void start() {
+        if (headless || isRunning) {
+            return;
+        }
+        isRunning = true;
+        
+        // Arrivals come from update() on the game clock, so they pause and scale with the game
+        
+        // Haptics consume engine events on their own thread
+        haptics.start();
+    }
+    
+    /**
+     * Stop the haptics consumer, keeping all game state so start() can carry on later
+     */
+    public void stop() {
         isRunning = false;
-        threadPool.shutdown();
+        if (haptics != null) {
+            haptics.stop();
+        }
+    }
+    
+    public void shutdown() {
+        stop();
+    }
+    
+    public boolean isStarted() {
+        return isRunning;
+    }
+    
+    // Fallback placement centres on the screen, which changes on rotation
+    public void setScreenSize(int width, int height) {
+        screenWidth = width;
+        screenHeight = height;
     }
     
     // Getters
@@ -761,8 +1239,37 @@ public class ProcessManager {
         return usedMemory;
     }
     
+    /**
+     * Whether memory demand exceeds what swapping can cover. Swapping only starts once every
+     * frame is in use, so full memory alone is normal under pressure; it overloads when pages
+     * find neither a free frame nor a waiting page to evict, or a penalty pushes it past full.
+     */
+    public boolean isMemoryOverloaded() {
+        return usedMemory > totalMemory;
+    }
+    
+    /**
+     * Share of free memory outside the largest free block, 0 to 1
+     */
+    public float getMemoryFragmentation() {
+        return frames.fragmentation();
+    }
+    
+    // Memory of waiting processes currently swapped out, in MB
+    public int getSwappedMemory() {
+        return swappedPages * FrameAllocator.FRAME_SIZE_MB;
+    }
+    
+    FrameAllocator getFrameAllocator() {
+        return frames;
+    }
+    
     public int getScore() {
-        return score;
+        return scoreLedger.getTotal();
+    }
+    
+    public ScoreLedger getScoreLedger() {
+        return scoreLedger;
     }
     
     public int getProcessesCompleted() {
@@ -785,10 +1292,69 @@ public class ProcessManager {
         return selectedProcess;
     }
     
+    /**
+     * Install a scheduling policy that drives the queues automatically, or null for manual play
+     */
+    public void setScheduler(Scheduler newScheduler) {
+        if (newScheduler != null) {
+            newScheduler.reset();
+            long now = now();
+            for (Process process : readyQueue) {
+                newScheduler.onReady(process, now);
+            }
+        }
+        scheduler = newScheduler;
+    }
+    
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+    
+    public DifficultyProfile getDifficultyProfile() {
+        return profile;
+    }
+    
+    public void setTracer(Tracer tracer) {
+        this.tracer = tracer != null ? tracer : Tracer.NONE;
+    }
+    
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Every session metric, with throughput over the game so far
+     */
+    public List<SessionMetrics.Summary> getSessionSummaries() {
+        return metrics.summaries(now() - gameStartTime);
+    }
+    
+    public TimelineRecorder getTimeline() {
+        return timeline;
+    }
+    
+    // Whether any process is still gliding to its slot
+    public boolean isAnimating() {
+        return tweens.isAnimating();
+    }
+    
+    // Put every process straight into its slot, e.g. on first layout
+    public void finishAnimations() {
+        tweens.finishAll();
+    }
+    
+    public EngineEventBus getEvents() {
+        return events;
+    }
+    
+    public GameClock getClock() {
+        return clock;
+    }
+    
     // Handle emergency timeout - called when emergency is ignored too long
     private void handleEmergencyTimeout() {
         // Check if the grace period has passed since emergency start
-        long currentTime = System.currentTimeMillis();
+        long currentTime = now();
         long emergencyDuration = (currentTime - emergencyStartTime) / 1000;
         
         if (emergencyDuration <= CRITICAL_GRACE_PERIOD) {
@@ -809,17 +1375,11 @@ public class ProcessManager {
                 process.setPriority(Math.min(10, process.getPriority() + 2));
                 process.setMemoryRequired((int)(process.getMemoryRequired() * 1.5f));
                 
-                // Visual feedback that emergency is escalating
-                if (vibrator != null && vibrator.hasVibrator()) {
-                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                        vibrator.vibrate(VibrationEffect.createOneShot(500, VibrationEffect.DEFAULT_AMPLITUDE));
-                    } else {
-                        vibrator.vibrate(500);
-                    }
-                }
+                // Feedback that emergency is escalating
+                events.publish(EngineEventBus.EMERGENCY_ESCALATED, process.getPriority(), currentTime);
                 
                 // Reset timeout
-                emergencyStartTime = System.currentTimeMillis();
+                emergencyStartTime = now();
             }
         }
         
@@ -828,24 +1388,27 @@ public class ProcessManager {
     }
     
     private void applyPenalty() {
+        events.publish(EngineEventBus.PENALTY, criticalPenaltyCount, now());
         if (criticalPenaltyCount == 1) {
             // First warning - resource penalties
             usedCPU += totalCPU * 0.2f; // 20% CPU penalty
             usedMemory += totalMemory * 0.15f; // 15% memory penalty
-            score = Math.max(0, score - 300); // Score penalty
+            scoreLedger.record(ScoreLedger.CRITICAL, -300, now()); // Score penalty
             
         } else if (criticalPenaltyCount == 2) {
             // Second warning - spawn additional processes and bigger penalties
             usedCPU += totalCPU * 0.3f; // 30% CPU penalty
             usedMemory += totalMemory * 0.25f; // 25% memory penalty
-            score = Math.max(0, score - 500); // Bigger score penalty
+            scoreLedger.record(ScoreLedger.CRITICAL, -500, now()); // Bigger score penalty
             
             // Generate random problematic processes
             for (int i = 0; i < 2; i++) {
                 String name = "WARNING-" + random.nextInt(100);
-                Process warningProcess = new Process(name, 4, 8000, 120);
+                Process warningProcess = new Process(name, 4, 8000, 120, now());
                 repositionAllProcesses();
                 runningQueue.add(warningProcess);
+                metrics.onEnterQueue(warningProcess, SessionMetrics.QUEUE_RUNNING, now());
+                setResidentShare(warningProcess, RUNNING_RESIDENT_SHARE, false);
             }
             
         } else if (criticalPenaltyCount >= 3) {
@@ -855,6 +1418,19 @@ public class ProcessManager {
         }
     }
     
+    // Getters for the CPU model
+    public int getCoreCount() {
+        return profile.cores;
+    }
+    
+    // Smoothed fraction of recent time the core spent executing; on one core, whether anything runs
+    public float getCoreUtilization(int coreIndex) {
+        if (multiCoreCpu != null) {
+            return multiCoreCpu.getUtilization(coreIndex);
+        }
+        return runningQueue.isEmpty() ? 0f : 1f;
+    }
+    
     // Getters for queue sizes
     public int getRunningQueueSize() {
         return runningQueue.size();
@@ -869,9 +1445,9 @@ public class ProcessManager {
     }
 
     private void checkGameOverCondition() {
-        if ((usedCPU >= totalCPU || usedMemory >= totalMemory) && !gameOver) {
+        if ((usedCPU >= totalCPU || isMemoryOverloaded()) && !gameOver) {
             // In easy mode, give a grace period before game over
-            if (difficultyLevel == 0) {
+            if (profile.autoTerminateOnOverload) {
                 // Automatically terminate some lower priority processes
                 sortAndTerminateLowPriorityProcesses();
             } else {
@@ -887,10 +1463,10 @@ public class ProcessManager {
 
     // Method to set the queue area references from GameView
     public void setQueueAreaReferences(RectF newArea, RectF runningArea, RectF readyArea, RectF blockedArea) {
-        this.newProcessAreaRef = newArea;
-        this.runningQueueAreaRef = runningArea;
-        this.readyQueueAreaRef = readyArea;
-        this.blockedQueueAreaRef = blockedArea;
+        newViewport.setArea(newArea);
+        runningViewport.setArea(runningArea);
+        readyViewport.setArea(readyArea);
+        blockedViewport.setArea(blockedArea);
     }
 
     // Add this method to handle drops outside queues
@@ -906,6 +1482,8 @@ public class ProcessManager {
                 if (!newProcesses.contains(process)) { // Add it back if somehow removed
                     removeProcessFromAllQueues(process);
                     newProcesses.add(process);
+                    metrics.onEnterQueue(process, SessionMetrics.QUEUE_NEW, now());
+                    setResidentShare(process, NEW_RESIDENT_SHARE, false);
                     repositionAllProcesses(); 
                 } else {
                     repositionAllProcesses(); // Just reposition existing
@@ -930,16 +1508,16 @@ public class ProcessManager {
 
     // Getters for queue capacities
     public int getMaxProcessesCapacity() { // Renamed for clarity
-        return MAX_PROCESSES;
+        return newViewport.getCapacity();
     }
     public int getRunningQueueCapacity() {
-        return RUNNING_QUEUE_SIZE;
+        return runningQueueCapacity;
     }
     public int getReadyQueueCapacity() {
-        return READY_QUEUE_SIZE;
+        return readyQueueCapacity;
     }
     public int getBlockedQueueCapacity() {
-        return BLOCKED_QUEUE_SIZE;
+        return blockedQueueCapacity;
     }
 
     // Getter for the new processes list
@@ -947,6 +1525,24 @@ public class ProcessManager {
         return newProcesses;
     }
 
+    // Read-only views of the other queues, for bots and simulations
+    List<Process> getRunningQueue() {
+        return Collections.unmodifiableList(runningQueue);
+    }
+
+    List<Process> getReadyQueue() {
+        return Collections.unmodifiableList(readyQueue);
+    }
+
+    List<Process> getBlockedQueue() {
+        return Collections.unmodifiableList(blockedQueue);
+    }
+
+    // Game time since the start of the session
+    long getElapsedMs() {
+        return now() - gameStartTime;
+    }
+
     // Getter for the game over reason
     public String getGameOverReason() {
         return gameOverReason;
@@ -0,0 +1,67 @@
+package com.example.processcommander;
+
+/**
+ * Quantiles of a stream in fixed memory. Values go into logarithmic buckets that each
+ * span the same relative width, so any reported quantile is within relativeAccuracy of
+ * a value that was actually recorded near that rank, from the shortest to the longest.
+ * Values below the range count as zero; values above it land in the last bucket.
+ */
+public class QuantileSketch {
+    private final double minValue;
+    private final double gamma;
+    private final double logGamma;
+    private final long[] buckets;
+    private long zeroCount = 0;
+    private long count = 0;
+
+    public QuantileSketch(double relativeAccuracy, double minValue, double maxValue) {
+        this.minValue = minValue;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.buckets = new long[(int) Math.ceil(Math.log(maxValue / minValue) / logGamma) + 1];
+    }
+
+    public void add(double value) {
+        count++;
+        if (value < minValue) {
+            zeroCount++;
+            return;
+        }
+        // Bucket i holds (minValue * gamma^(i-1), minValue * gamma^i]
+        int index = (int) Math.ceil(Math.log(value / minValue) / logGamma);
+        buckets[Math.min(Math.max(index, 0), buckets.length - 1)]++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Estimated value at the given quantile, e.g. 0.95 for p95; 0 when empty
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                // Midpoint of the bucket in relative terms, which bounds the error both ways
+                return minValue * 2 * Math.pow(gamma, i) / (gamma + 1);
+            }
+        }
+        return minValue * Math.pow(gamma, buckets.length - 1);
+    }
+
+    /**
+     * Memory the sketch holds, in buckets; fixed at construction
+     */
+    public int getBucketCount() {
+        return buckets.length;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of queue moves, terminations and priority changes for
+ * {@link ProcessManager#apply}, which carries them out with one relayout and one resource
+ * update instead of one per process. A process gets at most one move or termination; a later
+ * one replaces the earlier. Priority changes are applied first, so schedulers see the new
+ * priorities when the moves land.
+ */
+public class QueueTransaction {
+    public static final int RUNNING = 0;
+    public static final int READY = 1;
+    public static final int BLOCKED = 2;
+    public static final int TERMINATE = 3;
+
+    final List<Process> processes = new ArrayList<>();
+    final List<Integer> targets = new ArrayList<>();
+    final List<Process> reprioritized = new ArrayList<>();
+    final List<Integer> priorities = new ArrayList<>();
+
+    public QueueTransaction moveTo(Process process, int target) {
+        if (target < RUNNING || target > BLOCKED) {
+            throw new IllegalArgumentException("Unknown queue " + target);
+        }
+        return put(process, target);
+    }
+
+    public QueueTransaction terminate(Process process) {
+        return put(process, TERMINATE);
+    }
+
+    public QueueTransaction setPriority(Process process, int priority) {
+        reprioritized.add(process);
+        priorities.add(priority);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return processes.isEmpty() && reprioritized.isEmpty();
+    }
+
+    public int size() {
+        return processes.size() + reprioritized.size();
+    }
+
+    private QueueTransaction put(Process process, int target) {
+        int index = processes.indexOf(process);
+        if (index >= 0) {
+            processes.remove(index);
+            targets.remove(index);
+        }
+        processes.add(process);
+        targets.add(target);
+        return this;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.processcommander;
+
+import android.graphics.PointF;
+import android.graphics.RectF;
+
+/**
+ * The visible window of one queue area. Slots are laid out three to a row and at most
+ * MAX_VISIBLE_ROWS rows are shown; a queue with more rows scrolls a whole row at a time, so
+ * a card is either fully in the area or not drawn at all. Queues of up to fifteen slots
+ * fit without scrolling and lay out exactly as before.
+ *
+ * The scroll position is changed on the game thread and read by relayouts on any thread.
+ */
+public class QueueViewport {
+    static final int SLOTS_PER_ROW = 3;
+    static final int MAX_VISIBLE_ROWS = 5;
+    private static final float SLOT_SPACING = 15f;
+    private static final float TITLE_HEIGHT = 90f; // Queue name and count sit above the slots
+
+    private final int capacity;
+    private volatile RectF area;
+    private volatile int firstRow = 0;
+
+    public QueueViewport(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setArea(RectF area) {
+        this.area = area;
+    }
+
+    public RectF getArea() {
+        return area;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRowCount() {
+        return (capacity + SLOTS_PER_ROW - 1) / SLOTS_PER_ROW;
+    }
+
+    public int getVisibleRows() {
+        return Math.min(getRowCount(), MAX_VISIBLE_ROWS);
+    }
+
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    public boolean isScrollable() {
+        return getRowCount() > getVisibleRows();
+    }
+
+    /**
+     * Whether the slot at this index is in the visible window
+     */
+    public boolean isSlotVisible(int slot) {
+        int row = slot / SLOTS_PER_ROW - firstRow;
+        return row >= 0 && row < getVisibleRows();
+    }
+
+    /**
+     * Scroll so the given row is at the top, clamped so the last occupied row stays in view
+     */
+    public void scrollTo(int row, int occupied) {
+        int occupiedRows = (occupied + SLOTS_PER_ROW - 1) / SLOTS_PER_ROW;
+        firstRow = Math.max(0, Math.min(row, occupiedRows - getVisibleRows()));
+    }
+
+    /**
+     * Re-clamp after the queue shrank
+     */
+    public void clamp(int occupied) {
+        scrollTo(firstRow, occupied);
+    }
+
+    public boolean contains(float x, float y) {
+        RectF current = area;
+        return current != null && current.contains(x, y);
+    }
+
+    /**
+     * Distance a finger moves to scroll by one row
+     */
+    public float getRowPitch() {
+        RectF current = area;
+        if (current == null) {
+            return 1;
+        }
+        return slotHeight(current) + SLOT_SPACING;
+    }
+
+    /**
+     * Side of the square a card can take in one slot, 0 if there is no area yet. Processes
+     * pick their level of detail from this.
+     */
+    public float getSlotSize() {
+        RectF current = area;
+        if (current == null) {
+            return 0;
+        }
+        float slotWidth = (current.width() - 2 * SLOT_SPACING) / SLOTS_PER_ROW - SLOT_SPACING;
+        return Math.max(0, Math.min(slotWidth, slotHeight(current)));
+    }
+
+    /**
+     * Centre of a visible slot, written into out. Returns false if there is no area yet.
+     */
+    public boolean slotCenter(int slot, PointF out) {
+        RectF current = area;
+        if (current == null) {
+            return false;
+        }
+        float areaContentWidth = current.width() - 2 * SLOT_SPACING;
+        float slotWidth = areaContentWidth / SLOTS_PER_ROW - SLOT_SPACING;
+        float slotHeight = slotHeight(current);
+
+        int targetRow = slot / SLOTS_PER_ROW - firstRow;
+        int targetCol = slot % SLOTS_PER_ROW;
+
+        float slotLeft = current.left + SLOT_SPACING + targetCol * (slotWidth + SLOT_SPACING);
+        float slotTop = current.top + TITLE_HEIGHT + SLOT_SPACING + targetRow * (slotHeight + SLOT_SPACING);
+        out.set(slotLeft + slotWidth / 2, slotTop + slotHeight / 2);
+        return true;
+    }
+
+    private float slotHeight(RectF current) {
+        float areaContentWidth = current.width() - 2 * SLOT_SPACING;
+        float areaContentHeight = current.height() - TITLE_HEIGHT - 2 * SLOT_SPACING; // Available height below title
+        float slotWidth = areaContentWidth / SLOTS_PER_ROW - SLOT_SPACING;
+        float slotHeight = areaContentHeight / getVisibleRows() - SLOT_SPACING;
+        return Math.min(slotHeight, slotWidth * 1.2f); // Maintain aspect ratio
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.processcommander;
+
+import android.graphics.RectF;
+
+import java.util.Arrays;
+
+/**
+ * Records draw calls into a reusable command buffer instead of drawing, so the cost of a
+ * frame can be measured on the JVM. Each op is stored with the state it was drawn in.
+ * Between {@link #beginFrame} and {@link #endFrame} it counts ops, text runs and state
+ * changes (state that differs from the previous op's, i.e. what a real backend would have
+ * to switch), and compares the frame with the one before to count ops drawn again
+ * unchanged. Two buffers are swapped each frame and only grow, so recording allocates
+ * nothing once warmed up.
+ */
+public class RecordingRenderer implements Renderer {
+    public static final int OP_CLEAR = 0;
+    public static final int OP_RECT = 1;
+    public static final int OP_ROUND_RECT = 2;
+    public static final int OP_TEXT = 3;
+    public static final int OP_RECTS = 4;
+
+    /**
+     * One frame's ops; the state columns are what each op was drawn with
+     */
+    private static final class CommandBuffer {
+        int size = 0;
+        byte[] ops;
+        float[] coords; // Four per op: rect bounds, or x, y for text, or the union of a rect batch
+        int[] rectCounts; // Rects in a batch, 1 for a single rect
+        int[] rectHashes; // Contents of a batch, so moved rects inside it count as a change
+        float[] radii;
+        int[] colors;
+        byte[] styles;
+        float[] strokeWidths;
+        float[] textSizes;
+        byte[] aligns;
+        boolean[] bolds;
+        String[] texts;
+        long[] hashes; // One per op, sorted at the end of the frame for diffing
+
+        CommandBuffer(int capacity) {
+            ops = new byte[capacity];
+            coords = new float[capacity * 4];
+            rectCounts = new int[capacity];
+            rectHashes = new int[capacity];
+            radii = new float[capacity];
+            colors = new int[capacity];
+            styles = new byte[capacity];
+            strokeWidths = new float[capacity];
+            textSizes = new float[capacity];
+            aligns = new byte[capacity];
+            bolds = new boolean[capacity];
+            texts = new String[capacity];
+            hashes = new long[capacity];
+        }
+
+        void ensureCapacity() {
+            if (size < ops.length) {
+                return;
+            }
+            int capacity = ops.length * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            coords = Arrays.copyOf(coords, capacity * 4);
+            rectCounts = Arrays.copyOf(rectCounts, capacity);
+            rectHashes = Arrays.copyOf(rectHashes, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            styles = Arrays.copyOf(styles, capacity);
+            strokeWidths = Arrays.copyOf(strokeWidths, capacity);
+            textSizes = Arrays.copyOf(textSizes, capacity);
+            aligns = Arrays.copyOf(aligns, capacity);
+            bolds = Arrays.copyOf(bolds, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+
+        void clear() {
+            Arrays.fill(texts, 0, size, null); // Don't keep last frame's strings alive
+            size = 0;
+        }
+    }
+
+    private CommandBuffer current = new CommandBuffer(256);
+    private CommandBuffer previous = new CommandBuffer(256);
+
+    // Current state
+    private int color = 0xFF000000;
+    private int style = FILL;
+    private float strokeWidth = 0;
+    private float textSize = 12;
+    private int align = ALIGN_LEFT;
+    private boolean bold = false;
+    private int stateCalls = 0;
+
+    // Stats of the last ended frame
+    private long frames = 0;
+    private int opCount;
+    private int textRuns;
+    private int textChars;
+    private int rectsDrawn;
+    private int stateChanges;
+    private int stateCallCount;
+    private int unchangedOps;
+
+    public void beginFrame() {
+        CommandBuffer swap = previous;
+        previous = current;
+        current = swap;
+        current.clear();
+        stateCalls = 0;
+    }
+
+    public void endFrame() {
+        CommandBuffer frame = current;
+        opCount = frame.size;
+        textRuns = 0;
+        textChars = 0;
+        rectsDrawn = 0;
+        stateChanges = 0;
+        for (int i = 0; i < frame.size; i++) {
+            rectsDrawn += frame.rectCounts[i];
+            if (frame.ops[i] == OP_TEXT) {
+                textRuns++;
+                textChars += frame.texts[i].length();
+            }
+            if (i > 0 && frame.ops[i] != OP_CLEAR && !sameState(frame, i, i - 1)) {
+                stateChanges++;
+            }
+            frame.hashes[i] = hash(frame, i);
+        }
+        stateCallCount = stateCalls;
+        Arrays.sort(frame.hashes, 0, frame.size);
+        unchangedOps = frames > 0 ? countCommon(frame, previous) : 0;
+        frames++;
+    }
+
+    /**
+     * Frames ended so far
+     */
+    public long getFrameCount() {
+        return frames;
+    }
+
+    public int getOpCount() {
+        return opCount;
+    }
+
+    public int getTextRuns() {
+        return textRuns;
+    }
+
+    public int getTextChars() {
+        return textChars;
+    }
+
+    /**
+     * Rects and round rects drawn, counting each rect of a batch
+     */
+    public int getRectsDrawn() {
+        return rectsDrawn;
+    }
+
+    /**
+     * Ops whose state differs from the op before, so a backend must switch state first
+     */
+    public int getStateChanges() {
+        return stateChanges;
+    }
+
+    /**
+     * State setter calls made, including ones that changed nothing
+     */
+    public int getStateCalls() {
+        return stateCallCount;
+    }
+
+    /**
+     * Ops identical to one in the previous frame, state included
+     */
+    public int getUnchangedOps() {
+        return unchangedOps;
+    }
+
+    /**
+     * Share of the last frame's ops that repeat the frame before, 0 to 1
+     */
+    public float getRedundancy() {
+        return opCount > 0 ? (float) unchangedOps / opCount : 0;
+    }
+
+    // Recorded ops of the current (or, after endFrame, last) frame, for tests
+
+    public int getRecordedOp(int index) {
+        return current.ops[index];
+    }
+
+    public int getRecordedRectCount(int index) {
+        return current.rectCounts[index];
+    }
+
+    public String getRecordedText(int index) {
+        return current.texts[index];
+    }
+
+    public int getRecordedColor(int index) {
+        return current.colors[index];
+    }
+
+    @Override
+    public void setColor(int color) {
+        stateCalls++;
+        this.color = color;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        stateCalls++;
+        color = (color & 0x00FFFFFF) | ((alpha & 0xFF) << 24);
+    }
+
+    @Override
+    public void setStyle(int style) {
+        stateCalls++;
+        this.style = style;
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        stateCalls++;
+        strokeWidth = width;
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        stateCalls++;
+        textSize = size;
+    }
+
+    @Override
+    public void setTextAlign(int align) {
+        stateCalls++;
+        this.align = align;
+    }
+
+    @Override
+    public void setBold(boolean bold) {
+        stateCalls++;
+        this.bold = bold;
+    }
+
+    @Override
+    public void drawColor(int color) {
+        int index = append(OP_CLEAR, 0, 0, 0, 0, null);
+        current.colors[index] = color;
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom) {
+        append(OP_RECT, left, top, right, bottom, null);
+    }
+
+    @Override
+    public void drawRect(RectF rect) {
+        append(OP_RECT, rect.left, rect.top, rect.right, rect.bottom, null);
+    }
+
+    @Override
+    public void drawRoundRect(RectF rect, float radius) {
+        int index = append(OP_ROUND_RECT, rect.left, rect.top, rect.right, rect.bottom, null);
+        current.radii[index] = radius;
+    }
+
+    @Override
+    public void drawRects(float[] rects, int count) {
+        float left = Float.MAX_VALUE, top = Float.MAX_VALUE, right = -Float.MAX_VALUE, bottom = -Float.MAX_VALUE;
+        int contents = 1;
+        for (int i = 0; i < count * 4; i += 4) {
+            left = Math.min(left, rects[i]);
+            top = Math.min(top, rects[i + 1]);
+            right = Math.max(right, rects[i + 2]);
+            bottom = Math.max(bottom, rects[i + 3]);
+        }
+        for (int i = 0; i < count * 4; i++) {
+            contents = contents * 31 + Float.floatToIntBits(rects[i]);
+        }
+        int index = append(OP_RECTS, left, top, right, bottom, null);
+        current.rectCounts[index] = count;
+        current.rectHashes[index] = contents;
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+        append(OP_TEXT, x, y, 0, 0, text);
+    }
+
+    private int append(int op, float a, float b, float c, float d, String text) {
+        CommandBuffer frame = current;
+        frame.ensureCapacity();
+        int index = frame.size++;
+        frame.ops[index] = (byte) op;
+        int base = index * 4;
+        frame.coords[base] = a;
+        frame.coords[base + 1] = b;
+        frame.coords[base + 2] = c;
+        frame.coords[base + 3] = d;
+        frame.radii[index] = 0;
+        frame.rectCounts[index] = op == OP_RECT || op == OP_ROUND_RECT ? 1 : 0;
+        frame.rectHashes[index] = 0;
+        frame.colors[index] = color;
+        frame.styles[index] = (byte) style;
+        // Only the state that affects this kind of op is kept, so unrelated leftovers don't count as changes
+        frame.strokeWidths[index] = op != OP_TEXT && style == STROKE ? strokeWidth : 0;
+        frame.textSizes[index] = op == OP_TEXT ? textSize : 0;
+        frame.aligns[index] = (byte) (op == OP_TEXT ? align : 0);
+        frame.bolds[index] = op == OP_TEXT && bold;
+        frame.texts[index] = text;
+        return index;
+    }
+
+    private static boolean sameState(CommandBuffer frame, int i, int j) {
+        return frame.colors[i] == frame.colors[j] && frame.styles[i] == frame.styles[j]
+                && frame.strokeWidths[i] == frame.strokeWidths[j]
+                && (frame.ops[i] != OP_TEXT || frame.ops[j] != OP_TEXT
+                    || (frame.textSizes[i] == frame.textSizes[j] && frame.aligns[i] == frame.aligns[j]
+                        && frame.bolds[i] == frame.bolds[j]));
+    }
+
+    private static long hash(CommandBuffer frame, int i) {
+        long h = frame.ops[i];
+        int base = i * 4;
+        for (int k = 0; k < 4; k++) {
+            h = h * 31 + Float.floatToIntBits(frame.coords[base + k]);
+        }
+        h = h * 31 + Float.floatToIntBits(frame.radii[i]);
+        h = h * 31 + frame.rectCounts[i];
+        h = h * 31 + frame.rectHashes[i];
+        h = h * 31 + frame.colors[i];
+        h = h * 31 + frame.styles[i];
+        h = h * 31 + Float.floatToIntBits(frame.strokeWidths[i]);
+        h = h * 31 + Float.floatToIntBits(frame.textSizes[i]);
+        h = h * 31 + frame.aligns[i];
+        h = h * 31 + (frame.bolds[i] ? 1 : 0);
+        h = h * 31 + (frame.texts[i] != null ? frame.texts[i].hashCode() : 0);
+        return h * 0x9E3779B97F4A7C15L;
+    }
+
+    // Size of the multiset intersection of two frames' sorted op hashes
+    private static int countCommon(CommandBuffer a, CommandBuffer b) {
+        int i = 0, j = 0, common = 0;
+        while (i < a.size && j < b.size) {
+            if (a.hashes[i] == b.hashes[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a.hashes[i] < b.hashes[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return common;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.processcommander;
+
+import android.graphics.Color;
+import android.graphics.RectF;
+
+import java.util.Arrays;
+
+/**
+ * Filled rects grouped by colour, so many small shapes go out as one drawRects call per
+ * colour instead of a call and a colour change each. The arrays only grow and are reused
+ * every frame; use it from one thread.
+ */
+class RectBatch {
+    private int[] colors = new int[8];
+    private float[][] rects = new float[8][];
+    private int[] counts = new int[8];
+    private int colorCount = 0;
+
+    public void add(int color, RectF rect) {
+        int slot = slotFor(color);
+        float[] batch = rects[slot];
+        int base = counts[slot] * 4;
+        if (base + 4 > batch.length) {
+            batch = Arrays.copyOf(batch, batch.length * 2);
+            rects[slot] = batch;
+        }
+        batch[base] = rect.left;
+        batch[base + 1] = rect.top;
+        batch[base + 2] = rect.right;
+        batch[base + 3] = rect.bottom;
+        counts[slot]++;
+    }
+
+    /**
+     * Draw every colour's rects and empty the batch
+     */
+    public void flush(Renderer renderer) {
+        boolean drew = false;
+        for (int i = 0; i < colorCount; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (!drew) {
+                renderer.setStyle(Renderer.FILL);
+                drew = true;
+            }
+            renderer.setColor(colors[i]);
+            renderer.drawRects(rects[i], counts[i]);
+            counts[i] = 0;
+        }
+        if (drew) {
+            renderer.setColor(Color.WHITE); // Leave the state as Process.draw does
+        }
+    }
+
+    // Colours stay in their slot across frames; there are only a handful of state colours
+    private int slotFor(int color) {
+        for (int i = 0; i < colorCount; i++) {
+            if (colors[i] == color) {
+                return i;
+            }
+        }
+        if (colorCount == colors.length) {
+            colors = Arrays.copyOf(colors, colorCount * 2);
+            rects = Arrays.copyOf(rects, colorCount * 2);
+            counts = Arrays.copyOf(counts, colorCount * 2);
+        }
+        colors[colorCount] = color;
+        rects[colorCount] = new float[16 * 4];
+        return colorCount++;
+    }
+}
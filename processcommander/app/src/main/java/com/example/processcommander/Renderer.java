@@ -0,0 +1,55 @@
+package com.example.processcommander;
+
+import android.graphics.RectF;
+
+/**
+ * The drawing calls the game makes, with Paint-like state set between them. On device
+ * {@link CanvasRenderer} passes them to a Canvas; in JVM tests {@link RecordingRenderer}
+ * records them so draw cost can be counted without a device.
+ */
+public interface Renderer {
+    int FILL = 0;
+    int STROKE = 1;
+
+    int ALIGN_LEFT = 0;
+    int ALIGN_CENTER = 1;
+
+    /**
+     * Full ARGB colour, as Paint.setColor
+     */
+    void setColor(int color);
+
+    /**
+     * Alpha of the current colour, as Paint.setAlpha
+     */
+    void setAlpha(int alpha);
+
+    void setStyle(int style);
+
+    void setStrokeWidth(float width);
+
+    void setTextSize(float size);
+
+    void setTextAlign(int align);
+
+    void setBold(boolean bold);
+
+    /**
+     * Fill the whole target, ignoring the current state
+     */
+    void drawColor(int color);
+
+    void drawRect(float left, float top, float right, float bottom);
+
+    void drawRect(RectF rect);
+
+    void drawRoundRect(RectF rect, float radius);
+
+    /**
+     * Draw count rects in one call with the current state. rects holds four floats per rect:
+     * left, top, right, bottom.
+     */
+    void drawRects(float[] rects, int count);
+
+    void drawText(String text, float x, float y);
+}
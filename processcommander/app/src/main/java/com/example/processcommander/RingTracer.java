@@ -0,0 +1,114 @@
+package com.example.processcommander;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records span begin/end events into preallocated parallel arrays, keeping the most
+ * recent capacity events. Any thread may record: a slot is claimed with one atomic
+ * increment and then filled in, with no locks and no allocation. Export with
+ * {@link #writeChromeTrace}, ideally once the traced threads have stopped, and open the
+ * file in chrome://tracing or ui.perfetto.dev. Works the same on device and in JVM tests.
+ */
+public class RingTracer implements Tracer {
+    private static final byte BEGIN = 'B';
+    private static final byte END = 'E';
+
+    private final int mask;
+    private final long[] timesNs;
+    private final int[] spans;
+    private final byte[] phases;
+    private final long[] threadIds;
+    private final AtomicLong next = new AtomicLong();
+    private final long originNs = System.nanoTime();
+
+    /**
+     * Keeps the last capacity events, rounded up to a power of two
+     */
+    public RingTracer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.timesNs = new long[size];
+        this.spans = new int[size];
+        this.phases = new byte[size];
+        this.threadIds = new long[size];
+    }
+
+    @Override
+    public void begin(int span) {
+        record(span, BEGIN);
+    }
+
+    @Override
+    public void end(int span) {
+        record(span, END);
+    }
+
+    private void record(int span, byte phase) {
+        int slot = (int) (next.getAndIncrement() & mask);
+        timesNs[slot] = System.nanoTime() - originNs;
+        spans[slot] = span;
+        phases[slot] = phase;
+        threadIds[slot] = Thread.currentThread().getId();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Events currently held, at most capacity()
+     */
+    public int getRecordedCount() {
+        return (int) Math.min(next.get(), capacity());
+    }
+
+    /**
+     * Oldest events overwritten because the ring was full
+     */
+    public long getOverwrittenCount() {
+        return Math.max(0, next.get() - capacity());
+    }
+
+    /**
+     * Write the held events, oldest first, as Chrome trace-event JSON. An end whose begin
+     * was overwritten is left out so every thread's spans still nest.
+     */
+    public void writeChromeTrace(Writer out) throws IOException {
+        long last = next.get();
+        long first = Math.max(0, last - capacity());
+        Map<Long, Integer> depths = new HashMap<>();
+        out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        boolean firstEvent = true;
+        for (long i = first; i < last; i++) {
+            int slot = (int) (i & mask);
+            long tid = threadIds[slot];
+            Integer depth = depths.get(tid);
+            int open = depth != null ? depth : 0;
+            if (phases[slot] == END) {
+                if (open == 0) {
+                    continue;
+                }
+                depths.put(tid, open - 1);
+            } else {
+                depths.put(tid, open + 1);
+            }
+
+            out.write(firstEvent ? "\n" : ",\n");
+            firstEvent = false;
+            long timeNs = timesNs[slot];
+            out.write("{\"name\":\"" + SPAN_NAMES[spans[slot]] + "\",\"cat\":\"game\",\"ph\":\"" + (char) phases[slot]
+                    + "\",\"ts\":" + timeNs / 1000 + "." + threeDigits(timeNs % 1000)
+                    + ",\"pid\":1,\"tid\":" + tid + "}");
+        }
+        out.write("\n]}\n");
+        out.flush();
+    }
+
+    private static String threeDigits(long value) {
+        return value < 10 ? "00" + value : value < 100 ? "0" + value : String.valueOf(value);
+    }
+}
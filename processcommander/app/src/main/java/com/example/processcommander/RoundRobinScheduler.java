@@ -0,0 +1,49 @@
+package com.example.processcommander;
+
+import java.util.ArrayDeque;
+
+/**
+ * Round robin: FIFO ready queue, each dispatch gets a fixed quantum of CPU time
+ */
+public class RoundRobinScheduler implements Scheduler {
+    private final ArrayDeque<Process> ready = new ArrayDeque<>();
+    private final long quantumMs;
+
+    public RoundRobinScheduler(long quantumMs) {
+        this.quantumMs = quantumMs;
+    }
+
+    @Override
+    public String getName() {
+        return "RR(q=" + quantumMs + "ms)";
+    }
+
+    @Override
+    public void onReady(Process process, long nowMs) {
+        ready.addLast(process);
+    }
+
+    @Override
+    public void onRemoved(Process process) {
+        ready.remove(process);
+    }
+
+    @Override
+    public Process selectNext(long nowMs) {
+        return ready.pollFirst();
+    }
+
+    @Override
+    public long getQuantumMs(Process process) {
+        return quantumMs;
+    }
+
+    @Override
+    public void onQuantumExpired(Process process) {
+    }
+
+    @Override
+    public void reset() {
+        ready.clear();
+    }
+}
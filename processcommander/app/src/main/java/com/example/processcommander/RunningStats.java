@@ -0,0 +1,54 @@
+package com.example.processcommander;
+
+/**
+ * Count, mean, variance, min and max of a stream in constant memory, using Welford's
+ * update so the variance stays accurate however long the session runs.
+ */
+public class RunningStats {
+    private long count = 0;
+    private double mean = 0;
+    private double m2 = 0; // Sum of squared distances from the mean
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (count == 1) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Sample variance; 0 until there are two values
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
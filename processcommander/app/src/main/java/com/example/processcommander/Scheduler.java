@@ -0,0 +1,47 @@
+package com.example.processcommander;
+
+/**
+ * Scheduling policy that decides which ready process runs next and for how long.
+ *
+ * The scheduler owns its own view of the ready set: it is told when a process becomes
+ * ready or leaves the ready queue some other way, and hands processes out through
+ * {@link #selectNext}. ProcessManager uses it to drive moveToRunningQueue/moveToReadyQueue
+ * automatically; the same implementations run headlessly in the scheduler evaluation tests.
+ */
+public interface Scheduler {
+    long NO_QUANTUM = Long.MAX_VALUE;
+
+    String getName();
+
+    /**
+     * A process joined the ready set (arrival, I/O completion or preemption)
+     */
+    void onReady(Process process, long nowMs);
+
+    /**
+     * A process left the ready set without being selected (moved by the player, terminated).
+     * Must be harmless for processes the scheduler no longer holds.
+     */
+    void onRemoved(Process process);
+
+    /**
+     * Remove and return the next process to dispatch, or null if nothing is ready
+     */
+    Process selectNext(long nowMs);
+
+    /**
+     * CPU time the process may use after being dispatched before it is preempted,
+     * or {@link #NO_QUANTUM} for run-to-completion policies
+     */
+    long getQuantumMs(Process process);
+
+    /**
+     * The process used its whole quantum and is about to be made ready again
+     */
+    void onQuantumExpired(Process process);
+
+    /**
+     * Forget all state, e.g. before reuse on a new workload
+     */
+    void reset();
+}
@@ -0,0 +1,174 @@
+package com.example.processcommander;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ListView adapter over the scores table that loads rows one keyset page at a time
+ * on a background thread and only keeps a few pages in memory.
+ */
+public class ScoreHistoryAdapter extends BaseAdapter {
+    private static final int PAGE_SIZE = 50;
+    private static final int MAX_RESIDENT_PAGES = 4;
+    private static final int PREFETCH_DISTANCE = 15; // Rows before the end of a page that trigger the next load
+
+    private final DatabaseHelper dbHelper;
+    private final LayoutInflater inflater;
+    private final Handler mainHandler;
+    private final ExecutorService loader;
+
+    // UI thread only
+    private int count = 0;
+    private final Set<Integer> loadingPages = new HashSet<>();
+    private final LinkedHashMap<Integer, List<DatabaseHelper.Score>> residentPages =
+            new LinkedHashMap<Integer, List<DatabaseHelper.Score>>(MAX_RESIDENT_PAGES + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<DatabaseHelper.Score>> eldest) {
+                    return size() > MAX_RESIDENT_PAGES;
+                }
+            };
+
+    // Loader thread only: the (score, id) key each page starts after, so any
+    // page we have walked past once can be fetched again directly
+    private int[] pageAfterScore = new int[16];
+    private int[] pageAfterId = new int[16];
+    private int knownPageKeys = 1; // Page 0 starts at the top of the table
+
+    public ScoreHistoryAdapter(Context context, DatabaseHelper dbHelper) {
+        this.dbHelper = dbHelper;
+        this.inflater = LayoutInflater.from(context);
+        this.mainHandler = new Handler(Looper.getMainLooper());
+        this.loader = Executors.newSingleThreadExecutor();
+        pageAfterId[0] = -1;
+
+        loader.execute(new Runnable() {
+            @Override
+            public void run() {
+                final int total = ScoreHistoryAdapter.this.dbHelper.getScoreCount();
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        count = total;
+                        notifyDataSetChanged();
+                        requestPage(0);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public DatabaseHelper.Score getItem(int position) {
+        int page = position / PAGE_SIZE;
+        List<DatabaseHelper.Score> rows = residentPages.get(page);
+        if (rows == null) {
+            requestPage(page);
+            return null;
+        }
+        int indexInPage = position % PAGE_SIZE;
+        if (indexInPage >= PAGE_SIZE - PREFETCH_DISTANCE) {
+            requestPage(page + 1);
+        }
+        return indexInPage < rows.size() ? rows.get(indexInPage) : null;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        TextView view = (TextView) (convertView != null
+                ? convertView
+                : inflater.inflate(android.R.layout.simple_list_item_1, parent, false));
+
+        DatabaseHelper.Score score = getItem(position);
+        if (score == null) {
+            view.setText((position + 1) + ". Loading...");
+        } else {
+            view.setText((position + 1) + ". Score: " + score.getScore()
+                    + " - Completed: " + score.getProcessesCompleted()
+                    + ", Emergencies: " + score.getEmergenciesHandled());
+        }
+        return view;
+    }
+
+    /**
+     * Stop the loader thread. Call from the owning Activity's onDestroy.
+     */
+    public void close() {
+        loader.shutdownNow();
+        mainHandler.removeCallbacksAndMessages(null);
+    }
+
+    private void requestPage(final int page) {
+        if (page * PAGE_SIZE >= count || residentPages.containsKey(page) || loadingPages.contains(page)) {
+            return;
+        }
+        loadingPages.add(page);
+        loader.execute(new Runnable() {
+            @Override
+            public void run() {
+                final List<DatabaseHelper.Score> rows = loadPage(page);
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        loadingPages.remove(page);
+                        residentPages.put(page, rows);
+                        notifyDataSetChanged();
+                    }
+                });
+            }
+        });
+    }
+
+    // Runs on the loader thread
+    private List<DatabaseHelper.Score> loadPage(int page) {
+        // Walk forward from the closest page whose start key we know
+        int current = Math.min(page, knownPageKeys - 1);
+        List<DatabaseHelper.Score> rows;
+        while (true) {
+            rows = dbHelper.getScoresPage(pageAfterScore[current], pageAfterId[current], PAGE_SIZE);
+            if (!rows.isEmpty() && current + 1 >= knownPageKeys) {
+                DatabaseHelper.Score last = rows.get(rows.size() - 1);
+                recordPageKey(current + 1, last.getScore(), last.getId());
+            }
+            if (current >= page || rows.size() < PAGE_SIZE) {
+                return rows;
+            }
+            current++;
+        }
+    }
+
+    private void recordPageKey(int page, int afterScore, int afterId) {
+        if (page >= pageAfterScore.length) {
+            int newLength = pageAfterScore.length * 2;
+            pageAfterScore = Arrays.copyOf(pageAfterScore, newLength);
+            pageAfterId = Arrays.copyOf(pageAfterId, newLength);
+        }
+        pageAfterScore[page] = afterScore;
+        pageAfterId[page] = afterId;
+        knownPageKeys = page + 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.processcommander;
+
+import java.util.Arrays;
+
+/**
+ * Append-only log of every scoring event, kept in parallel primitive arrays. The score is
+ * the sum of the log, maintained as a running total. Only the simulation thread records;
+ * any thread may read the total, per-category totals and entries without locks, because
+ * everything is written before the volatile entry count that publishes it.
+ *
+ * The score never goes below zero, so each entry holds the change actually applied: a
+ * penalty on a score of 150 is logged as -150, and the categories always add up to the total.
+ */
+public class ScoreLedger {
+    public static final int COMPLETION = 0;
+    public static final int STARVATION = 1;
+    public static final int CRITICAL = 2;
+    public static final String[] CATEGORY_NAMES = { "Completions", "Starvation", "Critical" };
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Writer-owned; grown by copying, and a reader that read size first sees the grown arrays
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] deltas = new int[INITIAL_CAPACITY];
+    private long[] times = new long[INITIAL_CAPACITY];
+    private final int[] categoryTotals = new int[CATEGORY_NAMES.length];
+
+    private volatile int size = 0;
+    private volatile int total = 0;
+
+    /**
+     * Record a scoring event and return the change applied after clamping at zero. Call only
+     * from the simulation thread.
+     */
+    public int record(int category, int points, long timeMs) {
+        int applied = Math.max(-total, points);
+        int index = size;
+        if (index == deltas.length) {
+            int capacity = index * 2;
+            categories = Arrays.copyOf(categories, capacity);
+            deltas = Arrays.copyOf(deltas, capacity);
+            times = Arrays.copyOf(times, capacity);
+        }
+        categories[index] = (byte) category;
+        deltas[index] = applied;
+        times[index] = timeMs;
+        categoryTotals[category] += applied;
+        total += applied; // Single writer, so no lost updates
+        size = index + 1;  // Publishes the entry
+        return applied;
+    }
+
+    /**
+     * The current score
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Points from one category so far
+     */
+    public int getCategoryTotal(int category) {
+        int published = size; // Acquire before reading what the writer stored ahead of it
+        return published == 0 ? 0 : categoryTotals[category];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCategory(int index) {
+        checkIndex(index);
+        return categories[index];
+    }
+
+    public int getDelta(int index) {
+        checkIndex(index);
+        return deltas[index];
+    }
+
+    public long getTimeMs(int index) {
+        checkIndex(index);
+        return times[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Entry " + index + " of " + size);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scheduling metrics for one game, updated as processes move between queues. Each metric
+ * keeps Welford mean/variance plus a fixed-size quantile sketch, so memory stays the same
+ * whether the session lasts a minute or a day. Per-process timestamps live on the Process.
+ *
+ * Turnaround is arrival to completion, waiting is total time in the ready queue, and
+ * response is arrival to first dispatch. Residency is the length of each stay in a queue.
+ */
+public class SessionMetrics {
+    static final int QUEUE_NONE = -1;
+    static final int QUEUE_NEW = 0;
+    static final int QUEUE_RUNNING = 1;
+    static final int QUEUE_READY = 2;
+    static final int QUEUE_BLOCKED = 3;
+    private static final String[] QUEUE_NAMES = { "new", "running", "ready", "blocked" };
+
+    // Summary names, also the keys they are stored under
+    public static final String THROUGHPUT = "throughput_per_min";
+    public static final String TURNAROUND = "turnaround_ms";
+    public static final String WAITING = "waiting_ms";
+    public static final String RESPONSE = "response_ms";
+    public static final String CPU_UTILISATION = "cpu_utilisation_pct";
+    public static final String MEMORY_UTILISATION = "memory_utilisation_pct";
+    public static final String RESIDENCY_PREFIX = "residency_ms_";
+    public static final String TOUCH_LATENCY = "touch_latency_ms"; // Recorded by the view, not the engine
+
+    private static final double SKETCH_ACCURACY = 0.02;
+
+    /**
+     * One metric: running moments plus a quantile sketch
+     */
+    static final class Stat {
+        final RunningStats stats = new RunningStats();
+        final QuantileSketch sketch;
+
+        Stat(double minValue, double maxValue) {
+            sketch = new QuantileSketch(SKETCH_ACCURACY, minValue, maxValue);
+        }
+
+        void add(double value) {
+            stats.add(value);
+            sketch.add(value);
+        }
+
+        Summary summarize(String name) {
+            return new Summary(name, stats.getCount(), stats.getMean(), stats.getStdDev(),
+                    sketch.quantile(0.5), sketch.quantile(0.95), stats.getCount() > 0 ? stats.getMax() : 0);
+        }
+    }
+
+    /**
+     * Snapshot of one metric, as shown at game over and stored with the score
+     */
+    public static final class Summary {
+        public final String name;
+        public final long count;
+        public final double mean;
+        public final double stdDev;
+        public final double p50;
+        public final double p95;
+        public final double max;
+
+        public Summary(String name, long count, double mean, double stdDev, double p50, double p95, double max) {
+            this.name = name;
+            this.count = count;
+            this.mean = mean;
+            this.stdDev = stdDev;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.max = max;
+        }
+    }
+
+    private final Stat turnaround = timeStat();
+    private final Stat waiting = timeStat();
+    private final Stat response = timeStat();
+    private final Stat[] residency = { timeStat(), timeStat(), timeStat(), timeStat() };
+    private final Stat cpuUtilisation = percentStat();
+    private final Stat memoryUtilisation = percentStat();
+    private int completed = 0;
+
+    // 1 ms to a day
+    private static Stat timeStat() {
+        return new Stat(1, 24 * 60 * 60 * 1000.0);
+    }
+
+    // 0.1% to ten times over budget
+    private static Stat percentStat() {
+        return new Stat(0.1, 1000);
+    }
+
+    public synchronized void onArrival(Process process, long nowMs) {
+        process.arrivalMs = nowMs;
+        enter(process, QUEUE_NEW, nowMs);
+    }
+
+    /**
+     * The process was put in the given queue; ends its stay in the previous one
+     */
+    public synchronized void onEnterQueue(Process process, int queue, long nowMs) {
+        enter(process, queue, nowMs);
+    }
+
+    public synchronized void onCompleted(Process process, long nowMs) {
+        leave(process, nowMs);
+        completed++;
+        turnaround.add(nowMs - process.arrivalMs);
+        waiting.add(process.readyWaitMs);
+    }
+
+    /**
+     * The process left the system without completing, e.g. terminated by the player
+     */
+    public synchronized void onTerminated(Process process, long nowMs) {
+        leave(process, nowMs);
+    }
+
+    public synchronized void sampleUtilisation(float cpuPercent, float memoryPercent) {
+        cpuUtilisation.add(cpuPercent);
+        memoryUtilisation.add(memoryPercent);
+    }
+
+    public synchronized int getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Every metric, with throughput over the given game length
+     */
+    public synchronized List<Summary> summaries(long elapsedMs) {
+        List<Summary> out = new ArrayList<>(6 + residency.length);
+        double perMinute = elapsedMs > 0 ? completed * 60000.0 / elapsedMs : 0;
+        out.add(new Summary(THROUGHPUT, completed, perMinute, 0, perMinute, perMinute, perMinute));
+        out.add(turnaround.summarize(TURNAROUND));
+        out.add(waiting.summarize(WAITING));
+        out.add(response.summarize(RESPONSE));
+        out.add(cpuUtilisation.summarize(CPU_UTILISATION));
+        out.add(memoryUtilisation.summarize(MEMORY_UTILISATION));
+        for (int queue = 0; queue < residency.length; queue++) {
+            out.add(residency[queue].summarize(RESIDENCY_PREFIX + QUEUE_NAMES[queue]));
+        }
+        return out;
+    }
+
+    private void enter(Process process, int queue, long nowMs) {
+        if (process.metricsQueue == queue) {
+            return; // Re-slotted within the same queue
+        }
+        leave(process, nowMs);
+        if (process.arrivalMs < 0) {
+            process.arrivalMs = nowMs; // Injected straight into a queue, e.g. an emergency
+        }
+        if (queue == QUEUE_RUNNING && process.firstRunMs < 0) {
+            process.firstRunMs = nowMs;
+            response.add(nowMs - process.arrivalMs);
+        }
+        process.metricsQueue = queue;
+        process.queueSinceMs = nowMs;
+    }
+
+    private void leave(Process process, long nowMs) {
+        int queue = process.metricsQueue;
+        if (queue == QUEUE_NONE) {
+            return;
+        }
+        long stay = nowMs - process.queueSinceMs;
+        residency[queue].add(stay);
+        if (queue == QUEUE_READY) {
+            process.readyWaitMs += stay;
+        }
+        process.metricsQueue = QUEUE_NONE;
+    }
+}
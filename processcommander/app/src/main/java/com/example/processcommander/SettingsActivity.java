@@ -11,8 +11,8 @@ import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 
 public class SettingsActivity extends AppCompatActivity {
-    private static final String PREFS_NAME = "ProcessCommanderPrefs";
-    private static final String PREF_DIFFICULTY = "difficulty";
+    private static final String PREFS_NAME = DifficultyProfiles.PREFS_NAME;
+    private static final String PREF_DIFFICULTY = DifficultyProfiles.PREF_DIFFICULTY;
     private static final String PREF_VIBRATION = "vibration";
     private static final String PREF_SOUND = "sound";
     
@@ -56,15 +56,15 @@ public class SettingsActivity extends AppCompatActivity {
         SharedPreferences settings = getSharedPreferences(PREFS_NAME, MODE_PRIVATE);
         
         // Load difficulty setting
-        int difficulty = settings.getInt(PREF_DIFFICULTY, 1); // Default to medium
+        int difficulty = settings.getInt(PREF_DIFFICULTY, DifficultyProfile.LEVEL_MEDIUM);
         switch (difficulty) {
-            case 0:
+            case DifficultyProfile.LEVEL_EASY:
                 easyRadioButton.setChecked(true);
                 break;
-            case 1:
+            case DifficultyProfile.LEVEL_MEDIUM:
                 mediumRadioButton.setChecked(true);
                 break;
-            case 2:
+            case DifficultyProfile.LEVEL_HARD:
                 hardRadioButton.setChecked(true);
                 break;
         }
@@ -82,11 +82,11 @@ public class SettingsActivity extends AppCompatActivity {
         int difficulty;
         int selectedId = difficultyRadioGroup.getCheckedRadioButtonId();
         if (selectedId == R.id.easyRadioButton) {
-            difficulty = 0;
+            difficulty = DifficultyProfile.LEVEL_EASY;
         } else if (selectedId == R.id.mediumRadioButton) {
-            difficulty = 1;
+            difficulty = DifficultyProfile.LEVEL_MEDIUM;
         } else {
-            difficulty = 2;
+            difficulty = DifficultyProfile.LEVEL_HARD;
         }
         editor.putInt(PREF_DIFFICULTY, difficulty);
         
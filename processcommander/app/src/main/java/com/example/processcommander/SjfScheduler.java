@@ -0,0 +1,55 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+
+/**
+ * Shortest job first: dispatch the ready process with the least CPU time remaining,
+ * run to completion. Ties go to the process that became ready first.
+ */
+public class SjfScheduler implements Scheduler {
+    private final ArrayList<Process> ready = new ArrayList<>();
+
+    @Override
+    public String getName() {
+        return "SJF";
+    }
+
+    @Override
+    public void onReady(Process process, long nowMs) {
+        ready.add(process);
+    }
+
+    @Override
+    public void onRemoved(Process process) {
+        ready.remove(process);
+    }
+
+    @Override
+    public Process selectNext(long nowMs) {
+        if (ready.isEmpty()) {
+            return null;
+        }
+        // Remaining time changes while processes run, so pick at dispatch time
+        int best = 0;
+        for (int i = 1; i < ready.size(); i++) {
+            if (ready.get(i).getCpuTimeRemaining() < ready.get(best).getCpuTimeRemaining()) {
+                best = i;
+            }
+        }
+        return ready.remove(best);
+    }
+
+    @Override
+    public long getQuantumMs(Process process) {
+        return NO_QUANTUM;
+    }
+
+    @Override
+    public void onQuantumExpired(Process process) {
+    }
+
+    @Override
+    public void reset() {
+        ready.clear();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.processcommander;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import java.util.ArrayList;
+
+/**
+ * Remembers where overlay text wraps. Line breaks are computed once per
+ * (text, width, text size, typeface) and reused on every frame after that; a lookup
+ * is a short linear scan that allocates nothing. invalidate() drops everything, e.g.
+ * when the surface is resized, and may be called from any thread.
+ */
+public class TextLayoutCache {
+    private final String[] texts;
+    private final float[] widths;
+    private final float[] sizes;
+    private final Typeface[] typefaces;
+    private final String[][] layouts;
+    private int count = 0;
+    private int nextVictim = 0;
+    private volatile boolean invalidated = false;
+
+    // Cache misses, for tests
+    private int misses = 0;
+
+    public TextLayoutCache(int capacity) {
+        texts = new String[capacity];
+        widths = new float[capacity];
+        sizes = new float[capacity];
+        typefaces = new Typeface[capacity];
+        layouts = new String[capacity][];
+    }
+
+    /**
+     * Lines of text wrapped at word boundaries to fit maxWidth with the paint's current
+     * text size and typeface. Call from the drawing thread only.
+     */
+    public String[] lines(String text, float maxWidth, Paint paint) {
+        if (invalidated) {
+            invalidated = false;
+            clear();
+        }
+        float size = paint.getTextSize();
+        Typeface typeface = paint.getTypeface();
+        for (int i = 0; i < count; i++) {
+            if (widths[i] == maxWidth && sizes[i] == size && typefaces[i] == typeface
+                    && (texts[i] == text || texts[i].equals(text))) {
+                return layouts[i];
+            }
+        }
+
+        misses++;
+        String[] layout = breakLines(text, maxWidth, paint);
+        int slot;
+        if (count < texts.length) {
+            slot = count++;
+        } else {
+            slot = nextVictim;
+            nextVictim = (nextVictim + 1) % texts.length;
+        }
+        texts[slot] = text;
+        widths[slot] = maxWidth;
+        sizes[slot] = size;
+        typefaces[slot] = typeface;
+        layouts[slot] = layout;
+        return layout;
+    }
+
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    int getMissCount() {
+        return misses;
+    }
+
+    private void clear() {
+        for (int i = 0; i < count; i++) {
+            texts[i] = null;
+            typefaces[i] = null;
+            layouts[i] = null;
+        }
+        count = 0;
+        nextVictim = 0;
+    }
+
+    // Greedy word wrap; a word wider than the line gets a line of its own. Runs of spaces
+    // are empty words that never break a line, so leading spaces stay with the first word.
+    static String[] breakLines(String text, float maxWidth, Paint paint) {
+        ArrayList<String> lines = new ArrayList<>();
+        int lineStart = 0;
+        int lineEnd = -1; // End of the last word that fit, -1 while the line is empty
+        int i = 0;
+        while (i <= text.length()) {
+            int wordEnd = text.indexOf(' ', i);
+            if (wordEnd < 0) {
+                wordEnd = text.length();
+            }
+            if (wordEnd > i) {
+                if (lineEnd >= 0 && paint.measureText(text, lineStart, wordEnd) > maxWidth) {
+                    lines.add(text.substring(lineStart, lineEnd));
+                    lineStart = i;
+                }
+                lineEnd = wordEnd;
+            }
+            i = wordEnd + 1;
+        }
+        lines.add(text.substring(lineStart, lineEnd < 0 ? text.length() : lineEnd));
+        return lines.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.processcommander;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Compact binary format for session timelines.
+ *
+ * Layout: version, channel count, sample count, then each channel in turn as a
+ * sequence of zigzag varint deltas from the previous sample. A zero delta is
+ * followed by a varint count of further repeated zeros, so channels that sit
+ * still (most queue sizes, most of the time) cost a couple of bytes per run.
+ */
+public final class TimelineCodec {
+    private static final int FORMAT_VERSION = 1;
+
+    private TimelineCodec() {
+    }
+
+    public static byte[] encode(TimelineRecorder timeline) {
+        int sampleCount = timeline.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + sampleCount);
+        writeVarint(out, FORMAT_VERSION);
+        writeVarint(out, TimelineRecorder.CHANNEL_COUNT);
+        writeVarint(out, sampleCount);
+
+        for (int channel = 0; channel < TimelineRecorder.CHANNEL_COUNT; channel++) {
+            int previous = 0;
+            int i = 0;
+            while (i < sampleCount) {
+                int value = timeline.get(channel, i);
+                int delta = value - previous;
+                writeVarint(out, zigzag(delta));
+                i++;
+                if (delta == 0) {
+                    int run = 0;
+                    while (i < sampleCount && timeline.get(channel, i) == value) {
+                        run++;
+                        i++;
+                    }
+                    writeVarint(out, run);
+                }
+                previous = value;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a blob written by {@link #encode} into samples[channel][index]
+     */
+    public static int[][] decode(byte[] data) {
+        int[] position = {0};
+        int version = readVarint(data, position);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported timeline format " + version);
+        }
+        int channelCount = readVarint(data, position);
+        int sampleCount = readVarint(data, position);
+
+        int[][] samples = new int[channelCount][sampleCount];
+        for (int channel = 0; channel < channelCount; channel++) {
+            int[] values = samples[channel];
+            int previous = 0;
+            int i = 0;
+            while (i < sampleCount) {
+                int delta = unzigzag(readVarint(data, position));
+                int value = previous + delta;
+                values[i++] = value;
+                if (delta == 0) {
+                    int run = readVarint(data, position);
+                    for (int r = 0; r < run; r++) {
+                        values[i++] = value;
+                    }
+                }
+                previous = value;
+            }
+        }
+        return samples;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] position) {
+        int result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[position[0]++];
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
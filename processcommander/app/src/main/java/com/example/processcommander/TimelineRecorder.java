@@ -0,0 +1,72 @@
+package com.example.processcommander;
+
+/**
+ * Fixed-size ring buffer of per-second engine samples (CPU, memory and the four queue sizes).
+ * Stored column-major in one int array so recording never allocates; once full, the oldest
+ * samples are overwritten.
+ */
+public class TimelineRecorder {
+    // Channel indices
+    public static final int CHANNEL_CPU = 0;
+    public static final int CHANNEL_MEMORY = 1;
+    public static final int CHANNEL_NEW = 2;
+    public static final int CHANNEL_RUNNING = 3;
+    public static final int CHANNEL_READY = 4;
+    public static final int CHANNEL_BLOCKED = 5;
+    public static final int CHANNEL_COUNT = 6;
+
+    public static final int SAMPLE_INTERVAL_MS = 1000;
+    private static final int DEFAULT_CAPACITY = 60 * 60; // One hour of game time
+
+    private final int capacity;
+    private final int[] samples; // samples[channel * capacity + slot]
+    private int head = 0;        // Next slot to write
+    private int size = 0;
+
+    public TimelineRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TimelineRecorder(int capacity) {
+        this.capacity = capacity;
+        this.samples = new int[capacity * CHANNEL_COUNT];
+    }
+
+    public void record(int usedCPU, int usedMemory, int newCount, int runningCount, int readyCount, int blockedCount) {
+        samples[CHANNEL_CPU * capacity + head] = usedCPU;
+        samples[CHANNEL_MEMORY * capacity + head] = usedMemory;
+        samples[CHANNEL_NEW * capacity + head] = newCount;
+        samples[CHANNEL_RUNNING * capacity + head] = runningCount;
+        samples[CHANNEL_READY * capacity + head] = readyCount;
+        samples[CHANNEL_BLOCKED * capacity + head] = blockedCount;
+
+        head = (head + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the i-th retained sample of a channel, oldest first
+     */
+    public int get(int channel, int index) {
+        int oldest = (head - size + capacity) % capacity;
+        return samples[channel * capacity + (oldest + index) % capacity];
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Encode the retained samples for storage, see {@link TimelineCodec}
+     */
+    public byte[] encode() {
+        return TimelineCodec.encode(this);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.processcommander;
+
+import android.view.MotionEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timestamped touch samples handed from the UI thread to the render thread. Every
+ * MotionEvent is unpacked into its batched historical samples plus the current one, so
+ * the render loop sees the whole path, not just the last point of each batch. Same
+ * single-producer, single-consumer ring as {@link EngineEventBus}. Moves may only fill it
+ * up to the last few slots, which are kept for downs, ups and cancels: when the render
+ * thread falls behind, moves are dropped first, and a gesture's start and end are only lost
+ * if more than {@link #RESERVED_SLOTS} of them pile up before the next drain.
+ */
+public class TouchInput {
+    public static final int DOWN = 0;
+    public static final int MOVE = 1;
+    public static final int UP = 2;
+    public static final int CANCEL = 3;
+
+    /** Slots moves may not use, so downs, ups and cancels still fit when moves back up */
+    public static final int RESERVED_SLOTS = 16;
+
+    /**
+     * Receives samples on the render thread; timeMs is on the SystemClock.uptimeMillis() clock
+     */
+    public interface Listener {
+        void onTouch(int action, float x, float y, long timeMs);
+    }
+
+    private final int mask;
+    private final int reserved;
+    private final int[] actions;
+    private final float[] xs;
+    private final float[] ys;
+    private final long[] times;
+
+    private final AtomicLong head = new AtomicLong(); // Written by the render thread
+    private final AtomicLong tail = new AtomicLong(); // Written by the UI thread
+    private long cachedHead;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public TouchInput(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.reserved = Math.min(RESERVED_SLOTS, size / 2);
+        this.actions = new int[size];
+        this.xs = new float[size];
+        this.ys = new float[size];
+        this.times = new long[size];
+    }
+
+    /**
+     * UI thread: queue the event's samples, oldest first
+     */
+    public void onMotionEvent(MotionEvent event) {
+        int action;
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                action = DOWN;
+                break;
+            case MotionEvent.ACTION_MOVE:
+                action = MOVE;
+                break;
+            case MotionEvent.ACTION_UP:
+                action = UP;
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                action = CANCEL;
+                break;
+            default:
+                return; // Extra pointers are not used by the game
+        }
+        if (action == MOVE) {
+            for (int h = 0; h < event.getHistorySize(); h++) {
+                offer(MOVE, event.getHistoricalX(h), event.getHistoricalY(h), event.getHistoricalEventTime(h));
+            }
+        }
+        offer(action, event.getX(), event.getY(), event.getEventTime());
+    }
+
+    /**
+     * Producer side; returns false if the sample was dropped: a move when only the reserved
+     * slots are left, anything else when the ring is full
+     */
+    public boolean offer(int action, float x, float y, long timeMs) {
+        long t = tail.get();
+        long limit = action == MOVE ? mask - reserved : mask;
+        if (t - cachedHead > limit) {
+            cachedHead = head.get();
+            if (t - cachedHead > limit) {
+                return false;
+            }
+        }
+        int slot = (int) (t & mask);
+        actions[slot] = action;
+        xs[slot] = x;
+        ys[slot] = y;
+        times[slot] = timeMs;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Render thread: hand every queued sample to the listener in order and return how many
+     */
+    public int drain(Listener listener) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) (i & mask);
+            listener.onTouch(actions[slot], xs[slot], ys[slot], times[slot]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+}
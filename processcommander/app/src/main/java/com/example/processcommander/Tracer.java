@@ -0,0 +1,45 @@
+package com.example.processcommander;
+
+/**
+ * Timing spans for profiling the game loop and the engine. Spans are identified by the
+ * int constants below so recording never allocates or formats. The default is
+ * {@link #NONE}, whose empty methods the JIT inlines away; install a {@link RingTracer}
+ * to capture a session and export it as a Chrome trace.
+ */
+public interface Tracer {
+    int FRAME_INPUT = 0;
+    int FRAME_UPDATE = 1;
+    int FRAME_DRAW = 2;
+    int ENGINE_UPDATE = 3;
+    int BACKGROUND_TASKS = 4;
+    int PROCESS_GENERATOR = 5;
+    int MOVE_TO_RUNNING = 6;
+    int MOVE_TO_READY = 7;
+    int MOVE_TO_BLOCKED = 8;
+    int REPOSITION = 9;
+    int APPLY_TRANSACTION = 10;
+
+    String[] SPAN_NAMES = {
+        "GameView.input", "GameView.update", "GameView.draw", "ProcessManager.update",
+        "ProcessManager.backgroundTasks", "ProcessManager.generator", "ProcessManager.moveToRunningQueue",
+        "ProcessManager.moveToReadyQueue", "ProcessManager.moveToBlockedQueue", "ProcessManager.repositionAllProcesses",
+        "ProcessManager.apply"
+    };
+
+    /**
+     * Records nothing
+     */
+    Tracer NONE = new Tracer() {
+        @Override
+        public void begin(int span) {
+        }
+
+        @Override
+        public void end(int span) {
+        }
+    };
+
+    void begin(int span);
+
+    void end(int span);
+}
@@ -0,0 +1,132 @@
+package com.example.processcommander;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * Moves processes to their slots along time-based easing curves. Only processes that are
+ * actually in motion are tracked; once a tween finishes it is dropped and recycled, so a
+ * settled board costs nothing per frame. Position depends only on elapsed time, never on
+ * the step size, so there is no overshoot at large time steps and the motion is the same
+ * at 30, 60 or 120 Hz.
+ */
+public class TweenEngine {
+    static final float DEFAULT_DURATION_SECONDS = 0.25f;
+
+    private static final class Tween {
+        Process process;
+        float fromX, fromY, toX, toY;
+        float elapsed;
+        float duration;
+        Easing easing;
+        int index; // Position in active, for swap-removal
+    }
+
+    // Methods are synchronized: slots are reassigned from the game thread and, on surface changes, the UI thread
+    private final ArrayList<Tween> active = new ArrayList<>();
+    private final ArrayList<Tween> spare = new ArrayList<>();
+    // Tween by process, so retargeting a whole queue's slots stays linear
+    private final IdentityHashMap<Process, Tween> byProcess = new IdentityHashMap<>();
+
+    public synchronized void animateTo(Process process, float x, float y) {
+        animateTo(process, x, y, DEFAULT_DURATION_SECONDS, Easing.EASE_OUT_CUBIC);
+    }
+
+    /**
+     * Start or retarget a tween from the process's current position
+     */
+    public synchronized void animateTo(Process process, float x, float y, float durationSeconds, Easing easing) {
+        Tween tween = byProcess.get(process);
+        if (tween != null && tween.toX == x && tween.toY == y) {
+            return; // Already on its way there
+        }
+        if (tween == null && process.getX() == x && process.getY() == y) {
+            return; // Already there
+        }
+        if (durationSeconds <= 0) {
+            cancel(process);
+            process.setPosition(x, y);
+            return;
+        }
+        if (tween == null) {
+            tween = spare.isEmpty() ? new Tween() : spare.remove(spare.size() - 1);
+            tween.process = process;
+            tween.index = active.size();
+            active.add(tween);
+            byProcess.put(process, tween);
+        }
+        tween.fromX = process.getX();
+        tween.fromY = process.getY();
+        tween.toX = x;
+        tween.toY = y;
+        tween.elapsed = 0;
+        tween.duration = durationSeconds;
+        tween.easing = easing;
+    }
+
+    /**
+     * Jump a process to the end of its tween, if it has one
+     */
+    public synchronized void finish(Process process) {
+        Tween tween = byProcess.get(process);
+        if (tween != null) {
+            process.setPosition(tween.toX, tween.toY);
+            release(tween.index);
+        }
+    }
+
+    public synchronized void finishAll() {
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Tween tween = active.get(i);
+            tween.process.setPosition(tween.toX, tween.toY);
+            release(i);
+        }
+    }
+
+    public synchronized void cancel(Process process) {
+        Tween tween = byProcess.get(process);
+        if (tween != null) {
+            release(tween.index);
+        }
+    }
+
+    public synchronized void update(float deltaTime) {
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Tween tween = active.get(i);
+            if (tween.process.isDragging()) {
+                release(i); // The finger owns the position now
+                continue;
+            }
+            tween.elapsed += deltaTime;
+            float t = Math.min(1f, tween.elapsed / tween.duration);
+            float p = tween.easing.apply(t);
+            tween.process.setPosition(tween.fromX + (tween.toX - tween.fromX) * p,
+                    tween.fromY + (tween.toY - tween.fromY) * p);
+            if (t >= 1f) {
+                release(i);
+            }
+        }
+    }
+
+    public synchronized boolean isAnimating() {
+        return !active.isEmpty();
+    }
+
+    public synchronized int getActiveCount() {
+        return active.size();
+    }
+
+    // Swap-remove and keep the object for the next tween
+    private void release(int index) {
+        int last = active.size() - 1;
+        Tween tween = active.get(index);
+        Tween moved = active.get(last);
+        active.set(index, moved);
+        moved.index = index;
+        active.remove(last);
+        byProcess.remove(tween.process);
+        tween.process = null;
+        tween.easing = null;
+        spare.add(tween);
+    }
+}
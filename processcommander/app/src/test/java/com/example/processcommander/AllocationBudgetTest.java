@@ -0,0 +1,126 @@
+package com.example.processcommander;
+
+import android.graphics.RectF;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Performance contract for the per-frame engine paths. Each test warms the path up so the
+ * JIT has compiled it, then measures heap bytes allocated by this thread and wall time over
+ * thousands of calls. A change that brings back per-frame garbage fails here rather than as
+ * GC stutter on a device.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class AllocationBudgetTest {
+    private static final float FRAME_SECONDS = 1 / 60f;
+    private static final int WARMUP_TICKS = 20000;
+    private static final int MEASURED_TICKS = 5000;
+
+    // Arrivals and queue moves legitimately allocate (a Process and its page table, the copied
+    // queue array), averaging a few bytes a tick; one object made every tick is at least 16
+    private static final long UPDATE_BYTES_PER_TICK = 8;
+    private static final long RELAYOUT_BYTES_PER_CALL = 0;
+    private static final long HIT_TEST_BYTES_PER_CALL = 0;
+
+    // Loose enough for a slow CI machine; a regression to quadratic work still trips them
+    private static final double UPDATE_MAX_MEAN_US = 200;
+    private static final double RELAYOUT_MAX_MEAN_US = 100;
+    private static final double HIT_TEST_MAX_MEAN_US = 20;
+
+    private com.sun.management.ThreadMXBean threads;
+    private ProcessManager manager;
+
+    @Before
+    public void setUp() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        manager = TestEngines.easy(17);
+        manager.setQueueAreaReferences(new RectF(20, 200, 1060, 500), new RectF(20, 520, 1060, 820),
+                new RectF(20, 840, 1060, 1140), new RectF(20, 1160, 1060, 1460));
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            manager.update(FRAME_SECONDS);
+        }
+        assertFalse("Easy should still be running after warm-up", manager.isGameOver());
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void update_staysWithinBudget() {
+        long startBytes = allocatedBytes();
+        long startNs = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            manager.update(FRAME_SECONDS);
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long bytes = allocatedBytes() - startBytes;
+
+        assertFalse(manager.isGameOver());
+        assertBudget("update", bytes, elapsedNs, MEASURED_TICKS, UPDATE_BYTES_PER_TICK, UPDATE_MAX_MEAN_US);
+    }
+
+    @Test
+    public void relayout_staysWithinBudget() {
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            manager.repositionAllProcesses();
+        }
+        long startBytes = allocatedBytes();
+        long startNs = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            manager.repositionAllProcesses();
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long bytes = allocatedBytes() - startBytes;
+
+        assertBudget("relayout", bytes, elapsedNs, MEASURED_TICKS, RELAYOUT_BYTES_PER_CALL, RELAYOUT_MAX_MEAN_US);
+    }
+
+    @Test
+    public void hitTest_staysWithinBudget() {
+        manager.finishAnimations(); // Processes sit in their slots
+        float[] xs = new float[64];
+        float[] ys = new float[64];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = 20 + (i * 131) % 1040;
+            ys[i] = 200 + (i * 197) % 1260;
+        }
+        int hits = 0;
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            hits += manager.findProcessAtPosition(xs[i & 63], ys[i & 63]) != null ? 1 : 0;
+        }
+        long startBytes = allocatedBytes();
+        long startNs = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            hits += manager.findProcessAtPosition(xs[i & 63], ys[i & 63]) != null ? 1 : 0;
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long bytes = allocatedBytes() - startBytes;
+
+        assertTrue("Some probes should land on a process", hits > 0);
+        assertBudget("hit test", bytes, elapsedNs, MEASURED_TICKS, HIT_TEST_BYTES_PER_CALL, HIT_TEST_MAX_MEAN_US);
+    }
+
+    private static void assertBudget(String path, long bytes, long elapsedNs, int calls, long maxBytesPerCall, double maxMeanUs) {
+        double bytesPerCall = (double) bytes / calls;
+        double meanUs = elapsedNs / 1000.0 / calls;
+        String measured = String.format(Locale.US, "%s: %.1f bytes and %.2f us per call over %d calls, budget %d bytes and %.0f us",
+                path, bytesPerCall, meanUs, calls, maxBytesPerCall, maxMeanUs);
+        assertTrue(measured, bytesPerCall <= maxBytesPerCall);
+        assertTrue(measured, meanUs <= maxMeanUs);
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.processcommander;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo difficulty calibration. Plays thousands of seeded headless games per
+ * difficulty profile with scripted bots and reports how long they survive and how soon
+ * the CPU and memory budgets are first exceeded. Seed ranges are split across a
+ * fork-join pool, and every game is deterministic in its seed.
+ */
+public class CalibrationRunner {
+    static final int TICK_MS = 100;
+    static final float TICK_SECONDS = TICK_MS / 1000f;
+    static final int HISTOGRAM_BUCKET_SECONDS = 60;
+
+    /**
+     * A scripted player. act() is called at the bot's reaction interval with the engine between ticks.
+     */
+    public abstract static class Bot {
+        final String name;
+        final long reactionMs;
+
+        Bot(String name, long reactionMs) {
+            this.name = name;
+            this.reactionMs = reactionMs;
+        }
+
+        void start(ProcessManager manager) {
+        }
+
+        abstract void act(ProcessManager manager);
+    }
+
+    /**
+     * Admits and dispatches everything it can and parks interrupted processes, ignoring load
+     */
+    public static Bot greedy() {
+        return new Bot("greedy", 500) {
+            @Override
+            void act(ProcessManager manager) {
+                parkInterrupted(manager);
+                for (Process process : manager.getNewProcesses()) {
+                    manager.moveToReadyQueue(process);
+                }
+                for (Process process : manager.getReadyQueue()) {
+                    manager.moveToRunningQueue(process);
+                }
+            }
+        };
+    }
+
+    /**
+     * Dispatches only while the projected CPU stays under a headroom, highest priority first,
+     * and kills the lowest-priority waiting process when memory runs high
+     */
+    public static Bot cautious(final float headroom) {
+        return new Bot("cautious(" + (int) (headroom * 100) + "%)", 500) {
+            @Override
+            void act(ProcessManager manager) {
+                parkInterrupted(manager);
+                for (Process process : manager.getNewProcesses()) {
+                    manager.moveToReadyQueue(process);
+                }
+
+                DifficultyProfile profile = manager.getDifficultyProfile();
+                float multiplier = profile.difficultyMultiplierAt((int) (manager.getElapsedMs() / 1000));
+                float budget = manager.getTotalCPU() * headroom;
+                Process best = highestPriority(manager.getReadyQueue());
+                while (best != null) {
+                    float projected = manager.getUsedCPU()
+                            + best.getPriority() * 10 * profile.cpuUsageMultiplier * multiplier / profile.cores;
+                    if (projected >= budget || manager.getRunningQueueSize() >= manager.getRunningQueueCapacity()) {
+                        break;
+                    }
+                    manager.moveToRunningQueue(best);
+                    best = highestPriority(manager.getReadyQueue());
+                }
+
+                if (manager.getUsedMemory() >= manager.getTotalMemory() * headroom) {
+                    Process victim = lowestPriority(manager.getNewProcesses());
+                    if (victim == null) {
+                        victim = lowestPriority(manager.getReadyQueue());
+                    }
+                    manager.terminateProcess(victim);
+                }
+            }
+        };
+    }
+
+    /**
+     * Hands every decision to the engine's priority-with-aging scheduler
+     */
+    public static Bot autopilot() {
+        return new Bot("autopilot", 500) {
+            @Override
+            void start(ProcessManager manager) {
+                manager.setScheduler(TestEngines.autopilotScheduler());
+            }
+
+            @Override
+            void act(ProcessManager manager) {
+            }
+        };
+    }
+
+    interface BotFactory {
+        Bot create();
+    }
+
+    private static void parkInterrupted(ProcessManager manager) {
+        for (Process process : manager.getRunningQueue()) {
+            if (process.isInterrupted() && process.getState() == Process.State.BLOCKED) {
+                manager.moveToBlockedQueue(process);
+            }
+        }
+    }
+
+    private static Process highestPriority(List<Process> processes) {
+        Process best = null;
+        for (Process process : processes) {
+            if (best == null || process.getPriority() > best.getPriority()) {
+                best = process;
+            }
+        }
+        return best;
+    }
+
+    private static Process lowestPriority(List<Process> processes) {
+        Process worst = null;
+        for (Process process : processes) {
+            if (!process.getName().startsWith("CRITICAL") && (worst == null || process.getPriority() < worst.getPriority())) {
+                worst = process;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Outcome of one game, in whole seconds of game time; -1 when it never happened
+     */
+    static final class GameResult {
+        final int survivedSeconds;
+        final boolean gameOver;
+        final int firstCpuOverloadSeconds;
+        final int firstMemoryOverloadSeconds;
+        final int score;
+
+        GameResult(int survivedSeconds, boolean gameOver, int firstCpuOverloadSeconds, int firstMemoryOverloadSeconds, int score) {
+            this.survivedSeconds = survivedSeconds;
+            this.gameOver = gameOver;
+            this.firstCpuOverloadSeconds = firstCpuOverloadSeconds;
+            this.firstMemoryOverloadSeconds = firstMemoryOverloadSeconds;
+            this.score = score;
+        }
+    }
+
+    static GameResult playGame(DifficultyProfile profile, Bot bot, long seed, int maxSeconds) {
+        ProcessManager manager = new ProcessManager(profile, seed);
+        bot.start(manager);
+        int ticks = maxSeconds * 1000 / TICK_MS;
+        int ticksPerAction = (int) Math.max(1, bot.reactionMs / TICK_MS);
+        int cpuOverloadTick = -1;
+        int memoryOverloadTick = -1;
+        int tick = 0;
+        while (tick < ticks && !manager.isGameOver()) {
+            if (tick % ticksPerAction == 0) {
+                bot.act(manager);
+            }
+            manager.update(TICK_SECONDS);
+            tick++;
+            if (cpuOverloadTick < 0 && manager.getUsedCPU() >= manager.getTotalCPU()) {
+                cpuOverloadTick = tick;
+            }
+            if (memoryOverloadTick < 0 && manager.isMemoryOverloaded()) {
+                memoryOverloadTick = tick;
+            }
+        }
+        manager.shutdown();
+        return new GameResult(toSeconds(tick), manager.isGameOver(),
+                cpuOverloadTick < 0 ? -1 : toSeconds(cpuOverloadTick),
+                memoryOverloadTick < 0 ? -1 : toSeconds(memoryOverloadTick),
+                manager.getScore());
+    }
+
+    private static int toSeconds(int ticks) {
+        return (int) ((long) ticks * TICK_MS / 1000);
+    }
+
+    /**
+     * Results of one bot on one profile, mergeable across seed ranges
+     */
+    public static final class Tally {
+        final String profile;
+        final String bot;
+        final int maxSeconds;
+        int games;
+        int gameOvers;
+        int[] survived = new int[0];
+        int[] cpuOverload = new int[0];
+        int[] memoryOverload = new int[0];
+        long scoreSum;
+
+        Tally(String profile, String bot, int maxSeconds) {
+            this.profile = profile;
+            this.bot = bot;
+            this.maxSeconds = maxSeconds;
+        }
+
+        void add(GameResult result) {
+            games++;
+            if (result.gameOver) {
+                gameOvers++;
+            }
+            survived = append(survived, result.survivedSeconds);
+            if (result.firstCpuOverloadSeconds >= 0) {
+                cpuOverload = append(cpuOverload, result.firstCpuOverloadSeconds);
+            }
+            if (result.firstMemoryOverloadSeconds >= 0) {
+                memoryOverload = append(memoryOverload, result.firstMemoryOverloadSeconds);
+            }
+            scoreSum += result.score;
+        }
+
+        Tally merge(Tally other) {
+            games += other.games;
+            gameOvers += other.gameOvers;
+            survived = concat(survived, other.survived);
+            cpuOverload = concat(cpuOverload, other.cpuOverload);
+            memoryOverload = concat(memoryOverload, other.memoryOverload);
+            scoreSum += other.scoreSum;
+            return this;
+        }
+
+        /** Survival time at the given quantile; games that reached the cap count as maxSeconds */
+        public int survivalQuantile(double quantile) {
+            return quantile(survived, quantile);
+        }
+
+        public double gameOverRate() {
+            return games == 0 ? 0 : (double) gameOvers / games;
+        }
+
+        /** Median seconds to the first CPU overload among games that had one, or -1 */
+        public int medianCpuOverload() {
+            return quantile(cpuOverload, 0.5);
+        }
+
+        public int medianMemoryOverload() {
+            return quantile(memoryOverload, 0.5);
+        }
+
+        /** Games still alive at the start of each bucket, as a fraction of all games */
+        public double[] survivalCurve() {
+            int buckets = maxSeconds / HISTOGRAM_BUCKET_SECONDS + 1;
+            int[] died = new int[buckets];
+            for (int i = 0; i < survived.length; i++) {
+                if (survived[i] < maxSeconds) {
+                    died[survived[i] / HISTOGRAM_BUCKET_SECONDS]++;
+                }
+            }
+            double[] curve = new double[buckets];
+            int alive = games;
+            for (int b = 0; b < buckets; b++) {
+                curve[b] = games == 0 ? 0 : (double) alive / games;
+                alive -= died[b];
+            }
+            return curve;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.US,
+                    "%-7s %-14s games=%d over=%5.1f%% survival p10=%4ds p50=%4ds p90=%4ds"
+                            + " | first CPU overload p50=%5ds (%d games) | first memory overload p50=%5ds (%d games) | mean score=%.0f",
+                    profile, bot, games, gameOverRate() * 100,
+                    survivalQuantile(0.1), survivalQuantile(0.5), survivalQuantile(0.9),
+                    medianCpuOverload(), cpuOverload.length, medianMemoryOverload(), memoryOverload.length,
+                    games == 0 ? 0.0 : (double) scoreSum / games));
+            sb.append("\n          alive by minute:");
+            double[] curve = survivalCurve();
+            for (int b = 1; b < curve.length; b++) {
+                sb.append(String.format(Locale.US, " %d:%.0f%%", b * HISTOGRAM_BUCKET_SECONDS / 60, curve[b] * 100));
+            }
+            return sb.toString();
+        }
+
+        private static int quantile(int[] values, double quantile) {
+            if (values.length == 0) {
+                return -1;
+            }
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            return sorted[Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1))];
+        }
+
+        private static int[] append(int[] values, int value) {
+            int[] grown = Arrays.copyOf(values, values.length + 1);
+            grown[values.length] = value;
+            return grown;
+        }
+
+        private static int[] concat(int[] a, int[] b) {
+            int[] joined = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, joined, a.length, b.length);
+            return joined;
+        }
+    }
+
+    /**
+     * Plays seeds [from, to) and splits the range in half until it is small enough to run inline
+     */
+    static final class SeedRangeTask extends RecursiveTask<Tally> {
+        private static final int GAMES_PER_LEAF = 16;
+
+        private final DifficultyProfile profile;
+        private final BotFactory bots;
+        private final long from;
+        private final long to;
+        private final int maxSeconds;
+
+        SeedRangeTask(DifficultyProfile profile, BotFactory bots, long from, long to, int maxSeconds) {
+            this.profile = profile;
+            this.bots = bots;
+            this.from = from;
+            this.to = to;
+            this.maxSeconds = maxSeconds;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= GAMES_PER_LEAF) {
+                Tally tally = new Tally(profile.name, bots.create().name, maxSeconds);
+                for (long seed = from; seed < to; seed++) {
+                    // Bots may keep state, so every game gets a fresh one
+                    tally.add(playGame(profile, bots.create(), seed, maxSeconds));
+                }
+                return tally;
+            }
+            long middle = from + (to - from) / 2;
+            SeedRangeTask left = new SeedRangeTask(profile, bots, from, middle, maxSeconds);
+            SeedRangeTask right = new SeedRangeTask(profile, bots, middle, to, maxSeconds);
+            left.fork();
+            Tally rightTally = right.compute();
+            return left.join().merge(rightTally);
+        }
+    }
+
+    /**
+     * Play games seeded firstSeed .. firstSeed + games - 1 for one profile and bot
+     */
+    public static Tally calibrate(ForkJoinPool pool, DifficultyProfile profile, BotFactory bots,
+                                  long firstSeed, int games, int maxSeconds) {
+        return pool.invoke(new SeedRangeTask(profile, bots, firstSeed, firstSeed + games, maxSeconds));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.processcommander;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Calibrates the bundled difficulty profiles with scripted bots and prints survival
+ * distributions. The defaults are a quick smoke run; for a full sweep use e.g.
+ * -Dcalibration.games=2000 -Dcalibration.maxMinutes=30.
+ */
+public class DifficultyCalibrationTest {
+    private static final int GAMES = Integer.getInteger("calibration.games", 48);
+    private static final int MAX_SECONDS = Integer.getInteger("calibration.maxMinutes", 10) * 60;
+    private static final int PARALLELISM = Integer.getInteger("calibration.parallelism", Runtime.getRuntime().availableProcessors());
+    private static final long FIRST_SEED = 1;
+
+    private static final CalibrationRunner.BotFactory GREEDY = new CalibrationRunner.BotFactory() {
+        @Override
+        public CalibrationRunner.Bot create() {
+            return CalibrationRunner.greedy();
+        }
+    };
+    private static final CalibrationRunner.BotFactory CAUTIOUS = new CalibrationRunner.BotFactory() {
+        @Override
+        public CalibrationRunner.Bot create() {
+            return CalibrationRunner.cautious(0.8f);
+        }
+    };
+    private static final CalibrationRunner.BotFactory AUTOPILOT = new CalibrationRunner.BotFactory() {
+        @Override
+        public CalibrationRunner.Bot create() {
+            return CalibrationRunner.autopilot();
+        }
+    };
+
+    private static ForkJoinPool pool;
+    private static DifficultyProfile[] profiles;
+    // [profile level][bot]: greedy, cautious, autopilot
+    private static CalibrationRunner.Tally[][] tallies;
+
+    @BeforeClass
+    public static void calibrateAllProfiles() throws Exception {
+        profiles = TestEngines.profiles();
+        pool = new ForkJoinPool(PARALLELISM);
+
+        long start = System.nanoTime();
+        CalibrationRunner.BotFactory[] bots = { GREEDY, CAUTIOUS, AUTOPILOT };
+        tallies = new CalibrationRunner.Tally[profiles.length][bots.length];
+        for (int level = 0; level < profiles.length; level++) {
+            for (int b = 0; b < bots.length; b++) {
+                tallies[level][b] = CalibrationRunner.calibrate(pool, profiles[level], bots[b], FIRST_SEED, GAMES, MAX_SECONDS);
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+
+        System.out.println("Difficulty calibration, " + GAMES + " games per cell, up to " + MAX_SECONDS / 60
+                + " min each, " + PARALLELISM + " workers, " + elapsedMs + " ms:");
+        for (CalibrationRunner.Tally[] row : tallies) {
+            for (CalibrationRunner.Tally tally : row) {
+                System.out.println(tally);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void everyCell_playsEveryGame() {
+        for (CalibrationRunner.Tally[] row : tallies) {
+            for (CalibrationRunner.Tally tally : row) {
+                assertEquals(tally.profile + "/" + tally.bot, GAMES, tally.games);
+            }
+        }
+    }
+
+    @Test
+    public void sameSeed_replaysTheSameGame() {
+        DifficultyProfile hard = profiles[DifficultyProfile.LEVEL_HARD];
+        CalibrationRunner.GameResult first = CalibrationRunner.playGame(hard, CalibrationRunner.greedy(), 42, MAX_SECONDS);
+        CalibrationRunner.GameResult second = CalibrationRunner.playGame(hard, CalibrationRunner.greedy(), 42, MAX_SECONDS);
+        assertEquals(first.survivedSeconds, second.survivedSeconds);
+        assertEquals(first.firstCpuOverloadSeconds, second.firstCpuOverloadSeconds);
+        assertEquals(first.firstMemoryOverloadSeconds, second.firstMemoryOverloadSeconds);
+        assertEquals(first.score, second.score);
+    }
+
+    @Test
+    public void parallelRun_matchesSerialRun() {
+        DifficultyProfile medium = profiles[DifficultyProfile.LEVEL_MEDIUM];
+        ForkJoinPool serial = new ForkJoinPool(1);
+        try {
+            CalibrationRunner.Tally one = CalibrationRunner.calibrate(serial, medium, GREEDY, FIRST_SEED, GAMES, MAX_SECONDS);
+            CalibrationRunner.Tally many = tallies[DifficultyProfile.LEVEL_MEDIUM][0];
+            assertEquals(one.survivalQuantile(0.5), many.survivalQuantile(0.5));
+            assertEquals(one.gameOvers, many.gameOvers);
+            assertEquals(one.scoreSum, many.scoreSum);
+        } finally {
+            serial.shutdown();
+        }
+    }
+
+    @Test
+    public void harderProfiles_endGreedyGamesSooner() {
+        int medium = tallies[DifficultyProfile.LEVEL_MEDIUM][0].survivalQuantile(0.5);
+        int hard = tallies[DifficultyProfile.LEVEL_HARD][0].survivalQuantile(0.5);
+        assertTrue("medium p50 " + medium + "s, hard p50 " + hard + "s", hard <= medium);
+        // Easy sheds load instead of ending the game
+        assertEquals(0, tallies[DifficultyProfile.LEVEL_EASY][0].gameOvers);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.processcommander;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import static org.junit.Assert.*;
+
+public class DifficultyProfileTest {
+    private static DifficultyProfile[] profiles;
+
+    @BeforeClass
+    public static void loadBundledProfiles() throws Exception {
+        // Unit tests run from the module directory
+        try (InputStream in = new FileInputStream("src/main/assets/difficulty_profiles.properties")) {
+            profiles = DifficultyProfiles.load(in);
+        }
+    }
+
+    @Test
+    public void bundledAsset_hasOneProfilePerLevel() {
+        assertEquals(3, profiles.length);
+        assertEquals("easy", profiles[DifficultyProfile.LEVEL_EASY].name);
+        assertEquals("medium", profiles[DifficultyProfile.LEVEL_MEDIUM].name);
+        assertEquals("hard", profiles[DifficultyProfile.LEVEL_HARD].name);
+    }
+
+    @Test
+    public void easy_rampsUpThenCaps() {
+        DifficultyProfile easy = profiles[DifficultyProfile.LEVEL_EASY];
+        assertEquals(1.0f, easy.difficultyMultiplierAt(0), 1e-4f);
+        assertEquals(1.5f, easy.difficultyMultiplierAt(10 * 60), 1e-4f);
+        assertEquals(2.0f, easy.difficultyMultiplierAt(60 * 60 * 5), 1e-4f);
+
+        assertEquals(3, easy.maxRunningProcessesAt(10 * 60));
+        assertEquals(2, easy.maxRunningProcessesAt(16 * 60));
+        assertEquals(2, easy.maxRunningProcessesAt(60 * 60 * 5));
+    }
+
+    @Test
+    public void medium_staysConstant() {
+        DifficultyProfile medium = profiles[DifficultyProfile.LEVEL_MEDIUM];
+        assertEquals(1.0f, medium.difficultyMultiplierAt(0), 1e-4f);
+        assertEquals(1.0f, medium.difficultyMultiplierAt(60 * 60), 1e-4f);
+        assertEquals(4, medium.maxRunningProcessesAt(60 * 60));
+    }
+
+    @Test
+    public void hard_capsAtTwoAndAHalf() {
+        DifficultyProfile hard = profiles[DifficultyProfile.LEVEL_HARD];
+        assertEquals(2.0f, hard.difficultyMultiplierAt(10 * 60), 1e-4f);
+        assertEquals(2.5f, hard.difficultyMultiplierAt(30 * 60), 1e-4f);
+        assertEquals(4000, hard.processGenIntervalMs);
+    }
+}
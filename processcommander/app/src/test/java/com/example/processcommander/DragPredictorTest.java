@@ -0,0 +1,56 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DragPredictorTest {
+    private final float[] out = new float[2];
+
+    @Test
+    public void noSamples_noPosition() {
+        assertFalse(new DragPredictor().positionAt(100, out));
+    }
+
+    @Test
+    public void timeBetweenSamples_interpolates() {
+        DragPredictor predictor = new DragPredictor();
+        predictor.add(0, 0, 100);
+        predictor.add(100, 50, 110);
+        predictor.add(200, 100, 120);
+
+        assertTrue(predictor.positionAt(115, out));
+        assertEquals(150, out[0], 1e-3);
+        assertEquals(75, out[1], 1e-3);
+    }
+
+    @Test
+    public void timePastNewestSample_extrapolatesAlongVelocity() {
+        DragPredictor predictor = new DragPredictor();
+        for (int i = 0; i <= 4; i++) {
+            predictor.add(i * 8, 100, 1000 + i * 8); // 1 px/ms to the right
+        }
+        predictor.positionAt(1032 + 16, out);
+        assertEquals(32 + 16, out[0], 1e-3);
+        assertEquals(100, out[1], 1e-3);
+    }
+
+    @Test
+    public void extrapolation_isCapped() {
+        DragPredictor predictor = new DragPredictor();
+        predictor.add(0, 0, 0);
+        predictor.add(10, 0, 10);
+        predictor.positionAt(1000, out);
+        assertEquals(10 + DragPredictor.MAX_EXTRAPOLATION_MS, out[0], 1e-3);
+    }
+
+    @Test
+    public void fingerAtRest_staysPut() {
+        DragPredictor predictor = new DragPredictor();
+        predictor.add(50, 60, 0);
+        predictor.add(50, 60, 100); // Earlier sample is outside the velocity window
+        predictor.positionAt(116, out);
+        assertEquals(50, out[0], 1e-3);
+        assertEquals(60, out[1], 1e-3);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EngineEventBusTest {
+    @Test
+    public void drain_deliversEventsInPublishOrder() {
+        EngineEventBus bus = new EngineEventBus(8);
+        bus.publish(EngineEventBus.STARVATION, 3, 100);
+        bus.publish(EngineEventBus.COMPLETION, 7, 200);
+
+        final List<String> seen = new ArrayList<>();
+        int drained = bus.drain(new EngineEventBus.Listener() {
+            @Override
+            public void onEvent(int type, int value, long timeMs) {
+                seen.add(type + ":" + value + "@" + timeMs);
+            }
+        });
+
+        assertEquals(2, drained);
+        assertEquals("[0:3@100, 5:7@200]", seen.toString());
+        assertEquals(0, bus.drain(new EngineEventBus.Listener() {
+            @Override
+            public void onEvent(int type, int value, long timeMs) {
+                fail("already drained");
+            }
+        }));
+    }
+
+    @Test
+    public void fullRing_dropsInsteadOfBlocking() {
+        EngineEventBus bus = new EngineEventBus(5); // Rounds up to 8
+        assertEquals(8, bus.capacity());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(bus.publish(EngineEventBus.PENALTY, i, i));
+        }
+        assertFalse(bus.publish(EngineEventBus.PENALTY, 8, 8));
+        assertEquals(1, bus.getDroppedCount());
+    }
+
+    @Test
+    public void producerAndConsumerThreads_seeEveryEventOnce() throws Exception {
+        final EngineEventBus bus = new EngineEventBus(64);
+        final int total = 20000;
+        final long[] next = new long[1];
+        final boolean[] outOfOrder = new boolean[1];
+        final EngineEventBus.Listener check = new EngineEventBus.Listener() {
+            @Override
+            public void onEvent(int type, int value, long timeMs) {
+                if (timeMs != next[0] || value != (int) timeMs) {
+                    outOfOrder[0] = true;
+                }
+                next[0]++;
+            }
+        };
+
+        Thread consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (next[0] < total) {
+                    bus.drain(check);
+                }
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < total; i++) {
+            while (!bus.publish(EngineEventBus.COMPLETION, i, i)) {
+                Thread.yield(); // Ring full, wait for the consumer
+            }
+        }
+        consumer.join(10000);
+
+        assertFalse(consumer.isAlive());
+        assertFalse(outOfOrder[0]);
+        assertEquals(total, next[0]);
+    }
+
+    @Test
+    public void haptics_coalesceABurstIntoOneVibration() {
+        EngineEventBus bus = new EngineEventBus(64);
+        final List<Integer> buzzes = new ArrayList<>();
+        HapticFeedback haptics = new HapticFeedback(null, bus, new GameClock()) {
+            @Override
+            void buzz(int type) {
+                buzzes.add(type);
+            }
+        };
+
+        // Ten starvation penalties within one second
+        for (int i = 0; i < 10; i++) {
+            bus.publish(EngineEventBus.STARVATION, 5, 10000 + i * 100);
+            haptics.poll(10000 + i * 100);
+        }
+        haptics.poll(11500);
+        assertEquals(1, buzzes.size());
+
+        // A stronger event inside the window waits for it to close, then buzzes once
+        bus.publish(EngineEventBus.STARVATION, 5, 12000);
+        haptics.poll(12000);
+        bus.publish(EngineEventBus.EMERGENCY, 10, 12100);
+        bus.publish(EngineEventBus.STARVATION, 5, 12200);
+        haptics.poll(12200);
+        assertEquals(2, buzzes.size());
+        haptics.poll(13000);
+        assertEquals(3, buzzes.size());
+        assertEquals(EngineEventBus.EMERGENCY, (int) buzzes.get(2));
+
+        // Completions are for sound, not haptics
+        bus.publish(EngineEventBus.COMPLETION, 5, 20000);
+        haptics.poll(20000);
+        assertEquals(3, buzzes.size());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.processcommander;
+
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class EngineLifecycleTest {
+    private final GameSession session = new GameSession();
+    private Context context;
+    private DifficultyProfile easy;
+
+    @Before
+    public void setUp() throws Exception {
+        context = RuntimeEnvironment.getApplication();
+        easy = TestEngines.easyProfile();
+    }
+
+    @After
+    public void tearDown() {
+        session.stop(); // Stops the haptics thread
+    }
+
+    private static void play(ProcessManager engine, int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            engine.update(0.1f);
+        }
+    }
+
+    private static int queued(ProcessManager engine) {
+        return engine.getNewProcesses().size() + engine.getRunningQueueSize()
+                + engine.getReadyQueueSize() + engine.getBlockedQueueSize();
+    }
+
+    @Test
+    public void stopAndStart_pauseTheGameAndKeepIt() {
+        ProcessManager engine = session.getEngine(context, easy);
+        engine.setScheduler(TestEngines.autopilotScheduler());
+        GameClock clock = session.getClock();
+
+        session.start();
+        assertTrue(engine.isStarted());
+        assertFalse(clock.isPaused());
+        play(engine, 1200); // Two minutes
+        long elapsed = engine.getElapsedMs();
+        int score = engine.getScore();
+        int completed = engine.getProcessesCompleted();
+        int queued = queued(engine);
+        assertEquals(2 * 60 * 1000, elapsed, 1);
+        assertTrue(completed > 0);
+        assertTrue(queued > 0);
+
+        // Like onPause: the clock stops, so frames that still arrive change nothing
+        session.stop();
+        assertFalse(engine.isStarted());
+        assertTrue(clock.isPaused());
+        play(engine, 600);
+        assertEquals(elapsed, engine.getElapsedMs());
+        assertEquals(score, engine.getScore());
+        assertEquals(queued, queued(engine));
+
+        // Like a rotation and onResume: the new view gets the same engine, queues and score intact
+        session.start();
+        assertSame(engine, session.getEngine(context, easy));
+        assertTrue(engine.isStarted());
+        assertFalse(clock.isPaused());
+        assertEquals(score, engine.getScore());
+        assertEquals(completed, engine.getProcessesCompleted());
+        assertEquals(queued, queued(engine));
+
+        play(engine, 1200);
+        assertEquals(4 * 60 * 1000, engine.getElapsedMs(), 1);
+        assertTrue(engine.getProcessesCompleted() > completed);
+    }
+}
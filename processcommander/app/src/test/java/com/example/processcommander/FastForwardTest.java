@@ -0,0 +1,80 @@
+package com.example.processcommander;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FastForwardTest {
+    private static final int GAMES = 40;
+    private static final long GAME_MS = 10 * 60 * 1000;
+    private static final float FRAME_SECONDS = 0.05f;
+
+    private static DifficultyProfile easy;
+
+    @BeforeClass
+    public static void loadProfiles() throws Exception {
+        easy = TestEngines.easyProfile();
+    }
+
+    private static ProcessManager autopilot(long seed) {
+        return TestEngines.autopilot(easy, seed);
+    }
+
+    @Test
+    public void fastForward_reachesTheRequestedTime() {
+        ProcessManager manager = autopilot(1);
+        manager.fastForward(12345);
+        assertEquals(12345, manager.getElapsedMs());
+        manager.fastForward(1);
+        assertEquals(12346, manager.getElapsedMs());
+    }
+
+    @Test
+    public void fastForward_isDeterministicInTheSeed() {
+        ProcessManager first = autopilot(7);
+        ProcessManager second = autopilot(7);
+        first.fastForward(GAME_MS);
+        second.fastForward(GAME_MS);
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getProcessesCompleted(), second.getProcessesCompleted());
+    }
+
+    @Test
+    public void fastForward_matchesFrameSteppingStatistically() {
+        long framedCompleted = 0;
+        long jumpedCompleted = 0;
+        long framedScore = 0;
+        long jumpedScore = 0;
+        for (long seed = 1; seed <= GAMES; seed++) {
+            ProcessManager framed = autopilot(seed);
+            for (long t = 0; t < GAME_MS; t += (long) (FRAME_SECONDS * 1000)) {
+                framed.update(FRAME_SECONDS);
+            }
+            framedCompleted += framed.getProcessesCompleted();
+            framedScore += framed.getScore();
+
+            ProcessManager jumped = autopilot(seed + 1000);
+            jumped.fastForward(GAME_MS);
+            jumpedCompleted += jumped.getProcessesCompleted();
+            jumpedScore += jumped.getScore();
+        }
+        assertEquals(framedCompleted, jumpedCompleted, framedCompleted * 0.1);
+        assertEquals(framedScore, jumpedScore, framedScore * 0.15);
+    }
+
+    @Test
+    public void hoursOfGameTime_takeAFractionOfASecond() {
+        ProcessManager manager = autopilot(3);
+        long gameMs = 4 * 60 * 60 * 1000L;
+        long start = System.nanoTime();
+        int steps = manager.fastForward(gameMs);
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        assertEquals(gameMs, manager.getElapsedMs());
+        assertTrue(manager.getProcessesCompleted() > 0);
+        // Frame stepping would take 288000 ticks at 20 Hz; jumping between events takes fewer
+        // steps than there are seconds of game time
+        assertTrue(steps + " steps", steps < gameMs / 1000);
+        assertTrue("Took " + elapsedMs + " ms", elapsedMs < 1000);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class FrameAllocatorTest {
+    @Test
+    public void allocate_handsOutEveryFrameOnceThenRunsOut() {
+        FrameAllocator allocator = new FrameAllocator(100 * FrameAllocator.FRAME_SIZE_MB); // Not a multiple of 64
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            int frame = allocator.allocate(null, 0);
+            assertTrue(frame >= 0 && frame < 100);
+            assertTrue(seen.add(frame));
+        }
+        assertEquals(-1, allocator.allocate(null, 0));
+        assertEquals(100, allocator.getUsedFrames());
+
+        allocator.free(42);
+        assertEquals(42, allocator.allocate(null, 0));
+    }
+
+    @Test
+    public void free_isIdempotent() {
+        FrameAllocator allocator = new FrameAllocator(64 * FrameAllocator.FRAME_SIZE_MB);
+        int frame = allocator.allocate(null, 0);
+        allocator.free(frame);
+        allocator.free(frame);
+        assertEquals(0, allocator.getUsedFrames());
+        assertFalse(allocator.isAllocated(frame));
+    }
+
+    @Test
+    public void fragmentation_measuresHowScatteredFreeFramesAre() {
+        FrameAllocator allocator = new FrameAllocator(256 * FrameAllocator.FRAME_SIZE_MB);
+        assertEquals(0f, allocator.fragmentation(), 0f);
+        assertEquals(256, allocator.largestFreeRun());
+
+        for (int i = 0; i < 256; i++) {
+            allocator.allocate(null, 0);
+        }
+        assertEquals(0f, allocator.fragmentation(), 0f); // Nothing free
+
+        // Free every other frame: 128 free frames, none adjacent
+        for (int frame = 0; frame < 256; frame += 2) {
+            allocator.free(frame);
+        }
+        assertEquals(1, allocator.largestFreeRun());
+        assertEquals(1 - 1 / 128f, allocator.fragmentation(), 1e-6);
+
+        // Free the first word's odd frames too: one 64-frame block plus the free frame after it
+        for (int frame = 1; frame < 64; frame += 2) {
+            allocator.free(frame);
+        }
+        assertEquals(65, allocator.largestFreeRun());
+    }
+
+    @Test
+    public void pageTable_growsAndShrinksAtTheEnd() {
+        FrameAllocator allocator = new FrameAllocator(64 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable table = new PageTable();
+        table.resize(40, allocator);
+        assertEquals(40, table.getResidentPages());
+        int firstFrame = table.frameOf(0);
+
+        table.resize(10, allocator);
+        assertEquals(10, table.getResidentPages());
+        assertEquals(firstFrame, table.frameOf(0));
+        assertEquals(10, allocator.getUsedFrames());
+
+        table.release(allocator);
+        assertEquals(0, allocator.getUsedFrames());
+    }
+
+    @Test
+    public void pageTable_countsPagesThatFoundNoFrame() {
+        FrameAllocator allocator = new FrameAllocator(64 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable hog = new PageTable();
+        PageTable late = new PageTable();
+        hog.resize(50, allocator);
+        late.resize(30, allocator);
+        assertEquals(14, late.getResidentPages());
+        assertEquals(16, late.getUnmappedPages());
+
+        // Once frames free up, resizing to the same size maps the rest
+        hog.resize(20, allocator);
+        late.resize(30, allocator);
+        assertEquals(0, late.getUnmappedPages());
+    }
+
+    @Test
+    public void fullMemory_swapsOutWaitingPagesOnly() {
+        FrameAllocator allocator = new FrameAllocator(128 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable running = new PageTable();
+        PageTable waiting = new PageTable();
+        running.resize(64, allocator);
+        waiting.resize(64, allocator);
+        waiting.setEvictable(true, allocator);
+
+        PageTable arrival = new PageTable();
+        arrival.resize(10, allocator);
+        assertEquals(10, arrival.getResidentPages());
+        assertEquals(64, running.getResidentPages());
+        assertEquals(54, waiting.getResidentPages());
+        assertEquals(10, waiting.getSwappedPages());
+        assertEquals(0, waiting.getUnmappedPages());
+        assertEquals(10, allocator.getEvictionCount());
+
+        // Nothing evictable is left once the waiting process runs again
+        waiting.setEvictable(false, allocator);
+        arrival.resize(11, allocator);
+        assertEquals(1, arrival.getUnmappedPages());
+    }
+
+    @Test
+    public void clock_givesRecentlyUsedPagesASecondChance() {
+        FrameAllocator allocator = new FrameAllocator(129 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable first = new PageTable();
+        PageTable second = new PageTable();
+        PageTable grower = new PageTable();
+        first.resize(64, allocator);  // Word 0
+        second.resize(64, allocator); // Word 1
+        grower.resize(1, allocator);  // Word 2, memory now full
+        first.setEvictable(true, allocator);
+        second.setEvictable(true, allocator);
+
+        // One full sweep clears every reference bit before the first victim
+        grower.resize(2, allocator);
+        assertEquals(63, first.getResidentPages());
+
+        // The first process ran again, so its pages are referenced and the hand passes them by
+        first.setEvictable(false, allocator);
+        first.setEvictable(true, allocator);
+        grower.resize(12, allocator);
+        assertEquals(63, first.getResidentPages());
+        assertEquals(54, second.getResidentPages());
+    }
+
+    @Test
+    public void swapIn_bringsPagesBackWhenFramesAreFree() {
+        FrameAllocator allocator = new FrameAllocator(64 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable waiting = new PageTable();
+        PageTable hog = new PageTable();
+        waiting.resize(32, allocator);
+        waiting.setEvictable(true, allocator);
+        hog.resize(64, allocator);
+        assertEquals(32, waiting.getSwappedPages());
+
+        hog.resize(40, allocator);
+        waiting.setEvictable(false, allocator);
+        assertEquals(24, waiting.swapIn(allocator));
+        assertEquals(8, waiting.getSwappedPages());
+        assertEquals(64, allocator.getUsedFrames());
+    }
+
+    @Test
+    public void eviction_staysCheapWithHundredsOfWaitingProcesses() {
+        FrameAllocator allocator = new FrameAllocator(16384 * FrameAllocator.FRAME_SIZE_MB);
+        PageTable[] waiting = new PageTable[400];
+        for (int i = 0; i < waiting.length; i++) {
+            waiting[i] = new PageTable();
+            waiting[i].resize(40, allocator);
+            waiting[i].setEvictable(true, allocator);
+        }
+        PageTable hog = new PageTable();
+        long start = System.nanoTime();
+        hog.resize(16384, allocator);
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+
+        assertEquals(16384, hog.getResidentPages());
+        assertEquals(400 * 40, allocator.getEvictionCount());
+        assertTrue("Evicting 16000 pages took " + elapsedMs + " ms", elapsedMs < 2000);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FrameGovernorTest {
+    @Test
+    public void interval_followsTheScene() {
+        FrameGovernor governor = new FrameGovernor();
+        assertEquals(FrameGovernor.ACTIVE_FRAME_MS, governor.intervalFor(FrameGovernor.Scene.MOVING, 1000));
+        assertEquals(FrameGovernor.AMBIENT_FRAME_MS, governor.intervalFor(FrameGovernor.Scene.AMBIENT, 1000));
+        assertEquals(FrameGovernor.PARKED, governor.intervalFor(FrameGovernor.Scene.STILL, 1000));
+    }
+
+    @Test
+    public void ambientScene_waitsForTheLowRate() throws Exception {
+        FrameGovernor governor = new FrameGovernor();
+        long start = System.currentTimeMillis();
+        governor.awaitNextFrame(FrameGovernor.Scene.AMBIENT, start);
+        assertTrue(System.currentTimeMillis() - start >= FrameGovernor.AMBIENT_FRAME_MS - 1);
+    }
+
+    @Test
+    public void wake_unparksAndHoldsFullRate() throws Exception {
+        final FrameGovernor governor = new FrameGovernor();
+        final long[] returnedAt = new long[1];
+        Thread renderer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    governor.awaitNextFrame(FrameGovernor.Scene.STILL, System.currentTimeMillis());
+                    returnedAt[0] = System.currentTimeMillis();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        renderer.start();
+        Thread.sleep(200);
+        assertTrue("parked until woken", renderer.isAlive());
+
+        long wokeAt = System.currentTimeMillis();
+        governor.wake();
+        renderer.join(2000);
+        assertFalse(renderer.isAlive());
+        assertTrue(returnedAt[0] - wokeAt < 100);
+
+        // Still scene right after a wake renders at full rate
+        long now = System.currentTimeMillis();
+        assertEquals(FrameGovernor.ACTIVE_FRAME_MS, governor.intervalFor(FrameGovernor.Scene.STILL, now));
+        assertEquals(FrameGovernor.PARKED, governor.intervalFor(FrameGovernor.Scene.STILL, now + FrameGovernor.WAKE_HOLD_MS));
+    }
+}
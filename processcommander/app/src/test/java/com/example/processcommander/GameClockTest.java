@@ -0,0 +1,68 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameClockTest {
+    @Test
+    public void ticks_carryFractionsOfAMillisecond() {
+        GameClock clock = new GameClock();
+        for (int frame = 0; frame < 600; frame++) {
+            assertEquals(1 / 60f, clock.tick(1 / 60f), 0);
+        }
+        // Ten seconds of 60 Hz frames, without losing the two thirds of a ms each frame
+        assertEquals(10000, clock.now(), 1);
+    }
+
+    @Test
+    public void pauseAndScale() {
+        GameClock clock = new GameClock();
+        clock.setPaused(true);
+        assertEquals(0, clock.tick(0.1f), 0);
+        assertEquals(0, clock.now());
+        assertEquals(0, clock.getLastTickMs());
+
+        clock.setPaused(false);
+        clock.setTimeScale(2);
+        assertEquals(0.2f, clock.tick(0.1f), 1e-6);
+        assertEquals(200, clock.now(), 1);
+
+        clock.advance(1000); // Exact game time, as fast-forward uses
+        assertEquals(1200, clock.now(), 1);
+    }
+
+    @Test
+    public void pausedEngine_freezesArrivalsAndTimers() throws Exception {
+        GameClock clock = new GameClock();
+        ProcessManager manager = new ProcessManager(TestEngines.easyProfile(), 37, clock);
+        clock.setPaused(true);
+        for (int frame = 0; frame < 600; frame++) {
+            manager.update(1 / 60f);
+        }
+        assertEquals(0, manager.getElapsedMs());
+        assertTrue(manager.getNewProcesses().isEmpty()); // No arrivals while paused
+
+        clock.setPaused(false);
+        for (int frame = 0; frame < 600; frame++) {
+            manager.update(1 / 60f);
+        }
+        assertEquals(10000, manager.getElapsedMs(), 1);
+        assertFalse(manager.getNewProcesses().isEmpty());
+    }
+
+    @Test
+    public void scaledClock_runsTheSameGameFaster() throws Exception {
+        ProcessManager normal = new ProcessManager(TestEngines.easyProfile(), 41);
+        GameClock fast = new GameClock();
+        fast.setTimeScale(2);
+        ProcessManager doubled = new ProcessManager(TestEngines.easyProfile(), 41, fast);
+        for (int frame = 0; frame < 600; frame++) {
+            normal.update(0.1f);
+            doubled.update(0.05f);
+        }
+        // Same game time and the same seeded game, in half the frame time
+        assertEquals(normal.getElapsedMs(), doubled.getElapsedMs(), 1);
+        assertEquals(normal.getNewProcesses().size(), doubled.getNewProcesses().size());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IoSubsystemTest {
+    private static Process blockedOn(int device) {
+        Process process = new Process("Test", 5, 10000, 100);
+        process.raiseInterrupt(device);
+        return process;
+    }
+
+    @Test
+    public void device_servesItsQueueInFifoOrder() {
+        IoSubsystem io = new IoSubsystem(new Random(1));
+        Process first = blockedOn(IoSubsystem.DISK);
+        Process second = blockedOn(IoSubsystem.DISK);
+        Process third = blockedOn(IoSubsystem.DISK);
+        io.submit(first, 0);
+        io.submit(second, 0);
+        io.submit(third, 0);
+        assertEquals(3, io.getQueueLength(IoSubsystem.DISK));
+        assertEquals(0, io.getQueueLength(IoSubsystem.NETWORK));
+
+        List<Process> done = new ArrayList<>();
+        for (long now = 0; done.size() < 3; now += 100) {
+            io.collectCompleted(now, done);
+        }
+        assertSame(first, done.get(0));
+        assertSame(second, done.get(1));
+        assertSame(third, done.get(2));
+        assertEquals(0, io.getQueueLength(IoSubsystem.DISK));
+    }
+
+    @Test
+    public void nothingDue_completesNothing() {
+        IoSubsystem io = new IoSubsystem(new Random(1));
+        io.submit(blockedOn(IoSubsystem.USER_INPUT), 1000);
+        List<Process> done = new ArrayList<>();
+        io.collectCompleted(1000, done); // Service takes at least 100 ms
+        assertTrue(done.isEmpty());
+    }
+
+    @Test
+    public void cancelledRequest_neverCompletes() {
+        IoSubsystem io = new IoSubsystem(new Random(1));
+        Process cancelled = blockedOn(IoSubsystem.NETWORK);
+        Process next = blockedOn(IoSubsystem.NETWORK);
+        io.submit(cancelled, 0);
+        io.submit(next, 0);
+        io.cancel(cancelled, 50);
+        assertEquals(1, io.getQueueLength(IoSubsystem.NETWORK));
+
+        List<Process> done = new ArrayList<>();
+        io.collectCompleted(Long.MAX_VALUE, done);
+        assertEquals(1, done.size());
+        assertSame(next, done.get(0));
+    }
+
+    @Test
+    public void cancelledWaiter_leavesTheRestInOrder() {
+        IoSubsystem io = new IoSubsystem(new Random(1));
+        Process[] processes = new Process[4];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = blockedOn(IoSubsystem.DISK);
+            io.submit(processes[i], 0);
+        }
+        io.submit(processes[2], 0); // Already waiting: ignored
+        assertEquals(4, io.getQueueLength(IoSubsystem.DISK));
+        io.cancel(processes[2], 0);
+        io.cancel(processes[2], 0); // Already gone: nothing to do
+        assertEquals(3, io.getQueueLength(IoSubsystem.DISK));
+        io.submit(processes[2], 0); // Back of the queue
+
+        List<Process> done = new ArrayList<>();
+        io.collectCompleted(Long.MAX_VALUE, done);
+        io.collectCompleted(Long.MAX_VALUE, done);
+        io.collectCompleted(Long.MAX_VALUE, done);
+        io.collectCompleted(Long.MAX_VALUE, done);
+        assertEquals(4, done.size());
+        assertSame(processes[0], done.get(0));
+        assertSame(processes[1], done.get(1));
+        assertSame(processes[3], done.get(2));
+        assertSame(processes[2], done.get(3));
+    }
+
+    @Test
+    public void hundredsBlocked_allCompleteWithMeanServiceTimes() {
+        IoSubsystem io = new IoSubsystem(new Random(7));
+        int perDevice = 300;
+        for (int device = 0; device < IoSubsystem.DEVICE_COUNT; device++) {
+            for (int i = 0; i < perDevice; i++) {
+                io.submit(blockedOn(device), 0);
+            }
+        }
+
+        // Each device is a single FIFO server, so its queue drains in about perDevice * mean
+        List<Process> done = new ArrayList<>();
+        long[] drainedAt = new long[IoSubsystem.DEVICE_COUNT];
+        for (long now = 0; done.size() < perDevice * IoSubsystem.DEVICE_COUNT; now += 1000) {
+            io.collectCompleted(now, done);
+            for (int device = 0; device < IoSubsystem.DEVICE_COUNT; device++) {
+                if (drainedAt[device] == 0 && io.getQueueLength(device) == 0) {
+                    drainedAt[device] = now;
+                }
+            }
+        }
+        for (int device = 0; device < IoSubsystem.DEVICE_COUNT; device++) {
+            double expected = perDevice * IoSubsystem.MEAN_SERVICE_MS[device];
+            assertEquals(IoSubsystem.DEVICE_LABELS[device], expected, drainedAt[device], expected * 0.2);
+        }
+    }
+}
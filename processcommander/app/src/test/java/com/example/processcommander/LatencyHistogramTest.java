@@ -0,0 +1,37 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+    @Test
+    public void reportsPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 100; ms++) {
+            histogram.record(ms);
+        }
+        histogram.record(10000); // Clamped into the last bucket
+        assertEquals(101, histogram.getCount());
+        assertEquals(51, histogram.percentileMs(0.5));
+        assertEquals(96, histogram.percentileMs(0.95));
+        assertEquals(LatencyHistogram.MAX_MS, histogram.percentileMs(1.0));
+        assertEquals(10000, histogram.getMaxMs());
+    }
+
+    @Test
+    public void summarize_matchesTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30);
+        SessionMetrics.Summary summary = histogram.summarize(SessionMetrics.TOUCH_LATENCY);
+        assertEquals(SessionMetrics.TOUCH_LATENCY, summary.name);
+        assertEquals(3, summary.count);
+        assertEquals(20, summary.mean, 1e-9);
+        assertEquals(Math.sqrt(200 / 3.0), summary.stdDev, 1e-9);
+        assertEquals(20, summary.p50, 0);
+        assertEquals(30, summary.p95, 0);
+        assertEquals(30, summary.max, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.processcommander;
+
+import android.graphics.Color;
+import android.graphics.RectF;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class LevelOfDetailTest {
+    private static int opsFor(Process process) {
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.beginFrame();
+        process.draw(renderer, false);
+        renderer.endFrame();
+        return renderer.getOpCount();
+    }
+
+    @Test
+    public void slotSize_picksTier() {
+        Process process = new Process("P1", 3, 10000, 100);
+        process.fitToSlot(150);
+        assertEquals(Process.DETAIL_FULL, process.getDetail());
+        assertEquals(120f, process.getSize(), 0); // Full cards keep their size
+        int fullOps = opsFor(process);
+
+        process.fitToSlot(60);
+        assertEquals(Process.DETAIL_TILE, process.getDetail());
+        assertEquals(60f, process.getSize(), 0);
+        int tileOps = opsFor(process);
+
+        process.fitToSlot(20);
+        assertEquals(Process.DETAIL_DOT, process.getDetail());
+        assertEquals(1, opsFor(process));
+        assertTrue(tileOps < fullOps);
+        assertTrue(1 < tileOps);
+        assertTrue(process.contains(process.getBounds().centerX() + 9, process.getBounds().centerY()));
+        assertFalse(process.contains(process.getBounds().centerX() + 11, process.getBounds().centerY()));
+    }
+
+    @Test
+    public void tile_showsThePriorityDigit() {
+        Process process = new Process("P1", 4, 10000, 100);
+        process.fitToSlot(60);
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.beginFrame();
+        process.draw(renderer, false);
+        renderer.endFrame();
+        assertEquals(1, renderer.getTextRuns());
+        assertEquals("4", renderer.getRecordedText(1));
+    }
+
+    @Test
+    public void denseBoard_drawsOneBatchPerStateColour() throws Exception {
+        ProcessManager manager = new ProcessManager(TestEngines.easyProfileWith("readyQueueSize=300\nblockedQueueSize=300"), 29);
+        // A short board: the ready and blocked slots come out under the tile size
+        manager.setQueueAreaReferences(new RectF(20, 200, 1060, 500), new RectF(20, 520, 820, 820),
+                new RectF(20, 840, 380, 1160), new RectF(20, 1180, 380, 1500));
+        assertTrue(manager.getReadyViewport().getSlotSize() < Process.TILE_DETAIL_MIN_SLOT);
+
+        Process[] ready = new Process[40];
+        for (int i = 0; i < ready.length; i++) {
+            ready[i] = new Process("R" + i, 3, 10000, 10);
+            manager.moveToReadyQueue(ready[i]);
+        }
+        Process[] blocked = new Process[40];
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = new Process("B" + i, 3, 10000, 10);
+            blocked[i].raiseInterrupt(0);
+            blocked[i].setIOCompleted(i % 2 == 0); // Half show as done, in another colour
+            manager.moveToBlockedQueue(blocked[i]);
+        }
+        manager.finishAnimations();
+        assertEquals(Process.DETAIL_DOT, ready[0].getDetail());
+
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.beginFrame();
+        manager.draw(renderer, false);
+        renderer.endFrame();
+
+        // 15 visible per queue, in three colours: blue, magenta and cyan
+        assertEquals(3, renderer.getOpCount());
+        assertEquals(30, renderer.getRectsDrawn());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(RecordingRenderer.OP_RECTS, renderer.getRecordedOp(i));
+        }
+        assertEquals(Color.BLUE, renderer.getRecordedColor(0));
+        assertEquals(15, renderer.getRecordedRectCount(0));
+
+        // The selected one is drawn on its own, on top
+        manager.selectProcess(ready[0]);
+        renderer.beginFrame();
+        manager.draw(renderer, false);
+        renderer.endFrame();
+        assertEquals(14, renderer.getRecordedRectCount(0));
+        assertEquals(RecordingRenderer.OP_RECT, renderer.getRecordedOp(renderer.getOpCount() - 1));
+    }
+}
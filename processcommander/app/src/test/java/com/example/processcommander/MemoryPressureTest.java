@@ -0,0 +1,59 @@
+package com.example.processcommander;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class MemoryPressureTest {
+    private ProcessManager manager;
+    private FrameAllocator frames;
+
+    @Before
+    public void setUp() throws Exception {
+        // Medium ends the game on overload rather than cleaning up, so a false alarm shows
+        manager = new ProcessManager(TestEngines.profiles()[DifficultyProfile.LEVEL_MEDIUM], 43);
+        frames = manager.getFrameAllocator();
+    }
+
+    private static Process big(String name) {
+        return new Process(name, 2, 600000, 400);
+    }
+
+    @Test
+    public void swapping_keepsFullMemoryAlive() {
+        // Five waiting processes keep half of 400 MB each resident: nearly every frame
+        Process[] ready = new Process[5];
+        for (int i = 0; i < ready.length; i++) {
+            ready[i] = big("R" + i);
+            manager.moveToReadyQueue(ready[i]);
+        }
+        // Running needs the whole 400 MB, which only fits by swapping the others out
+        manager.moveToRunningQueue(ready[0]);
+        assertTrue(frames.getEvictionCount() > 0);
+
+        for (int frame = 0; frame < 100; frame++) {
+            manager.update(0.1f);
+            assertEquals(frames.getFrameCount(), frames.getUsedFrames());
+            assertEquals(manager.getTotalMemory(), manager.getUsedMemory());
+            assertFalse(manager.isMemoryOverloaded());
+            assertFalse(manager.getGameOverReason(), manager.isGameOver());
+        }
+        assertTrue(manager.getSwappedMemory() > 0);
+    }
+
+    @Test
+    public void nothingLeftToEvict_overloads() {
+        // Running processes can't be swapped out, so three of them overflow memory
+        for (int i = 0; i < 3; i++) {
+            manager.moveToRunningQueue(big("P" + i));
+        }
+        manager.update(0.1f);
+        assertTrue(manager.isMemoryOverloaded());
+        assertTrue(manager.isGameOver());
+        assertTrue(manager.getGameOverReason().startsWith("MEMORY OVERLOAD"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MultiCoreCpuTest {
+    private static Process runningProcess(long burstMs) {
+        Process process = new Process("Test", 3, burstMs, 100);
+        process.setState(Process.State.RUNNING);
+        return process;
+    }
+
+    @Test
+    public void assign_balancesAcrossCores() {
+        MultiCoreCpu cpu = new MultiCoreCpu(4, 200);
+        for (int i = 0; i < 8; i++) {
+            cpu.assign(runningProcess(10000));
+        }
+        for (int core = 0; core < 4; core++) {
+            assertEquals(2, cpu.getRunQueueLength(core));
+        }
+    }
+
+    @Test
+    public void idleCore_stealsFromBusiestCore() {
+        MultiCoreCpu cpu = new MultiCoreCpu(2, 200);
+        Process first = runningProcess(10000);
+        Process second = runningProcess(10000);
+        Process third = runningProcess(10000);
+        cpu.assign(first);   // core 0
+        cpu.assign(second);  // core 1
+        cpu.assign(third);   // core 0
+        cpu.remove(second);  // core 1 is now idle
+
+        cpu.tick(0.016f, new Random(1));
+
+        assertEquals(1, cpu.getRunQueueLength(0));
+        assertEquals(1, cpu.getRunQueueLength(1));
+        assertTrue(cpu.isExecuting(first));
+        assertTrue(cpu.isExecuting(third));
+    }
+
+    @Test
+    public void core_timeSlicesItsRunQueue() {
+        MultiCoreCpu cpu = new MultiCoreCpu(1, 100);
+        Process first = runningProcess(10000);
+        Process second = runningProcess(10000);
+        cpu.assign(first);
+        cpu.assign(second);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            cpu.tick(0.01f, random); // One second in total
+        }
+
+        // The core was never idle and both processes got slices
+        // (a random interrupt may block one of them, handing the rest to the other)
+        long firstUsed = 10000 - first.getCpuTimeRemaining();
+        long secondUsed = 10000 - second.getCpuTimeRemaining();
+        assertTrue(firstUsed > 0);
+        assertTrue(secondUsed > 0);
+        assertEquals(1000, firstUsed + secondUsed, 20);
+    }
+
+    @Test
+    public void utilization_doesNotDependOnTickLength() {
+        // Never interrupts, so the core stays busy however the time is cut up
+        Random noInterrupts = new Random(1) {
+            @Override
+            public float nextFloat() {
+                return 0.99f;
+            }
+        };
+        MultiCoreCpu fast = new MultiCoreCpu(1, 100);
+        MultiCoreCpu slow = new MultiCoreCpu(1, 100);
+        fast.assign(runningProcess(10000));
+        slow.assign(runningProcess(10000));
+
+        // 300 ms as 20 ms frames and as 100 ms fast-forward steps
+        for (int i = 0; i < 15; i++) {
+            fast.tick(0.02f, noInterrupts);
+        }
+        for (int i = 0; i < 3; i++) {
+            slow.tick(0.1f, noInterrupts);
+        }
+
+        assertTrue(fast.getUtilization(0) > 0.5f);
+        assertTrue(fast.getUtilization(0) < 1f);
+        assertEquals(fast.getUtilization(0), slow.getUtilization(0), 0.01f);
+    }
+}
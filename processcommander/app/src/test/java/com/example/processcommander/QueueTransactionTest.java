@@ -0,0 +1,119 @@
+package com.example.processcommander;
+
+import android.graphics.RectF;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class QueueTransactionTest {
+    private ProcessManager manager;
+    private final int[] spans = new int[Tracer.SPAN_NAMES.length];
+
+    @Before
+    public void setUp() throws Exception {
+        manager = new ProcessManager(TestEngines.easyProfile(), 31);
+        manager.setQueueAreaReferences(new RectF(20, 200, 1060, 500), new RectF(20, 520, 1060, 820),
+                new RectF(20, 840, 1060, 1140), new RectF(20, 1160, 1060, 1460));
+        manager.setTracer(new Tracer() {
+            @Override
+            public void begin(int span) {
+                spans[span]++;
+            }
+
+            @Override
+            public void end(int span) {
+            }
+        });
+    }
+
+    private Process[] readyProcesses(int count) {
+        Process[] processes = new Process[count];
+        for (int i = 0; i < count; i++) {
+            processes[i] = new Process("P" + i, 2, 10000, 20);
+            manager.moveToReadyQueue(processes[i]);
+        }
+        return processes;
+    }
+
+    @Test
+    public void batch_movesWithOneRelayout() {
+        Process[] processes = readyProcesses(4);
+        spans[Tracer.REPOSITION] = 0;
+
+        QueueTransaction transaction = new QueueTransaction();
+        for (Process process : processes) {
+            transaction.moveTo(process, QueueTransaction.BLOCKED);
+        }
+        assertEquals(4, manager.apply(transaction));
+
+        assertEquals(1, spans[Tracer.REPOSITION]);
+        assertEquals(0, spans[Tracer.MOVE_TO_BLOCKED]);
+        assertEquals(0, manager.getReadyQueueSize());
+        assertEquals(4, manager.getBlockedQueueSize());
+        for (Process process : processes) {
+            assertEquals(Process.State.BLOCKED, process.getState());
+        }
+    }
+
+    @Test
+    public void fullQueue_skipsMovesInOrder() {
+        Process[] processes = readyProcesses(5);
+        int blockedCapacity = manager.getBlockedQueueCapacity();
+
+        QueueTransaction transaction = new QueueTransaction();
+        for (Process process : processes) {
+            transaction.moveTo(process, QueueTransaction.BLOCKED);
+        }
+        assertEquals(blockedCapacity, manager.apply(transaction));
+
+        // The first ones fit; the rest stay where they were
+        assertEquals(blockedCapacity, manager.getBlockedQueueSize());
+        assertEquals(5 - blockedCapacity, manager.getReadyQueueSize());
+        assertEquals(Process.State.BLOCKED, processes[0].getState());
+        assertEquals(Process.State.READY, processes[4].getState());
+    }
+
+    @Test
+    public void terminationsAndPriorities_applyTogether() {
+        Process[] processes = readyProcesses(3);
+        assertEquals(0, manager.getUsedMemory()); // Single moves leave the recount to the next tick
+
+        QueueTransaction transaction = new QueueTransaction()
+                .setPriority(processes[0], 5)
+                .moveTo(processes[1], QueueTransaction.BLOCKED)
+                .terminate(processes[1]) // Replaces the move
+                .terminate(processes[2]);
+        assertEquals(3, transaction.size());
+        assertEquals(3, manager.apply(transaction));
+
+        assertEquals(5, processes[0].getPriority());
+        assertEquals(Process.State.TERMINATED, processes[1].getState());
+        assertEquals(Process.State.TERMINATED, processes[2].getState());
+        assertEquals(1, manager.getReadyQueueSize());
+        assertEquals(0, manager.getBlockedQueueSize());
+        assertTrue(manager.getUsedMemory() > 0); // Recounted for the one left
+
+        // Already gone: nothing to do
+        assertEquals(0, manager.apply(new QueueTransaction().terminate(processes[2])));
+    }
+
+    @Test
+    public void lasso_collectsOnScreenProcessesInTheBox() {
+        readyProcesses(5);
+        manager.finishAnimations();
+        List<Process> group = new ArrayList<>();
+        manager.collectProcessesIn(new RectF(20, 840, 1060, 1140), group);
+        assertEquals(5, group.size());
+        group.clear();
+        manager.collectProcessesIn(new RectF(0, 0, 10, 10), group);
+        assertTrue(group.isEmpty());
+    }
+}
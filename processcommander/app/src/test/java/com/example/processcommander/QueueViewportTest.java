@@ -0,0 +1,98 @@
+package com.example.processcommander;
+
+import android.graphics.PointF;
+import android.graphics.RectF;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class QueueViewportTest {
+    private static final RectF READY_AREA = new RectF(20, 840, 1060, 1340);
+
+    @Test
+    public void smallQueue_fitsWithoutScrolling() {
+        QueueViewport viewport = new QueueViewport(5);
+        viewport.setArea(READY_AREA);
+        assertFalse(viewport.isScrollable());
+        assertEquals(2, viewport.getVisibleRows());
+        viewport.scrollTo(3, 5);
+        assertEquals(0, viewport.getFirstRow());
+        for (int slot = 0; slot < 5; slot++) {
+            assertTrue(viewport.isSlotVisible(slot));
+        }
+    }
+
+    @Test
+    public void largeQueue_scrollsByWholeRows() {
+        QueueViewport viewport = new QueueViewport(300);
+        viewport.setArea(READY_AREA);
+        assertTrue(viewport.isScrollable());
+        assertEquals(100, viewport.getRowCount());
+        assertEquals(QueueViewport.MAX_VISIBLE_ROWS, viewport.getVisibleRows());
+
+        PointF top = new PointF();
+        viewport.slotCenter(0, top);
+        viewport.scrollTo(4, 60); // 20 occupied rows
+        assertEquals(4, viewport.getFirstRow());
+        assertFalse(viewport.isSlotVisible(11));
+        assertTrue(viewport.isSlotVisible(12));
+        assertTrue(viewport.isSlotVisible(26));
+        assertFalse(viewport.isSlotVisible(27));
+        PointF scrolled = new PointF();
+        viewport.slotCenter(12, scrolled);
+        assertEquals(top.x, scrolled.x, 1e-3);
+        assertEquals(top.y, scrolled.y, 1e-3); // Row 4 is now the top row
+
+        viewport.scrollTo(50, 60); // Past the end: the last occupied row stays at the bottom
+        assertEquals(15, viewport.getFirstRow());
+        viewport.clamp(9); // Queue shrank to three rows
+        assertEquals(0, viewport.getFirstRow());
+    }
+
+    @Test
+    public void offscreenProcesses_areNotDrawnOrHit() throws Exception {
+        ProcessManager manager = new ProcessManager(TestEngines.easyProfileWith("readyQueueSize=300"), 23);
+        manager.setQueueAreaReferences(new RectF(20, 200, 1060, 500), new RectF(20, 520, 820, 820),
+                READY_AREA, new RectF(20, 1360, 1060, 1660));
+        Process[] processes = new Process[60];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = new Process("P" + i, 5, 10000, 100);
+            manager.moveToReadyQueue(processes[i]);
+        }
+        manager.finishAnimations();
+        assertEquals(60, manager.getReadyQueueSize());
+
+        int onScreen = 0;
+        for (Process process : processes) {
+            onScreen += process.isOnScreen() ? 1 : 0;
+        }
+        assertEquals(15, onScreen);
+
+        // Each drawn process makes the same ops, so 15 of 60 means a quarter of the work
+        RecordingRenderer renderer = new RecordingRenderer();
+        renderer.beginFrame();
+        manager.draw(renderer, false);
+        renderer.endFrame();
+        int opsForWindow = renderer.getOpCount();
+        renderer.beginFrame();
+        processes[0].draw(renderer, false);
+        renderer.endFrame();
+        assertEquals(15 * renderer.getOpCount(), opsForWindow);
+
+        QueueViewport ready = manager.getReadyViewport();
+        PointF firstSlot = new PointF();
+        ready.slotCenter(0, firstSlot);
+        assertSame(processes[0], manager.findProcessAtPosition(firstSlot.x, firstSlot.y));
+
+        manager.scrollQueue(ready, 4);
+        manager.finishAnimations();
+        assertFalse(processes[0].isOnScreen());
+        assertTrue(processes[12].isOnScreen());
+        assertSame(processes[12], manager.findProcessAtPosition(firstSlot.x, firstSlot.y));
+        assertSame(ready, manager.getViewportAt(firstSlot.x, firstSlot.y));
+    }
+}
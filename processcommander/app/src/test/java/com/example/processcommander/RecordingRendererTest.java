@@ -0,0 +1,117 @@
+package com.example.processcommander;
+
+import android.graphics.Color;
+import android.graphics.RectF;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class RecordingRendererTest {
+    @Test
+    public void frame_countsOpsTextAndStateChanges() {
+        RecordingRenderer renderer = new RecordingRenderer();
+        RectF box = new RectF(0, 0, 100, 50);
+        renderer.beginFrame();
+        renderer.drawColor(Color.BLACK);
+        renderer.setColor(Color.BLUE);
+        renderer.setStyle(Renderer.FILL);
+        renderer.drawRoundRect(box, 10);
+        renderer.setColor(Color.BLUE); // Same as before: a call, but no change
+        renderer.drawRect(box);
+        renderer.setColor(Color.WHITE);
+        renderer.setTextSize(24);
+        renderer.drawText("Ready", 50, 25);
+        renderer.drawText("3 / 5", 50, 45);
+        renderer.endFrame();
+
+        assertEquals(5, renderer.getOpCount());
+        assertEquals(2, renderer.getTextRuns());
+        assertEquals(10, renderer.getTextChars());
+        assertEquals(5, renderer.getStateCalls());
+        assertEquals(2, renderer.getStateChanges()); // Blue after the clear, then white for the text
+        assertEquals(0, renderer.getUnchangedOps()); // Nothing to compare the first frame with
+        assertEquals(RecordingRenderer.OP_TEXT, renderer.getRecordedOp(3));
+        assertEquals("Ready", renderer.getRecordedText(3));
+        assertEquals(Color.WHITE, renderer.getRecordedColor(4));
+    }
+
+    @Test
+    public void diff_countsOpsRepeatedFromThePreviousFrame() {
+        RecordingRenderer renderer = new RecordingRenderer();
+        RectF box = new RectF(0, 0, 100, 50);
+        for (int frame = 0; frame < 2; frame++) {
+            renderer.beginFrame();
+            renderer.setColor(Color.GRAY);
+            renderer.drawRoundRect(box, 10);
+            renderer.setColor(Color.WHITE);
+            renderer.drawText("Score: " + (frame * 100), 10, 80); // Changes every frame
+            renderer.drawText("Running Queue", 10, 100);
+            renderer.endFrame();
+        }
+        assertEquals(3, renderer.getOpCount());
+        assertEquals(2, renderer.getUnchangedOps());
+        assertEquals(2 / 3f, renderer.getRedundancy(), 1e-6);
+    }
+
+    @Test
+    public void buffers_growAndAreReused() {
+        RecordingRenderer renderer = new RecordingRenderer();
+        for (int frame = 0; frame < 3; frame++) {
+            renderer.beginFrame();
+            for (int i = 0; i < 1000; i++) {
+                renderer.drawRect(i, 0, i + 1, 1);
+            }
+            renderer.endFrame();
+        }
+        assertEquals(1000, renderer.getOpCount());
+        assertEquals(1000, renderer.getUnchangedOps());
+        assertEquals(3, renderer.getFrameCount());
+    }
+
+    @Test
+    public void headlessGame_drawCostIsMeasurable() throws Exception {
+        ProcessManager manager = TestEngines.easy(19);
+        RectF newArea = new RectF(20, 200, 1060, 500);
+        RectF runningArea = new RectF(20, 520, 1060, 820);
+        RectF readyArea = new RectF(20, 840, 1060, 1140);
+        RectF blockedArea = new RectF(20, 1160, 1060, 1460);
+        manager.setQueueAreaReferences(newArea, runningArea, readyArea, blockedArea);
+        RectF cpuBarBg = new RectF(50, 50, 1030, 80);
+        RectF memoryBarBg = new RectF(50, 100, 1030, 130);
+
+        RecordingRenderer renderer = new RecordingRenderer();
+        int frames = 600;
+        long ops = 0, textRuns = 0, stateChanges = 0, unchanged = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            manager.update(1 / 60f);
+            RectF cpuBarFg = new RectF(cpuBarBg);
+            cpuBarFg.right = cpuBarBg.left + cpuBarBg.width() * manager.getUsedCPU() / manager.getTotalCPU();
+            RectF memoryBarFg = new RectF(memoryBarBg);
+            memoryBarFg.right = memoryBarBg.left + memoryBarBg.width() * manager.getUsedMemory() / manager.getTotalMemory();
+
+            // The game scene as GameView draws it, minus the overlays
+            renderer.beginFrame();
+            renderer.drawColor(Color.BLACK);
+            GameView.drawResourceBars(renderer, manager, cpuBarBg, cpuBarFg, memoryBarBg, memoryBarFg);
+            GameView.drawQueueInfo(renderer, newArea, "New Processes", manager.getNewProcesses().size(), manager.getNewViewport(), Color.DKGRAY);
+            GameView.drawQueueInfo(renderer, runningArea, "Running Queue", manager.getRunningQueueSize(), manager.getRunningViewport(), Color.rgb(0, 50, 0));
+            GameView.drawQueueInfo(renderer, readyArea, "Ready Queue", manager.getReadyQueueSize(), manager.getReadyViewport(), Color.rgb(0, 0, 50));
+            GameView.drawQueueInfo(renderer, blockedArea, "Blocked Queue", manager.getBlockedQueueSize(), manager.getBlockedViewport(), Color.rgb(50, 0, 0));
+            manager.draw(renderer, (frame / 30) % 2 == 0);
+            renderer.endFrame();
+
+            ops += renderer.getOpCount();
+            textRuns += renderer.getTextRuns();
+            stateChanges += renderer.getStateChanges();
+            unchanged += renderer.getUnchangedOps();
+        }
+        assertTrue(textRuns > 0 && textRuns < ops);
+        assertTrue(stateChanges < ops);
+        // Queue backgrounds, titles and slot outlines are the same every frame
+        assertTrue(unchanged > ops / 2);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class RingTracerTest {
+    private static final Pattern EVENT = Pattern.compile(
+            "\\{\"name\":\"([^\"]+)\",\"cat\":\"game\",\"ph\":\"([BE])\",\"ts\":(\\d+\\.\\d{3}),\"pid\":1,\"tid\":(\\d+)\\}");
+
+    // name:phase for every event in an exported trace
+    private static List<String> exportedEvents(RingTracer tracer) throws Exception {
+        StringWriter out = new StringWriter();
+        tracer.writeChromeTrace(out);
+        String json = out.toString();
+        assertTrue(json.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(json.endsWith("]}\n"));
+
+        List<String> events = new ArrayList<>();
+        Matcher matcher = EVENT.matcher(json);
+        while (matcher.find()) {
+            events.add(matcher.group(1) + ":" + matcher.group(2));
+        }
+        return events;
+    }
+
+    @Test
+    public void spans_exportInOrder() throws Exception {
+        RingTracer tracer = new RingTracer(16);
+        tracer.begin(Tracer.FRAME_UPDATE);
+        tracer.begin(Tracer.ENGINE_UPDATE);
+        tracer.end(Tracer.ENGINE_UPDATE);
+        tracer.end(Tracer.FRAME_UPDATE);
+
+        List<String> events = exportedEvents(tracer);
+        assertEquals(4, events.size());
+        assertEquals("GameView.update:B", events.get(0));
+        assertEquals("ProcessManager.update:B", events.get(1));
+        assertEquals("ProcessManager.update:E", events.get(2));
+        assertEquals("GameView.update:E", events.get(3));
+    }
+
+    @Test
+    public void fullRing_keepsNewestAndDropsOrphanedEnds() throws Exception {
+        RingTracer tracer = new RingTracer(6); // Rounds up to 8
+        assertEquals(8, tracer.capacity());
+        tracer.begin(Tracer.FRAME_UPDATE);
+        for (int i = 0; i < 4; i++) {
+            tracer.begin(Tracer.REPOSITION);
+            tracer.end(Tracer.REPOSITION);
+        }
+        tracer.end(Tracer.FRAME_UPDATE); // Its begin has been overwritten
+
+        assertEquals(8, tracer.getRecordedCount());
+        assertEquals(2, tracer.getOverwrittenCount());
+        List<String> events = exportedEvents(tracer);
+        assertEquals(6, events.size()); // The orphaned REPOSITION end and FRAME_UPDATE end are left out
+        assertEquals("ProcessManager.repositionAllProcesses:B", events.get(0));
+        assertEquals("ProcessManager.repositionAllProcesses:E", events.get(5));
+    }
+
+    @Test
+    public void threads_recordConcurrently() throws Exception {
+        final RingTracer tracer = new RingTracer(1 << 16);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        tracer.begin(Tracer.MOVE_TO_READY);
+                        tracer.end(Tracer.MOVE_TO_READY);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8000, tracer.getRecordedCount());
+        assertEquals(8000, exportedEvents(tracer).size());
+    }
+
+    @Test
+    public void headlessEngine_isTracedWithoutADevice() throws Exception {
+        ProcessManager manager = TestEngines.easy(3);
+        RingTracer tracer = new RingTracer(1 << 16);
+        manager.setTracer(tracer);
+        for (int frame = 0; frame < 600; frame++) {
+            manager.update(0.1f);
+        }
+
+        List<String> events = exportedEvents(tracer);
+        assertEquals(tracer.getRecordedCount(), events.size());
+        assertTrue(events.contains("ProcessManager.update:B"));
+        assertTrue(events.contains("ProcessManager.backgroundTasks:B"));
+        assertTrue(events.contains("ProcessManager.moveToReadyQueue:B"));
+        assertTrue(events.contains("ProcessManager.moveToRunningQueue:B"));
+        assertTrue(events.contains("ProcessManager.repositionAllProcesses:B"));
+    }
+}
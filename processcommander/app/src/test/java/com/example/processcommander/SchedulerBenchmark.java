@@ -0,0 +1,266 @@
+package com.example.processcommander;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Headless, event-driven single-CPU simulator for comparing {@link Scheduler} policies over
+ * seeded synthetic workloads shaped like the game's (5-20 s of CPU per process, split by
+ * I/O waits). Time jumps from event to event, so thousands of workloads run in seconds.
+ */
+public class SchedulerBenchmark {
+    private static final int JOBS_PER_WORKLOAD = 40;
+    private static final double MEAN_INTERARRIVAL_MS = 15000; // Keeps one CPU around 85% busy
+
+    /**
+     * One seeded workload: arrivals, CPU bursts and the I/O wait after each burst but the last
+     */
+    public static class Workload {
+        final long[] arrivalMs;
+        final int[] priority;
+        final long[][] burstsMs;
+        final long[][] ioMs;
+
+        Workload(long seed) {
+            Random random = new Random(seed);
+            arrivalMs = new long[JOBS_PER_WORKLOAD];
+            priority = new int[JOBS_PER_WORKLOAD];
+            burstsMs = new long[JOBS_PER_WORKLOAD][];
+            ioMs = new long[JOBS_PER_WORKLOAD][];
+
+            long time = 0;
+            for (int job = 0; job < JOBS_PER_WORKLOAD; job++) {
+                time += (long) (-Math.log(1 - random.nextDouble()) * MEAN_INTERARRIVAL_MS);
+                arrivalMs[job] = time;
+                priority[job] = random.nextInt(10) + 1;
+
+                long totalCpu = (5 + random.nextInt(16)) * 1000L;
+                int bursts = 1 + random.nextInt(4);
+                burstsMs[job] = new long[bursts];
+                ioMs[job] = new long[bursts - 1];
+                long left = totalCpu;
+                for (int b = 0; b < bursts - 1; b++) {
+                    long burst = Math.max(100, left / (bursts - b) + random.nextInt(1000) - 500);
+                    burstsMs[job][b] = burst;
+                    left -= burst;
+                    ioMs[job][b] = 500 + random.nextInt(2501);
+                }
+                burstsMs[job][bursts - 1] = Math.max(100, left);
+            }
+        }
+
+        long totalCpu(int job) {
+            long total = 0;
+            for (long burst : burstsMs[job]) {
+                total += burst;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Aggregated results of one policy over many workloads
+     */
+    public static class Report {
+        final String policy;
+        int workloads;
+        int jobsCompleted;
+        double throughputSum;  // Jobs per second, summed over workloads
+        double utilizationSum;
+        long[] turnaround = new long[1024];
+        long[] waiting = new long[1024];
+        long[] response = new long[1024];
+        int samples;
+
+        Report(String policy) {
+            this.policy = policy;
+        }
+
+        void addJob(long turnaroundMs, long waitingMs, long responseMs) {
+            if (samples == turnaround.length) {
+                turnaround = Arrays.copyOf(turnaround, samples * 2);
+                waiting = Arrays.copyOf(waiting, samples * 2);
+                response = Arrays.copyOf(response, samples * 2);
+            }
+            turnaround[samples] = turnaroundMs;
+            waiting[samples] = waitingMs;
+            response[samples] = responseMs;
+            samples++;
+            jobsCompleted++;
+        }
+
+        public double throughputPerMinute() {
+            return throughputSum / workloads * 60;
+        }
+
+        public double utilization() {
+            return utilizationSum / workloads;
+        }
+
+        public double meanTurnaroundMs() {
+            return mean(turnaround);
+        }
+
+        public double meanWaitMs() {
+            return mean(waiting);
+        }
+
+        public double meanResponseMs() {
+            return mean(response);
+        }
+
+        public long p99TurnaroundMs() {
+            return percentile(turnaround, 0.99);
+        }
+
+        public long p99WaitMs() {
+            return percentile(waiting, 0.99);
+        }
+
+        private double mean(long[] values) {
+            double sum = 0;
+            for (int i = 0; i < samples; i++) {
+                sum += values[i];
+            }
+            return samples == 0 ? 0 : sum / samples;
+        }
+
+        private long percentile(long[] values, double quantile) {
+            if (samples == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(values, samples);
+            Arrays.sort(sorted);
+            return sorted[Math.min(samples - 1, (int) Math.ceil(quantile * samples) - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "%-22s thr=%5.2f/min util=%5.1f%% turnaround mean=%7.1fs p99=%7.1fs"
+                            + " wait mean=%7.1fs p99=%7.1fs response mean=%6.1fs",
+                    policy, throughputPerMinute(), utilization() * 100,
+                    meanTurnaroundMs() / 1000, p99TurnaroundMs() / 1000.0,
+                    meanWaitMs() / 1000, p99WaitMs() / 1000.0, meanResponseMs() / 1000);
+        }
+    }
+
+    /**
+     * Run one policy over workloads seeded firstSeed .. firstSeed + count - 1
+     */
+    public static Report evaluate(Scheduler scheduler, long firstSeed, int count) {
+        Report report = new Report(scheduler.getName());
+        for (int i = 0; i < count; i++) {
+            run(scheduler, new Workload(firstSeed + i), report);
+        }
+        return report;
+    }
+
+    static void run(Scheduler scheduler, Workload workload, Report report) {
+        scheduler.reset();
+        int jobs = workload.arrivalMs.length;
+        Process[] processes = new Process[jobs];
+        IdentityHashMap<Process, Integer> jobOf = new IdentityHashMap<>();
+        for (int job = 0; job < jobs; job++) {
+            processes[job] = new Process("Job-" + job, workload.priority[job], workload.totalCpu(job), 100);
+            jobOf.put(processes[job], job);
+        }
+
+        int[] burstIndex = new int[jobs];
+        long[] burstLeft = new long[jobs];
+        long[] readySince = new long[jobs];
+        long[] waited = new long[jobs];
+        long[] firstRun = new long[jobs];
+        Arrays.fill(firstRun, -1);
+        for (int job = 0; job < jobs; job++) {
+            burstLeft[job] = workload.burstsMs[job][0];
+        }
+        PriorityQueue<long[]> ioWakeups = new PriorityQueue<>(16, (a, b) -> Long.compare(a[0], b[0]));
+
+        long now = 0;
+        long busy = 0;
+        long lastFinish = 0;
+        int nextArrival = 0;
+        int completed = 0;
+        int running = -1;
+        long quantumLeft = 0;
+
+        while (completed < jobs) {
+            if (running < 0) {
+                Process next = scheduler.selectNext(now);
+                if (next != null) {
+                    running = jobOf.get(next);
+                    waited[running] += now - readySince[running];
+                    if (firstRun[running] < 0) {
+                        firstRun[running] = now;
+                    }
+                    next.markDispatched();
+                    quantumLeft = scheduler.getQuantumMs(next);
+                }
+            }
+
+            // Jump to the next event
+            long nextTime = Long.MAX_VALUE;
+            if (nextArrival < jobs) {
+                nextTime = workload.arrivalMs[nextArrival];
+            }
+            if (!ioWakeups.isEmpty()) {
+                nextTime = Math.min(nextTime, ioWakeups.peek()[0]);
+            }
+            if (running >= 0) {
+                nextTime = Math.min(nextTime, now + Math.min(burstLeft[running], quantumLeft));
+            }
+            if (running >= 0) {
+                long slice = nextTime - now;
+                processes[running].consumeCpu(slice);
+                burstLeft[running] -= slice;
+                if (quantumLeft != Scheduler.NO_QUANTUM) {
+                    quantumLeft -= slice;
+                }
+                busy += slice;
+            }
+            now = nextTime;
+
+            // Arrivals and I/O completions join the ready set before a preempted process
+            while (nextArrival < jobs && workload.arrivalMs[nextArrival] <= now) {
+                readySince[nextArrival] = now;
+                scheduler.onReady(processes[nextArrival], now);
+                nextArrival++;
+            }
+            while (!ioWakeups.isEmpty() && ioWakeups.peek()[0] <= now) {
+                int job = (int) ioWakeups.poll()[1];
+                readySince[job] = now;
+                scheduler.onReady(processes[job], now);
+            }
+
+            if (running >= 0) {
+                int job = running;
+                if (burstLeft[job] <= 0) {
+                    int finishedBurst = burstIndex[job]++;
+                    if (burstIndex[job] == workload.burstsMs[job].length) {
+                        completed++;
+                        lastFinish = now;
+                        report.addJob(now - workload.arrivalMs[job], waited[job], firstRun[job] - workload.arrivalMs[job]);
+                    } else {
+                        burstLeft[job] = workload.burstsMs[job][burstIndex[job]];
+                        ioWakeups.add(new long[] { now + workload.ioMs[job][finishedBurst], job });
+                    }
+                    running = -1;
+                } else if (quantumLeft <= 0) {
+                    scheduler.onQuantumExpired(processes[job]);
+                    readySince[job] = now;
+                    scheduler.onReady(processes[job], now);
+                    running = -1;
+                }
+            }
+        }
+
+        long makespan = Math.max(1, lastFinish - workload.arrivalMs[0]);
+        report.workloads++;
+        report.throughputSum += jobs / (makespan / 1000.0);
+        report.utilizationSum += (double) busy / makespan;
+    }
+}
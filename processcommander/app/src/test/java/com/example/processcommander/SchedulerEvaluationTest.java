@@ -0,0 +1,63 @@
+package com.example.processcommander;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs every scheduling policy over the same seeded workloads and prints a comparison.
+ * Set -Dscheduler.eval.workloads=N for a bigger sweep.
+ */
+public class SchedulerEvaluationTest {
+    private static final int WORKLOADS = Integer.getInteger("scheduler.eval.workloads", 2000);
+    private static final long FIRST_SEED = 1;
+
+    private static SchedulerBenchmark.Report engine;
+    private static SchedulerBenchmark.Report fcfs;
+    private static SchedulerBenchmark.Report sjf;
+    private static SchedulerBenchmark.Report roundRobin;
+    private static SchedulerBenchmark.Report mlfq;
+
+    @BeforeClass
+    public static void evaluateAllPolicies() {
+        engine = SchedulerBenchmark.evaluate(new PriorityAgingScheduler(ProcessManager.STARVATION_THRESHOLD_MS), FIRST_SEED, WORKLOADS);
+        fcfs = SchedulerBenchmark.evaluate(new FcfsScheduler(), FIRST_SEED, WORKLOADS);
+        sjf = SchedulerBenchmark.evaluate(new SjfScheduler(), FIRST_SEED, WORKLOADS);
+        roundRobin = SchedulerBenchmark.evaluate(new RoundRobinScheduler(2000), FIRST_SEED, WORKLOADS);
+        mlfq = SchedulerBenchmark.evaluate(new MlfqScheduler(new long[] { 1000, 2000, 4000 }, 20000), FIRST_SEED, WORKLOADS);
+
+        System.out.println("Scheduler evaluation over " + WORKLOADS + " seeded workloads:");
+        for (SchedulerBenchmark.Report report : new SchedulerBenchmark.Report[] { engine, fcfs, sjf, roundRobin, mlfq }) {
+            System.out.println("  " + report);
+        }
+    }
+
+    @Test
+    public void everyPolicy_completesEveryJob() {
+        for (SchedulerBenchmark.Report report : new SchedulerBenchmark.Report[] { engine, fcfs, sjf, roundRobin, mlfq }) {
+            assertEquals(report.policy, WORKLOADS * 40, report.jobsCompleted);
+            assertTrue(report.policy, report.utilization() > 0 && report.utilization() <= 1.0);
+        }
+    }
+
+    @Test
+    public void sjf_minimisesMeanTurnaround() {
+        assertTrue(sjf.meanTurnaroundMs() < fcfs.meanTurnaroundMs());
+        assertTrue(sjf.meanTurnaroundMs() < roundRobin.meanTurnaroundMs());
+        assertTrue(sjf.meanTurnaroundMs() < engine.meanTurnaroundMs());
+    }
+
+    @Test
+    public void preemptivePolicies_respondFasterThanFcfs() {
+        assertTrue(roundRobin.meanResponseMs() < fcfs.meanResponseMs());
+        assertTrue(mlfq.meanResponseMs() < fcfs.meanResponseMs());
+    }
+
+    @Test
+    public void workConservingPolicies_shareTheSameThroughput() {
+        // Same work, no idling while something is ready: throughput differs only by ordering noise
+        assertEquals(fcfs.throughputPerMinute(), sjf.throughputPerMinute(), fcfs.throughputPerMinute() * 0.05);
+        assertEquals(fcfs.throughputPerMinute(), roundRobin.throughputPerMinute(), fcfs.throughputPerMinute() * 0.05);
+    }
+}
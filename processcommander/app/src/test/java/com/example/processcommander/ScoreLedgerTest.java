@@ -0,0 +1,71 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ScoreLedgerTest {
+    @Test
+    public void penalties_clampAtZeroAndCategoriesAddUp() {
+        ScoreLedger ledger = new ScoreLedger();
+        assertEquals(300, ledger.record(ScoreLedger.COMPLETION, 300, 1000));
+        assertEquals(-200, ledger.record(ScoreLedger.STARVATION, -200, 2000));
+        assertEquals(-100, ledger.record(ScoreLedger.CRITICAL, -300, 3000)); // Only 100 left to take
+        assertEquals(0, ledger.record(ScoreLedger.STARVATION, -200, 4000));
+
+        assertEquals(0, ledger.getTotal());
+        assertEquals(4, ledger.size());
+        assertEquals(300, ledger.getCategoryTotal(ScoreLedger.COMPLETION));
+        assertEquals(-200, ledger.getCategoryTotal(ScoreLedger.STARVATION));
+        assertEquals(-100, ledger.getCategoryTotal(ScoreLedger.CRITICAL));
+        assertEquals(ScoreLedger.CRITICAL, ledger.getCategory(2));
+        assertEquals(-100, ledger.getDelta(2));
+        assertEquals(3000, ledger.getTimeMs(2));
+    }
+
+    @Test
+    public void readers_seeAConsistentTotalWhileTheLogGrows() throws Exception {
+        final ScoreLedger ledger = new ScoreLedger();
+        final int events = 200000;
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < events; i++) {
+                    ledger.record(ScoreLedger.COMPLETION, 100, i);
+                }
+            }
+        });
+        writer.start();
+        int lastTotal = 0;
+        while (writer.isAlive()) {
+            int size = ledger.size();
+            if (size > 0) {
+                assertEquals(100, ledger.getDelta(size - 1)); // Published entries are fully written
+            }
+            int total = ledger.getTotal();
+            assertTrue(total >= lastTotal);
+            lastTotal = total;
+        }
+        writer.join();
+        assertEquals(events * 100, ledger.getTotal());
+        assertEquals(events, ledger.size());
+    }
+
+    @Test
+    public void headlessGame_scoreIsTheSumOfItsLedger() throws Exception {
+        ProcessManager manager = TestEngines.easy(13);
+        manager.fastForward(10 * 60 * 1000);
+
+        ScoreLedger ledger = manager.getScoreLedger();
+        int sum = 0;
+        int completions = 0;
+        for (int i = 0; i < ledger.size(); i++) {
+            sum += ledger.getDelta(i);
+            if (ledger.getCategory(i) == ScoreLedger.COMPLETION) {
+                completions++;
+            }
+        }
+        assertEquals(manager.getScore(), sum);
+        assertEquals(manager.getProcessesCompleted(), completions);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SessionMetricsTest {
+    private static Map<String, SessionMetrics.Summary> byName(List<SessionMetrics.Summary> summaries) {
+        Map<String, SessionMetrics.Summary> map = new HashMap<>();
+        for (SessionMetrics.Summary summary : summaries) {
+            map.put(summary.name, summary);
+        }
+        return map;
+    }
+
+    @Test
+    public void runningStats_matchTwoPassResultsOnLargeOffsets() {
+        RunningStats stats = new RunningStats();
+        Random random = new Random(1);
+        double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1e9 + random.nextGaussian() * 3; // Naive sum-of-squares loses this entirely
+            stats.add(values[i]);
+        }
+        double mean = 0;
+        for (double value : values) {
+            mean += value / values.length;
+        }
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        assertEquals(values.length, stats.getCount());
+        assertEquals(mean, stats.getMean(), 1e-4);
+        assertEquals(squares / (values.length - 1), stats.getVariance(), 1e-3);
+    }
+
+    @Test
+    public void quantileSketch_isWithinItsRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(0.02, 1, 1e8);
+        Random random = new Random(2);
+        double[] values = new double[200000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 - Math.log(1 - random.nextDouble()) * 20000; // Long-tailed, like turnaround
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[] { 0.1, 0.5, 0.9, 0.95, 0.99 }) {
+            double exact = values[(int) Math.ceil(q * values.length) - 1];
+            assertEquals("p" + (int) (q * 100), exact, sketch.quantile(q), exact * 0.02);
+        }
+        assertTrue(sketch.getBucketCount() < 500); // Fixed, however many values went in
+    }
+
+    @Test
+    public void oneProcess_producesTextbookTimes() {
+        SessionMetrics metrics = new SessionMetrics();
+        Process process = new Process("Test", 5, 10000, 100);
+        metrics.onArrival(process, 0);
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_READY, 1000);
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_READY, 2000); // Re-slotted, same stay
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_RUNNING, 4000);
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_BLOCKED, 6000);
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_READY, 9000);
+        metrics.onEnterQueue(process, SessionMetrics.QUEUE_RUNNING, 10000);
+        metrics.onCompleted(process, 12000);
+
+        Map<String, SessionMetrics.Summary> summaries = byName(metrics.summaries(60000));
+        assertEquals(1.0, summaries.get(SessionMetrics.THROUGHPUT).mean, 1e-9);
+        assertEquals(12000, summaries.get(SessionMetrics.TURNAROUND).mean, 1e-9);
+        assertEquals(4000, summaries.get(SessionMetrics.WAITING).mean, 1e-9);
+        assertEquals(4000, summaries.get(SessionMetrics.RESPONSE).mean, 1e-9);
+        assertEquals(1, summaries.get(SessionMetrics.RESPONSE).count); // Only the first dispatch counts
+
+        SessionMetrics.Summary ready = summaries.get(SessionMetrics.RESIDENCY_PREFIX + "ready");
+        assertEquals(2, ready.count);
+        assertEquals(2000, ready.mean, 1e-9);
+        assertEquals(2000, summaries.get(SessionMetrics.RESIDENCY_PREFIX + "running").mean, 1e-9);
+        assertEquals(3000, summaries.get(SessionMetrics.RESIDENCY_PREFIX + "blocked").mean, 1e-9);
+    }
+
+    @Test
+    public void headlessGame_feedsEveryMetric() throws Exception {
+        ProcessManager manager = TestEngines.easy(5);
+        manager.fastForward(10 * 60 * 1000);
+
+        Map<String, SessionMetrics.Summary> summaries = byName(manager.getSessionSummaries());
+        assertEquals(manager.getProcessesCompleted(), summaries.get(SessionMetrics.TURNAROUND).count);
+        assertEquals(manager.getProcessesCompleted() / 10.0, summaries.get(SessionMetrics.THROUGHPUT).mean, 1e-9);
+        assertEquals(600, summaries.get(SessionMetrics.CPU_UTILISATION).count);
+        SessionMetrics.Summary turnaround = summaries.get(SessionMetrics.TURNAROUND);
+        assertTrue(turnaround.p50 >= 5000 * 0.98); // No process needs less than 5 s of CPU
+        assertTrue(turnaround.p95 >= turnaround.p50);
+        assertTrue(summaries.get(SessionMetrics.WAITING).mean <= turnaround.mean);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.processcommander;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Headless engines for tests, built from the bundled difficulty profiles. Paths are
+ * relative to the app module, where Gradle runs unit tests.
+ */
+final class TestEngines {
+    static final String PROFILES_PATH = "src/main/assets/difficulty_profiles.properties";
+
+    private TestEngines() {
+    }
+
+    /**
+     * Every bundled profile, easiest first
+     */
+    static DifficultyProfile[] profiles() throws IOException {
+        try (InputStream in = new FileInputStream(PROFILES_PATH)) {
+            return DifficultyProfiles.load(in);
+        }
+    }
+
+    static DifficultyProfile easyProfile() throws IOException {
+        return profiles()[DifficultyProfile.LEVEL_EASY];
+    }
+
+    /**
+     * The easy profile with extra settings appended, e.g. "readyQueueSize=300"
+     */
+    static DifficultyProfile easyProfileWith(String extra) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = new FileInputStream(PROFILES_PATH)) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        bytes.write(("\n" + extra + "\n").getBytes(StandardCharsets.ISO_8859_1));
+        return DifficultyProfiles.load(new ByteArrayInputStream(bytes.toByteArray()))[0];
+    }
+
+    /**
+     * An easy game with the given seed, scheduled by the engine's own autopilot
+     */
+    static ProcessManager easy(long seed) throws IOException {
+        return autopilot(easyProfile(), seed);
+    }
+
+    static ProcessManager autopilot(DifficultyProfile profile, long seed) {
+        ProcessManager manager = new ProcessManager(profile, seed);
+        manager.setScheduler(autopilotScheduler());
+        return manager;
+    }
+
+    /**
+     * Priority with aging at the engine's starvation threshold, as the game schedules
+     */
+    static Scheduler autopilotScheduler() {
+        return new PriorityAgingScheduler(ProcessManager.STARVATION_THRESHOLD_MS);
+    }
+}
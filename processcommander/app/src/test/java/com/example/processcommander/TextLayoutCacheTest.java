@@ -0,0 +1,76 @@
+package com.example.processcommander;
+
+import android.graphics.Paint;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class TextLayoutCacheTest {
+    // Every character is 10 px wide, so widths are easy to reason about
+    private static class FixedWidthPaint extends Paint {
+        @Override
+        public float measureText(String text, int start, int end) {
+            return (end - start) * 10;
+        }
+    }
+
+    private final Paint paint = new FixedWidthPaint();
+
+    @Test
+    public void repeatedLayouts_hitTheCache() {
+        TextLayoutCache cache = new TextLayoutCache(4);
+        String[] first = cache.lines("tap a process to select it", 100, paint);
+        assertEquals(1, cache.getMissCount());
+        assertSame(first, cache.lines("tap a process to select it", 100, paint));
+        assertSame(first, cache.lines(new String("tap a process to select it"), 100, paint));
+        assertEquals(1, cache.getMissCount());
+
+        // A different width or text size is another layout
+        cache.lines("tap a process to select it", 200, paint);
+        assertEquals(2, cache.getMissCount());
+        paint.setTextSize(paint.getTextSize() + 4);
+        cache.lines("tap a process to select it", 100, paint);
+        assertEquals(3, cache.getMissCount());
+
+        cache.invalidate();
+        cache.lines("tap a process to select it", 100, paint);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void fullCache_evictsTheOldestLayout() {
+        TextLayoutCache cache = new TextLayoutCache(2);
+        cache.lines("one", 100, paint);
+        cache.lines("two", 100, paint);
+        cache.lines("three", 100, paint); // Evicts "one"
+        assertEquals(3, cache.getMissCount());
+        cache.lines("two", 100, paint);
+        assertEquals(3, cache.getMissCount());
+        cache.lines("one", 100, paint);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void breakLines_wrapsAtWords() {
+        assertArrayEquals(new String[] {"ab cd", "ef"}, TextLayoutCache.breakLines("ab cd ef", 50, paint));
+        assertArrayEquals(new String[] {"ab", "cd"}, TextLayoutCache.breakLines("ab  cd", 30, paint));
+    }
+
+    @Test
+    public void breakLines_edgeCases() {
+        assertArrayEquals(new String[] {""}, TextLayoutCache.breakLines("", 50, paint));
+        assertArrayEquals(new String[] {"   "}, TextLayoutCache.breakLines("   ", 50, paint));
+
+        // Leading spaces stay with the first word rather than becoming a line of their own
+        assertArrayEquals(new String[] {"  ab", "cd"}, TextLayoutCache.breakLines("  ab cd", 40, paint));
+
+        // A word longer than the line gets a line to itself
+        assertArrayEquals(new String[] {"a", "overflowing", "b"},
+                TextLayoutCache.breakLines("a overflowing b", 30, paint));
+        assertArrayEquals(new String[] {"overflowing"}, TextLayoutCache.breakLines("overflowing", 30, paint));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TimelineCodecTest {
+    @Test
+    public void encodeDecode_roundTrips() {
+        TimelineRecorder timeline = new TimelineRecorder(100);
+        Random random = new Random(42);
+        for (int i = 0; i < 80; i++) {
+            timeline.record(random.nextInt(120), 300 + random.nextInt(900), i % 3, 2, random.nextInt(6), 0);
+        }
+
+        int[][] decoded = TimelineCodec.decode(timeline.encode());
+
+        assertEquals(TimelineRecorder.CHANNEL_COUNT, decoded.length);
+        for (int channel = 0; channel < TimelineRecorder.CHANNEL_COUNT; channel++) {
+            assertEquals(80, decoded[channel].length);
+            for (int i = 0; i < 80; i++) {
+                assertEquals(timeline.get(channel, i), decoded[channel][i]);
+            }
+        }
+    }
+
+    @Test
+    public void ringBuffer_keepsNewestSamples() {
+        TimelineRecorder timeline = new TimelineRecorder(10);
+        for (int i = 0; i < 25; i++) {
+            timeline.record(i, 0, 0, 0, 0, 0);
+        }
+
+        int[][] decoded = TimelineCodec.decode(timeline.encode());
+
+        assertEquals(10, decoded[TimelineRecorder.CHANNEL_CPU].length);
+        assertEquals(15, decoded[TimelineRecorder.CHANNEL_CPU][0]);
+        assertEquals(24, decoded[TimelineRecorder.CHANNEL_CPU][9]);
+    }
+
+    @Test
+    public void thirtyMinuteGame_fitsInAFewKilobytes() {
+        TimelineRecorder timeline = new TimelineRecorder();
+        Random random = new Random(7);
+        int cpu = 40;
+        int memory = 500;
+        for (int second = 0; second < 30 * 60; second++) {
+            // Resources drift a little every few seconds, queues change occasionally
+            if (random.nextInt(4) == 0) cpu += random.nextInt(11) - 5;
+            if (random.nextInt(4) == 0) memory += random.nextInt(41) - 20;
+            timeline.record(cpu, memory, second / 200 % 4, 3, second / 90 % 5, second / 120 % 4);
+        }
+
+        byte[] encoded = timeline.encode();
+
+        assertTrue("encoded size " + encoded.length, encoded.length < 8 * 1024);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TouchInputTest {
+    private final List<Integer> actions = new ArrayList<>();
+    private final TouchInput.Listener recorder = new TouchInput.Listener() {
+        @Override
+        public void onTouch(int action, float x, float y, long timeMs) {
+            actions.add(action);
+        }
+    };
+
+    @Test
+    public void samples_drainInOrder() {
+        TouchInput input = new TouchInput(64);
+        assertTrue(input.offer(TouchInput.DOWN, 1, 1, 0));
+        assertTrue(input.offer(TouchInput.MOVE, 2, 2, 8));
+        assertTrue(input.offer(TouchInput.UP, 3, 3, 16));
+        assertEquals(3, input.drain(recorder));
+        assertEquals(TouchInput.DOWN, (int) actions.get(0));
+        assertEquals(TouchInput.UP, (int) actions.get(2));
+        assertEquals(0, input.drain(recorder));
+    }
+
+    @Test
+    public void backedUpMoves_leaveRoomForDownsAndUps() {
+        TouchInput input = new TouchInput(64);
+        assertTrue(input.offer(TouchInput.DOWN, 0, 0, 0));
+        int moves = 0;
+        while (input.offer(TouchInput.MOVE, moves, 0, moves)) {
+            moves++;
+        }
+        assertEquals(64 - 1 - TouchInput.RESERVED_SLOTS, moves);
+
+        // Moves are dropped, but the gesture still ends, and the next one starts
+        assertTrue(input.offer(TouchInput.UP, 0, 0, 100));
+        assertTrue(input.offer(TouchInput.DOWN, 0, 0, 200));
+        assertTrue(input.offer(TouchInput.CANCEL, 0, 0, 300));
+        assertFalse(input.offer(TouchInput.MOVE, 0, 0, 300));
+
+        assertEquals(moves + 4, input.drain(recorder));
+        assertEquals(TouchInput.CANCEL, (int) actions.get(actions.size() - 1));
+        assertTrue(input.offer(TouchInput.MOVE, 0, 0, 400));
+    }
+
+    @Test
+    public void fullRing_dropsEverything() {
+        TouchInput input = new TouchInput(64);
+        for (int i = 0; i < 64; i++) {
+            assertTrue(input.offer(TouchInput.UP, 0, 0, i));
+        }
+        assertFalse(input.offer(TouchInput.DOWN, 0, 0, 64));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.processcommander;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.*;
+
+@RunWith(RobolectricTestRunner.class)
+public class TweenEngineTest {
+    private static Process processAt(float x, float y) {
+        Process process = new Process("Test", 5, 10000, 100);
+        process.setPosition(x, y);
+        return process;
+    }
+
+    // Position after the given time, stepping at the given rate
+    private static float xAfter(float seconds, float hz) {
+        TweenEngine tweens = new TweenEngine();
+        Process process = processAt(0, 0);
+        tweens.animateTo(process, 100, 0);
+        int steps = Math.round(seconds * hz);
+        for (int i = 0; i < steps; i++) {
+            tweens.update(1f / hz);
+        }
+        return process.getX();
+    }
+
+    @Test
+    public void motion_isTheSameAtAnyFrameRate() {
+        float at30 = xAfter(0.1f, 30);
+        assertEquals(at30, xAfter(0.1f, 60), 0.01f);
+        assertEquals(at30, xAfter(0.1f, 120), 0.01f);
+        assertEquals(100 * Easing.EASE_OUT_CUBIC.apply(0.1f / TweenEngine.DEFAULT_DURATION_SECONDS), at30, 0.01f);
+    }
+
+    @Test
+    public void largeStep_landsExactlyWithoutOvershoot() {
+        TweenEngine tweens = new TweenEngine();
+        Process process = processAt(0, 0);
+        tweens.animateTo(process, 100, 50);
+        tweens.update(0.1f);
+        assertTrue(process.getX() < 100);
+        tweens.update(0.1f);
+        tweens.update(0.1f);
+        assertEquals(100, process.getX(), 0f);
+        assertEquals(50, process.getY(), 0f);
+        assertFalse(tweens.isAnimating());
+    }
+
+    @Test
+    public void onlyMovingProcessesAreTracked() {
+        TweenEngine tweens = new TweenEngine();
+        Process settled = processAt(10, 10);
+        Process moving = processAt(0, 0);
+        tweens.animateTo(settled, 10, 10);
+        tweens.animateTo(moving, 50, 50);
+        assertEquals(1, tweens.getActiveCount());
+
+        // Retargeting mid-flight reuses the tween and starts from where the card is
+        tweens.update(0.1f);
+        float midX = moving.getX();
+        tweens.animateTo(moving, 0, 0);
+        assertEquals(1, tweens.getActiveCount());
+        tweens.update(0.001f);
+        assertTrue(moving.getX() <= midX);
+    }
+
+    @Test
+    public void dragging_takesOverFromTheTween() {
+        TweenEngine tweens = new TweenEngine();
+        Process process = processAt(0, 0);
+        tweens.animateTo(process, 100, 0);
+        process.setDragging(true);
+        process.setPosition(42, 42);
+        tweens.update(0.1f);
+        assertEquals(42, process.getX(), 0f);
+        assertFalse(tweens.isAnimating());
+    }
+
+    @Test
+    public void cancellingOneTween_leavesTheOthersOnCourse() {
+        TweenEngine tweens = new TweenEngine();
+        Process[] processes = new Process[5];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = processAt(0, 0);
+            tweens.animateTo(processes[i], 100, i * 10);
+        }
+        tweens.cancel(processes[1]);
+        tweens.finish(processes[3]);
+        assertEquals(100, processes[3].getX(), 0f);
+        assertEquals(3, tweens.getActiveCount());
+
+        tweens.update(1f);
+        assertEquals(0, processes[1].getX(), 0f); // Stopped where it was
+        for (int i : new int[] {0, 2, 4}) {
+            assertEquals(100, processes[i].getX(), 0f);
+            assertEquals(i * 10, processes[i].getY(), 0f);
+        }
+        assertFalse(tweens.isAnimating());
+    }
+}